@@ -0,0 +1,81 @@
+package org.phc.templatejavabe.benchmark;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.phc.templatejavabe.domain.service.IdGeneratorService;
+
+/**
+ * Id generation per call: the monotonic ULID generator against the previous StringBuilder/SecureRandom
+ * encoder and the UUID-substring ids Group/Interval used, single-threaded and under 8-thread contention.
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="IdGeneratorBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+    private static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final IdGeneratorService generator = new IdGeneratorService();
+
+    @Benchmark
+    public String monotonicUlid() {
+        return generator.generateId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String monotonicUlidContended() {
+        return generator.generateId();
+    }
+
+    @Benchmark
+    public String previousUlid() {
+        return previousGenerateId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String previousUlidContended() {
+        return previousGenerateId();
+    }
+
+    @Benchmark
+    public String uuidSubstring() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 26);
+    }
+
+    /**
+     * IdGeneratorService.generateId as it was before the monotonic rewrite
+     */
+    private static String previousGenerateId() {
+        StringBuilder ulid = new StringBuilder();
+        long timestamp = Instant.now().toEpochMilli();
+        for (int i = 0; i < 10; i++) {
+            ulid.insert(0, ALPHABET.charAt((int) (timestamp % 32)));
+            timestamp /= 32;
+        }
+        for (int i = 0; i < 16; i++) {
+            ulid.append(ALPHABET.charAt(RANDOM.nextInt(32)));
+        }
+        return ulid.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package org.phc.templatejavabe.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.io.Encoders;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.phc.templatejavabe.infrastructure.cache.VerifiedTokenCache;
+import org.phc.templatejavabe.infrastructure.config.JwtProperties;
+import org.phc.templatejavabe.infrastructure.config.JwtUtil;
+
+/**
+ * Access token signing at login/refresh and verification on every authenticated request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+    private static final Map<String, Object> CLAIMS = Map.of("email", "user@example.com", "name", "User");
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache cache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        JwtProperties props = new JwtProperties();
+        props.setSecret(Encoders.BASE64.encode(secret));
+        props.setAccessTtlSeconds(900);
+        jwtUtil = new JwtUtil(props);
+        cache = new VerifiedTokenCache(jwtUtil, props);
+        token = jwtUtil.generateAccessToken("user-1", CLAIMS);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken("user-1", CLAIMS);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtUtil.parseClaims(token);
+    }
+
+    @Benchmark
+    public String verifyCached() {
+        return cache.verify(token);
+    }
+}
@@ -0,0 +1,76 @@
+package org.phc.templatejavabe.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.phc.templatejavabe.application.mapper.ObjectiveMapper;
+import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.domain.model.ObjectiveStatus;
+import org.phc.templatejavabe.domain.model.ObjectiveType;
+import org.phc.templatejavabe.presentation.response.objective.ObjectiveResponse;
+
+/**
+ * Entity → response mapping, paid once per objective on every list endpoint
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectiveMapperBenchmark {
+    private static final String GROUPS = "01J9ZQ4X5G2W8K3M7N6P1R0T9V, 01J9ZQ4X5G2W8K3M7N6P1R0T9W,01J9ZQ4X5G2W8K3M7N6P1R0T9X";
+
+    private Objective objective;
+    private MethodHandle parseGroups;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        objective = new Objective();
+        objective.setId("01J9ZQ4X5G2W8K3M7N6P1R0T9A");
+        objective.setTitle("Grow monthly active workspaces");
+        objective.setDescription("Company objective for the quarter");
+        objective.setOwnerId("01J9ZQ4X5G2W8K3M7N6P1R0T9B");
+        objective.setWorkspaceId("01J9ZQ4X5G2W8K3M7N6P1R0T9C");
+        objective.setQuarter("2025-Q3");
+        objective.setStatus(ObjectiveStatus.ON_TRACK);
+        objective.setType(ObjectiveType.COMPANY);
+        objective.setProgress(BigDecimal.valueOf(72.5));
+        objective.setWeight(BigDecimal.ONE);
+        objective.setGroups(GROUPS);
+        objective.setStartDate(LocalDate.of(2025, 7, 1));
+        objective.setEndDate(LocalDate.of(2025, 9, 30));
+        objective.setCreatedDate(Instant.parse("2025-07-01T08:00:00Z"));
+        objective.setLastModifiedDate(Instant.parse("2025-08-15T10:30:00Z"));
+
+        // parseGroups is private to the mapper; a private lookup avoids widening it for the benchmark
+        parseGroups = MethodHandles.privateLookupIn(ObjectiveMapper.class, MethodHandles.lookup())
+            .findStatic(ObjectiveMapper.class, "parseGroups", MethodType.methodType(List.class, String.class));
+    }
+
+    @Benchmark
+    public ObjectiveResponse toResponse() {
+        return ObjectiveMapper.toResponse(objective);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<String> parseGroups() throws Throwable {
+        return (List<String>) parseGroups.invokeExact(GROUPS);
+    }
+}
@@ -0,0 +1,141 @@
+package org.phc.templatejavabe.benchmark;
+
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.phc.templatejavabe.domain.model.KeyResult;
+import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.domain.service.KeyResultService;
+import org.phc.templatejavabe.domain.service.ObjectiveService;
+import org.phc.templatejavabe.domain.service.ProgressRollupService;
+import org.phc.templatejavabe.infrastructure.config.ProgressRollupProperties;
+import org.phc.templatejavabe.infrastructure.config.ProgressStreamProperties;
+import org.phc.templatejavabe.infrastructure.repository.KeyResultRepository;
+import org.phc.templatejavabe.infrastructure.repository.ObjectiveRepository;
+import org.phc.templatejavabe.infrastructure.stream.ProgressStreamHub;
+
+/**
+ * Progress and status calculation of ObjectiveService and KeyResultService.
+ *
+ * <p>Repositories are in-memory stubs returning {@code count} key results, so the numbers cover the
+ * Java side (BigDecimal roll-up, quarter parsing) and not the database round trips.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectiveProgressBenchmark {
+    private ObjectiveService objectiveService;
+    private KeyResultService keyResultService;
+    private Objective objective;
+    private Objective nearDeadline;
+    private KeyResult keyResult;
+
+    @Setup
+    public void setUp() {
+        objectiveService = objectiveService(List.of());
+        keyResultService = new KeyResultService(null, null, null, null, null, null, null);
+        objective = objective("obj-1", "2025-Q1", BigDecimal.valueOf(55));
+        LocalDate today = LocalDate.now();
+        nearDeadline = objective("obj-2", today.getYear() + "-Q" + ((today.getMonthValue() - 1) / 3 + 1),
+            BigDecimal.valueOf(55));
+        keyResult = keyResult("obj-1", 37, 120, null);
+    }
+
+    @Benchmark
+    public BigDecimal calculateProgress(KeyResults state) {
+        state.objectiveService.calculateProgress(state.objective);
+        return state.objective.getProgress();
+    }
+
+    @Benchmark
+    public Object updateStatus() {
+        objectiveService.updateStatus(objective);
+        return objective.getStatus();
+    }
+
+    @Benchmark
+    public Object updateStatusCurrentQuarter() {
+        objectiveService.updateStatus(nearDeadline);
+        return nearDeadline.getStatus();
+    }
+
+    @Benchmark
+    public BigDecimal calculateProgressPercentage() {
+        return keyResultService.calculateProgressPercentage(keyResult);
+    }
+
+    @State(Scope.Benchmark)
+    public static class KeyResults {
+        @Param({"1", "5"})
+        public int count;
+
+        private ObjectiveService objectiveService;
+        private Objective objective;
+
+        @Setup
+        public void setUp() {
+            List<KeyResult> krs = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                krs.add(keyResult("obj-1", 10 + i * 17, 100, i % 2 == 0 ? null : BigDecimal.valueOf(2)));
+            }
+            objectiveService = objectiveService(krs);
+            objective = objective("obj-1", "2025-Q1", null);
+        }
+    }
+
+    private static ObjectiveService objectiveService(List<KeyResult> keyResults) {
+        KeyResultRepository keyResultRepository = stub(KeyResultRepository.class, Map.of("findByObjectiveId", keyResults));
+        ObjectiveRepository objectiveRepository = stub(ObjectiveRepository.class, Map.of("setProgressSums", 1));
+        // No stream subscribers, as in most write paths
+        ProgressStreamHub hub = new ProgressStreamHub(objectiveRepository, new ProgressStreamProperties());
+        EntityManager entityManager = stub(EntityManager.class, Map.of("contains", false));
+        ProgressRollupService rollup = new ProgressRollupService(objectiveRepository, keyResultRepository,
+            entityManager, new ProgressRollupProperties(), null, hub);
+        return new ObjectiveService(objectiveRepository, keyResultRepository, null, null, rollup, null, null, null, null);
+    }
+
+    private static Objective objective(String id, String quarter, BigDecimal progress) {
+        Objective o = new Objective();
+        o.setId(id);
+        o.setQuarter(quarter);
+        o.setProgress(progress);
+        return o;
+    }
+
+    private static KeyResult keyResult(String objectiveId, int current, int target, BigDecimal weight) {
+        KeyResult kr = new KeyResult();
+        kr.setObjectiveId(objectiveId);
+        kr.setCurrentValue(BigDecimal.valueOf(current));
+        kr.setTargetValue(BigDecimal.valueOf(target));
+        kr.setWeight(weight);
+        return kr;
+    }
+
+    /**
+     * Repository stand-in answering by method name; everything else returns null
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, Map<String, Object> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> answers.get(method.getName()));
+    }
+}
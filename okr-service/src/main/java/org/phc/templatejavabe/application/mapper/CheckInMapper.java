@@ -1,7 +1,9 @@
 package org.phc.templatejavabe.application.mapper;
 
 import org.phc.templatejavabe.domain.model.CheckIn;
+import org.phc.templatejavabe.domain.model.CheckInBatchReceipt;
 import org.phc.templatejavabe.presentation.request.checkin.CreateCheckInRequest;
+import org.phc.templatejavabe.presentation.response.checkin.CheckInBatchResponse;
 import org.phc.templatejavabe.presentation.response.checkin.CheckInResponse;
 
 public class CheckInMapper {
@@ -13,6 +15,15 @@ public class CheckInMapper {
         return c;
     }
 
+    public static CheckInBatchResponse toResponse(CheckInBatchReceipt receipt) {
+        return new CheckInBatchResponse(
+            receipt.ticket(),
+            receipt.state().name(),
+            receipt.checkInIds(),
+            receipt.error()
+        );
+    }
+
     public static CheckInResponse toResponse(CheckIn c) {
         return new CheckInResponse(
             c.getId(), 
@@ -1,11 +1,11 @@
 package org.phc.templatejavabe.application.mapper;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.domain.model.ObjectiveChildren;
 import org.phc.templatejavabe.domain.model.ObjectiveStatus;
 import org.phc.templatejavabe.domain.model.ObjectiveType;
-import org.phc.templatejavabe.domain.service.KeyResultService;
-import org.phc.templatejavabe.domain.service.ObjectiveService;
 import org.phc.templatejavabe.presentation.request.objective.CreateObjectiveRequest;
 import org.phc.templatejavabe.presentation.request.objective.UpdateObjectiveRequest;
 import org.phc.templatejavabe.presentation.response.objective.ObjectiveResponse;
@@ -118,14 +118,14 @@ public class ObjectiveMapper {
         );
     }
 
-    public static ObjectiveResponse toResponseWithChildren(Objective o, KeyResultService keyResultService, ObjectiveService objectiveService) {
-        // Load key results
-        List<KeyResultResponse> keyResults = keyResultService.findByObjectiveId(o.getId()).stream()
+    public static ObjectiveResponse toResponseWithChildren(Objective o, ObjectiveChildren children, Instant lastCheckInDate) {
+        // Key results, pre-loaded for the whole batch
+        List<KeyResultResponse> keyResults = children.keyResultsOf(o.getId()).stream()
             .map(KeyResultMapper::toResponse)
             .collect(Collectors.toList());
 
-        // Load KPIs (objectives with type=KPI and parentId=objectiveId)
-        List<ObjectiveResponse> kpis = objectiveService.findKPIsByParentId(o.getId()).stream()
+        // KPIs (objectives with type=KPI and parentId=objectiveId), pre-loaded for the whole batch
+        List<ObjectiveResponse> kpis = children.kpisOf(o.getId()).stream()
             .map(kpi -> toResponse(kpi)) // Use simple toResponse for KPIs to avoid infinite recursion
             .collect(Collectors.toList());
 
@@ -148,7 +148,7 @@ public class ObjectiveMapper {
             o.getStakeholders(),
             o.getStartDate() != null ? o.getStartDate().toString() : null,
             o.getEndDate() != null ? o.getEndDate().toString() : null,
-            null, // lastCheckInDate - will be calculated separately
+            lastCheckInDate,
             0, // commentsCount - will be calculated separately
             keyResults,
             kpis
@@ -0,0 +1,59 @@
+package org.phc.templatejavabe.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * One entry of the activity feed. Rows are only ever inserted (by ActivityEventBatchWriter) and
+ * removed a whole month partition at a time.
+ */
+@Entity
+@Immutable
+@Table(name = "activity_events")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityEvent {
+    @Id
+    @Column(name = "id", length = 26, nullable = false)
+    private String id;
+
+    @Column(name = "workspace_id", length = 26)
+    private String workspaceId;
+
+    @Column(name = "actor_id", length = 64, nullable = false)
+    private String actorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 32, nullable = false)
+    private ActivityType type;
+
+    /**
+     * Id of the objective, key result, check-in or comment the event is about
+     */
+    @Column(name = "subject_id", length = 26)
+    private String subjectId;
+
+    @Column(name = "objective_id", length = 26)
+    private String objectiveId;
+
+    @Column(name = "description", length = 512)
+    private String description;
+
+    /**
+     * Held as UTC wall-clock time, the zone the monthly partitions are cut in
+     */
+    @Convert(converter = UtcInstantConverter.class)
+    @Column(name = "created_date", nullable = false)
+    private Instant createdDate;
+}
@@ -0,0 +1,15 @@
+package org.phc.templatejavabe.domain.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One keyset page of the activity feed, newest first, with the display names of its actors;
+ * {@code nextCursor} is null on the last page
+ */
+public record ActivityEventSlice(List<ActivityEvent> events, Map<String, String> actorNames, String nextCursor) {
+    public ActivityEventSlice {
+        events = List.copyOf(events);
+        actorNames = Map.copyOf(actorNames);
+    }
+}
@@ -0,0 +1,38 @@
+package org.phc.templatejavabe.domain.model;
+
+import java.util.Locale;
+
+public enum ActivityType {
+    OBJECTIVE_CREATED("New objective created"),
+    OBJECTIVE_UPDATED("Objective updated"),
+    KEY_RESULT_CREATED("Key result added"),
+    KEY_RESULT_UPDATED("Key result updated"),
+    CHECK_IN("Progress check-in"),
+    COMMENT("Comment added");
+
+    private final String title;
+
+    ActivityType(String title) {
+        this.title = title;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Name used by the API, e.g. {@code objective_created}
+     */
+    public String code() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static ActivityType fromCode(String code) {
+        for (ActivityType type : values()) {
+            if (type.code().equals(code)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Loại hoạt động không hợp lệ: " + code);
+    }
+}
@@ -0,0 +1,7 @@
+package org.phc.templatejavabe.domain.model;
+
+/**
+ * One parent → child alignment reached while walking down from a root objective.
+ * {@code depth} is 1 for the root's direct children.
+ */
+public record AlignmentEdge(String parentId, String childId, int depth) {}
@@ -0,0 +1,8 @@
+package org.phc.templatejavabe.domain.model;
+
+import java.util.List;
+
+/**
+ * Descendants of an objective as a flat edge list; {@code truncated} when a depth or node limit cut it short
+ */
+public record AlignmentTree(String rootId, List<AlignmentEdge> edges, boolean truncated) {}
@@ -0,0 +1,14 @@
+package org.phc.templatejavabe.domain.model;
+
+import java.util.List;
+
+/**
+ * Outcome of one batch submitted to the check-in ingestion queue
+ */
+public record CheckInBatchReceipt(String ticket, State state, List<String> checkInIds, String error) {
+    public enum State { PENDING, DURABLE, FAILED }
+
+    public CheckInBatchReceipt {
+        checkInIds = List.copyOf(checkInIds);
+    }
+}
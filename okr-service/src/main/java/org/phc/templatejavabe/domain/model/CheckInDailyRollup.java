@@ -0,0 +1,27 @@
+package org.phc.templatejavabe.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Number of check-ins recorded per workspace and day, maintained incrementally by the check-in write path.
+ */
+@Entity
+@Table(name = "check_in_daily_rollup")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckInDailyRollup {
+    @EmbeddedId
+    private CheckInDailyRollupId id;
+
+    @Column(name = "check_in_count", nullable = false)
+    private int checkInCount;
+}
@@ -0,0 +1,24 @@
+package org.phc.templatejavabe.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CheckInDailyRollupId implements Serializable {
+    @Column(name = "workspace_id", length = 26, nullable = false)
+    private String workspaceId;
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+}
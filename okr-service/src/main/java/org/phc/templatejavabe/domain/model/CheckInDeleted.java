@@ -0,0 +1,15 @@
+package org.phc.templatejavabe.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * A check-in was deleted; {@code currentValue} is the key result value restored from the remaining check-ins
+ */
+public record CheckInDeleted(String checkInId, String keyResultId, String objectiveId, String workspaceId,
+                             String keyResultTitle, BigDecimal currentValue, String unit) implements DomainEvent {
+
+    public static CheckInDeleted of(KeyResult keyResult, CheckIn checkIn, String workspaceId) {
+        return new CheckInDeleted(checkIn.getId(), keyResult.getId(), keyResult.getObjectiveId(), workspaceId,
+            keyResult.getTitle(), keyResult.getCurrentValue(), keyResult.getUnit());
+    }
+}
@@ -0,0 +1,21 @@
+package org.phc.templatejavabe.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * A check-in was created, or edited when {@code updated}; carries what the feed shows so subscribers need not
+ * load the key result
+ */
+public record CheckInRecorded(String checkInId, String keyResultId, String objectiveId, String workspaceId,
+                              String keyResultTitle, BigDecimal value, String unit, boolean updated)
+    implements DomainEvent {
+
+    public static CheckInRecorded of(KeyResult keyResult, CheckIn checkIn, String workspaceId) {
+        return of(keyResult, checkIn, workspaceId, false);
+    }
+
+    public static CheckInRecorded of(KeyResult keyResult, CheckIn checkIn, String workspaceId, boolean updated) {
+        return new CheckInRecorded(checkIn.getId(), keyResult.getId(), keyResult.getObjectiveId(), workspaceId,
+            keyResult.getTitle(), checkIn.getValue(), keyResult.getUnit(), updated);
+    }
+}
@@ -0,0 +1,8 @@
+package org.phc.templatejavabe.domain.model;
+
+/**
+ * A comment was added to an objective or one of its key results
+ */
+public record CommentAdded(String commentId, String objectiveId, String workspaceId, String content)
+    implements DomainEvent {
+}
@@ -0,0 +1,30 @@
+package org.phc.templatejavabe.domain.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-computed dashboard figures for one set of objectives (typically a workspace and quarter).
+ * Immutable so it can be shared between requests by the snapshot cache.
+ */
+public record DashboardSnapshot(
+    int totalObjectives,
+    BigDecimal averageProgress,
+    Map<ObjectiveStatus, Long> statusCounts,
+    List<Performer> topPerformers
+) {
+    public DashboardSnapshot {
+        statusCounts = Map.copyOf(statusCounts);
+        topPerformers = List.copyOf(topPerformers);
+    }
+
+    public record Performer(
+        String id,
+        String title,
+        BigDecimal progress,
+        ObjectiveStatus status,
+        String ownerId,
+        String teamId
+    ) {}
+}
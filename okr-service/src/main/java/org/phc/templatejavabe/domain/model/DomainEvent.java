@@ -0,0 +1,18 @@
+package org.phc.templatejavabe.domain.model;
+
+/**
+ * Something that happened to an aggregate, published through the outbox in the transaction that made it
+ * happen and delivered to subscribers once committed. Stored as JSON under its simple class name.
+ */
+public sealed interface DomainEvent
+    permits CheckInRecorded, CheckInDeleted, KeyResultChanged, ObjectiveChanged, ObjectiveMoved, ObjectiveProgressChanged, CommentAdded {
+
+    /**
+     * Workspace the event belongs to, null when unknown
+     */
+    String workspaceId();
+
+    default String typeName() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,10 @@
+package org.phc.templatejavabe.domain.model;
+
+import java.time.Instant;
+
+/**
+ * A domain event as delivered from the outbox. {@code id} and {@code occurredAt} are stable across
+ * redeliveries, so subscribers can use them to make handling idempotent.
+ */
+public record EventEnvelope(String id, Instant occurredAt, String actorId, int attempt, DomainEvent event) {
+}
@@ -6,7 +6,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -71,6 +73,15 @@ public class KeyResult {
     @Column(name = "last_modified_date")
     private Instant lastModifiedDate;
 
+    // Contribution last folded into the objective's progress sums; captured on load, refreshed by ProgressRollupService
+    @Transient
+    private ProgressContribution rolledUp;
+
+    @PostLoad
+    void captureRolledUp() {
+        this.rolledUp = ProgressContribution.of(this);
+    }
+
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
     public String getObjectiveId() { return objectiveId; }
@@ -95,6 +106,8 @@ public class KeyResult {
     public void setLastModifiedBy(String lastModifiedBy) { this.lastModifiedBy = lastModifiedBy; }
     public Instant getLastModifiedDate() { return lastModifiedDate; }
     public void setLastModifiedDate(Instant lastModifiedDate) { this.lastModifiedDate = lastModifiedDate; }
+    public ProgressContribution getRolledUp() { return rolledUp; }
+    public void setRolledUp(ProgressContribution rolledUp) { this.rolledUp = rolledUp; }
 }
 
 
@@ -0,0 +1,9 @@
+package org.phc.templatejavabe.domain.model;
+
+/**
+ * A key result was created ({@code created}) or edited. Current values set by check-ins are
+ * published as {@link CheckInRecorded} instead.
+ */
+public record KeyResultChanged(String keyResultId, String objectiveId, String workspaceId, String title,
+                               boolean created) implements DomainEvent {
+}
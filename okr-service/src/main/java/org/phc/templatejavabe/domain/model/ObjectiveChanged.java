@@ -0,0 +1,16 @@
+package org.phc.templatejavabe.domain.model;
+
+/**
+ * An objective was created ({@code created}) or edited
+ */
+public record ObjectiveChanged(String objectiveId, String workspaceId, String title, boolean created)
+    implements DomainEvent {
+
+    public static ObjectiveChanged created(Objective objective) {
+        return new ObjectiveChanged(objective.getId(), objective.getWorkspaceId(), objective.getTitle(), true);
+    }
+
+    public static ObjectiveChanged updated(Objective objective) {
+        return new ObjectiveChanged(objective.getId(), objective.getWorkspaceId(), objective.getTitle(), false);
+    }
+}
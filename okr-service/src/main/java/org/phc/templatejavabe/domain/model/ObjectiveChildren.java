@@ -0,0 +1,26 @@
+package org.phc.templatejavabe.domain.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Key results and KPI children of a batch of objectives, keyed by parent objective id.
+ * Loaded in one query per child kind, whatever the batch size.
+ */
+public record ObjectiveChildren(
+    Map<String, List<KeyResult>> keyResults,
+    Map<String, List<Objective>> kpis
+) {
+    public ObjectiveChildren {
+        keyResults = Map.copyOf(keyResults);
+        kpis = Map.copyOf(kpis);
+    }
+
+    public List<KeyResult> keyResultsOf(String objectiveId) {
+        return keyResults.getOrDefault(objectiveId, List.of());
+    }
+
+    public List<Objective> kpisOf(String objectiveId) {
+        return kpis.getOrDefault(objectiveId, List.of());
+    }
+}
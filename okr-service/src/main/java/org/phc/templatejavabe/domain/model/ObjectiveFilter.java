@@ -0,0 +1,26 @@
+package org.phc.templatejavabe.domain.model;
+
+/**
+ * Optional equality filters of the objective list; blank values mean "any"
+ */
+public record ObjectiveFilter(
+    String workspaceId,
+    String quarter,
+    String teamId,
+    String ownerId
+) {
+    public ObjectiveFilter {
+        workspaceId = blankToNull(workspaceId);
+        quarter = blankToNull(quarter);
+        teamId = blankToNull(teamId);
+        ownerId = blankToNull(ownerId);
+    }
+
+    public boolean isEmpty() {
+        return workspaceId == null && quarter == null && teamId == null && ownerId == null;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,8 @@
+package org.phc.templatejavabe.domain.model;
+
+/**
+ * An objective moved to another team or workspace; {@code workspaceId} is where it is now
+ */
+public record ObjectiveMoved(String objectiveId, String title, String fromWorkspaceId, String workspaceId,
+                             String fromTeamId, String teamId) implements DomainEvent {
+}
@@ -0,0 +1,26 @@
+package org.phc.templatejavabe.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Progress and status of one objective as pushed to live progress streams
+ */
+public record ObjectiveProgress(
+    String objectiveId,
+    String workspaceId,
+    BigDecimal progress,
+    ObjectiveStatus status
+) {
+    /**
+     * Whether a client holding {@code previous} would render this objective differently
+     */
+    public boolean differsFrom(ObjectiveProgress previous) {
+        if (previous == null || status != previous.status) {
+            return true;
+        }
+        if (progress == null || previous.progress == null) {
+            return progress != previous.progress;
+        }
+        return progress.compareTo(previous.progress) != 0;
+    }
+}
@@ -0,0 +1,18 @@
+package org.phc.templatejavabe.domain.model;
+
+import java.util.List;
+
+/**
+ * Progress of these objectives changed and their ancestors still have to be refreshed
+ * (hierarchical roll-up with {@code app.progress.rollup.async-propagation})
+ */
+public record ObjectiveProgressChanged(List<String> objectiveIds) implements DomainEvent {
+    public ObjectiveProgressChanged {
+        objectiveIds = List.copyOf(objectiveIds);
+    }
+
+    @Override
+    public String workspaceId() {
+        return null;
+    }
+}
@@ -0,0 +1,12 @@
+package org.phc.templatejavabe.domain.model;
+
+import java.util.List;
+
+/**
+ * One keyset page of objectives; {@code nextCursor} is null on the last page
+ */
+public record ObjectiveSlice(List<Objective> objectives, String nextCursor) {
+    public ObjectiveSlice {
+        objectives = List.copyOf(objectives);
+    }
+}
@@ -0,0 +1,52 @@
+package org.phc.templatejavabe.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * What one key result adds to its objective's progress sums: {@code progress * weight} and {@code weight}.
+ *
+ * <p>This is the single progress formula of the system. A key result's progress is
+ * {@code current / target * 100} capped at 100 (0 without a positive target), and an objective's
+ * progress is the weight-averaged progress of its key results, with a missing weight counting as 1.</p>
+ */
+public record ProgressContribution(String objectiveId, BigDecimal weightedProgress, BigDecimal weight) {
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    public static ProgressContribution of(KeyResult kr) {
+        return of(kr.getObjectiveId(), kr.getCurrentValue(), kr.getTargetValue(), kr.getWeight());
+    }
+
+    public static ProgressContribution of(String objectiveId, BigDecimal currentValue, BigDecimal targetValue,
+                                          BigDecimal weight) {
+        BigDecimal effectiveWeight = weightOf(weight);
+        return new ProgressContribution(objectiveId,
+            progressOf(currentValue, targetValue).multiply(effectiveWeight), effectiveWeight);
+    }
+
+    /**
+     * Key result progress percentage, 0..100 with 4 decimals before scaling
+     */
+    public static BigDecimal progressOf(BigDecimal currentValue, BigDecimal targetValue) {
+        if (targetValue == null || targetValue.signum() <= 0 || currentValue == null) {
+            return BigDecimal.ZERO;
+        }
+        return currentValue.divide(targetValue, 4, RoundingMode.HALF_UP)
+            .multiply(HUNDRED)
+            .min(HUNDRED);
+    }
+
+    public static BigDecimal weightOf(BigDecimal weight) {
+        return weight != null ? weight : BigDecimal.ONE;
+    }
+
+    /**
+     * Objective progress from its running sums, rounded to the 2 decimals of objectives.progress
+     */
+    public static BigDecimal average(BigDecimal weightedProgressSum, BigDecimal totalWeight) {
+        if (totalWeight.signum() <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return weightedProgressSum.divide(totalWeight, 2, RoundingMode.HALF_UP);
+    }
+}
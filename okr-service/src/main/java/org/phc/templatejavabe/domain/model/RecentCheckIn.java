@@ -0,0 +1,37 @@
+package org.phc.templatejavabe.domain.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Immutable copy of a check-in held by the recent check-in feed
+ */
+public record RecentCheckIn(
+    String id,
+    String keyResultId,
+    BigDecimal value,
+    String note,
+    String createdBy,
+    Instant createdDate,
+    Instant lastModifiedDate
+) {
+    public static RecentCheckIn from(CheckIn c) {
+        return new RecentCheckIn(c.getId(), c.getKeyResultId(), c.getValue(), c.getNote(),
+            c.getCreatedBy(), c.getCreatedDate(), c.getLastModifiedDate());
+    }
+
+    /**
+     * Detached entity copy, safe to hand to mappers
+     */
+    public CheckIn toCheckIn() {
+        CheckIn c = new CheckIn();
+        c.setId(id);
+        c.setKeyResultId(keyResultId);
+        c.setValue(value);
+        c.setNote(note);
+        c.setCreatedBy(createdBy);
+        c.setCreatedDate(createdDate);
+        c.setLastModifiedDate(lastModifiedDate);
+        return c;
+    }
+}
@@ -0,0 +1,25 @@
+package org.phc.templatejavabe.domain.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Stores an Instant in a {@code timestamp} (without time zone) column as its UTC wall-clock time,
+ * whatever the JVM or session time zone
+ */
+@Converter
+public class UtcInstantConverter implements AttributeConverter<Instant, LocalDateTime> {
+
+    @Override
+    public LocalDateTime convertToDatabaseColumn(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
+    }
+
+    @Override
+    public Instant convertToEntityAttribute(LocalDateTime utc) {
+        return utc != null ? utc.toInstant(ZoneOffset.UTC) : null;
+    }
+}
@@ -0,0 +1,219 @@
+package org.phc.templatejavabe.domain.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.phc.templatejavabe.domain.model.ActivityEvent;
+import org.phc.templatejavabe.domain.model.ActivityEventSlice;
+import org.phc.templatejavabe.domain.model.ActivityType;
+import org.phc.templatejavabe.domain.model.CheckInDeleted;
+import org.phc.templatejavabe.domain.model.CheckInRecorded;
+import org.phc.templatejavabe.domain.model.CommentAdded;
+import org.phc.templatejavabe.domain.model.DomainEvent;
+import org.phc.templatejavabe.domain.model.EventEnvelope;
+import org.phc.templatejavabe.domain.model.KeyResultChanged;
+import org.phc.templatejavabe.domain.model.ObjectiveChanged;
+import org.phc.templatejavabe.domain.model.ObjectiveMoved;
+import org.phc.templatejavabe.domain.model.User;
+import org.phc.templatejavabe.domain.repository.UserRepository;
+import org.phc.templatejavabe.infrastructure.config.ActivityEventProperties;
+import org.phc.templatejavabe.infrastructure.repository.ActivityEventBatchWriter;
+import org.phc.templatejavabe.infrastructure.repository.ActivityEventPartitions;
+import org.phc.templatejavabe.infrastructure.repository.ActivityEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Activity feed: a {@link DomainEventSubscriber} that turns committed domain events into activity_events rows.
+ *
+ * <p>Rows reuse the outbox event's id and time, so a redelivered event hits the existing row and is skipped.</p>
+ */
+@Service
+public class ActivityEventService implements DomainEventSubscriber {
+    private static final Logger logger = LoggerFactory.getLogger(ActivityEventService.class);
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_DESCRIPTION_LENGTH = 512;
+    // Upper bound of the first page; later pages continue below the last row of the previous one
+    private static final Instant FIRST_PAGE_BEFORE = Instant.parse("9999-12-31T00:00:00Z");
+
+    private final ActivityEventRepository activityEventRepository;
+    private final ActivityEventBatchWriter activityEventBatchWriter;
+    private final ActivityEventPartitions activityEventPartitions;
+    private final UserRepository userRepository;
+    private final ActivityEventProperties props;
+
+    // Last month known to have a partition
+    private volatile YearMonth partitionedThrough;
+
+    public ActivityEventService(ActivityEventRepository activityEventRepository,
+                                ActivityEventBatchWriter activityEventBatchWriter,
+                                ActivityEventPartitions activityEventPartitions,
+                                UserRepository userRepository,
+                                ActivityEventProperties props) {
+        this.activityEventRepository = activityEventRepository;
+        this.activityEventBatchWriter = activityEventBatchWriter;
+        this.activityEventPartitions = activityEventPartitions;
+        this.userRepository = userRepository;
+        this.props = props;
+    }
+
+    @Override
+    public void onEvents(List<EventEnvelope> events) {
+        List<ActivityEvent> activity = events.stream()
+            .map(ActivityEventService::toActivity)
+            .filter(Objects::nonNull)
+            .toList();
+        if (activity.isEmpty()) {
+            return;
+        }
+        ensurePartitions();
+        activityEventBatchWriter.insertAll(activity);
+    }
+
+    /**
+     * Keyset page of a workspace's feed, or of the actor's own events when {@code workspaceId} is null,
+     * newest first. A null {@code type} matches every type.
+     */
+    public ActivityEventSlice findPage(String workspaceId, String actorId, ActivityType type, int limit, String cursor) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Instant beforeDate = FIRST_PAGE_BEFORE;
+        String beforeId = "";
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            beforeDate = Instant.parse(position[0]);
+            beforeId = position[1];
+        }
+        String typeName = type != null ? type.name() : null;
+
+        // One extra row tells whether another page exists
+        LocalDateTime before = LocalDateTime.ofInstant(beforeDate, ZoneOffset.UTC);
+        List<ActivityEvent> rows = workspaceId != null
+            ? activityEventRepository.findWorkspacePage(workspaceId, typeName, before, beforeId, pageSize + 1)
+            : activityEventRepository.findActorPage(actorId, typeName, before, beforeId, pageSize + 1);
+
+        List<ActivityEvent> page = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+        String nextCursor = rows.size() > pageSize ? encodeCursor(page.get(page.size() - 1)) : null;
+        return new ActivityEventSlice(page, actorNames(page), nextCursor);
+    }
+
+    /**
+     * Keep partitions-ahead months of partitions ready and drop months past retention, once per month.
+     * Months are UTC months, matching the UTC wall-clock time rows are stored with.
+     */
+    private void ensurePartitions() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        YearMonth through = current.plusMonths(props.getPartitionsAhead());
+        if (partitionedThrough != null && !through.isAfter(partitionedThrough)) {
+            return;
+        }
+        try {
+            activityEventPartitions.ensure(current, through);
+            if (props.getRetentionMonths() > 0) {
+                activityEventPartitions.dropBefore(current.minusMonths(props.getRetentionMonths()));
+            }
+            partitionedThrough = through;
+        } catch (RuntimeException e) {
+            // The batch still goes in; rows without a monthly partition land in the default one
+            logger.warn("Could not maintain activity partitions", e);
+        }
+    }
+
+    private Map<String, String> actorNames(List<ActivityEvent> events) {
+        List<String> actorIds = events.stream().map(ActivityEvent::getActorId).distinct().toList();
+        if (actorIds.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllById(actorIds).stream()
+            .collect(Collectors.toMap(User::getId, u -> u.getFullName() != null ? u.getFullName() : u.getEmail()));
+    }
+
+    /**
+     * Feed entry for an event, or null for events that are not shown in the feed
+     */
+    static ActivityEvent toActivity(EventEnvelope envelope) {
+        DomainEvent event = envelope.event();
+        if (event instanceof CheckInRecorded c) {
+            return activity(envelope, ActivityType.CHECK_IN, c.objectiveId(), c.checkInId(), describeCheckIn(c));
+        }
+        if (event instanceof CheckInDeleted d) {
+            return activity(envelope, ActivityType.CHECK_IN, d.objectiveId(), d.checkInId(),
+                "Removed a check-in of " + d.keyResultTitle() + ", back to "
+                    + describeValue(d.currentValue(), d.unit()));
+        }
+        if (event instanceof KeyResultChanged k) {
+            return k.created()
+                ? activity(envelope, ActivityType.KEY_RESULT_CREATED, k.objectiveId(), k.keyResultId(),
+                    "Added key result: " + k.title())
+                : activity(envelope, ActivityType.KEY_RESULT_UPDATED, k.objectiveId(), k.keyResultId(),
+                    "Updated key result: " + k.title());
+        }
+        if (event instanceof ObjectiveChanged o) {
+            return o.created()
+                ? activity(envelope, ActivityType.OBJECTIVE_CREATED, o.objectiveId(), o.objectiveId(),
+                    "Created objective: " + o.title())
+                : activity(envelope, ActivityType.OBJECTIVE_UPDATED, o.objectiveId(), o.objectiveId(),
+                    "Updated objective: " + o.title());
+        }
+        if (event instanceof ObjectiveMoved m) {
+            return activity(envelope, ActivityType.OBJECTIVE_UPDATED, m.objectiveId(), m.objectiveId(),
+                "Moved objective: " + m.title());
+        }
+        if (event instanceof CommentAdded c) {
+            return activity(envelope, ActivityType.COMMENT, c.objectiveId(), c.commentId(),
+                "Added comment: " + c.content());
+        }
+        return null;
+    }
+
+    private static ActivityEvent activity(EventEnvelope envelope, ActivityType type, String objectiveId,
+                                          String subjectId, String description) {
+        return new ActivityEvent(envelope.id(), envelope.event().workspaceId(), envelope.actorId(), type, subjectId,
+            objectiveId, truncate(description), envelope.occurredAt());
+    }
+
+    /**
+     * Feed text of a check-in, e.g. "Updated Reduce churn to 75 %", or "Corrected ..." for an edit
+     */
+    private static String describeCheckIn(CheckInRecorded checkIn) {
+        return (checkIn.updated() ? "Corrected " : "Updated ") + checkIn.keyResultTitle() + " to "
+            + describeValue(checkIn.value(), checkIn.unit());
+    }
+
+    private static String describeValue(BigDecimal value, String unit) {
+        String amount = value != null ? value.stripTrailingZeros().toPlainString() : "0";
+        return amount + (unit != null && !unit.isBlank() ? " " + unit : "");
+    }
+
+    private static String truncate(String description) {
+        return description != null && description.length() > MAX_DESCRIPTION_LENGTH
+            ? description.substring(0, MAX_DESCRIPTION_LENGTH) : description;
+    }
+
+    private static String encodeCursor(ActivityEvent last) {
+        String position = last.getCreatedDate() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+            if (position.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            Instant.parse(position[0]);
+            return position;
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -1,23 +1,42 @@
 package org.phc.templatejavabe.domain.service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.stream.Collectors;
+import org.phc.templatejavabe.domain.model.AlignmentEdge;
+import org.phc.templatejavabe.domain.model.AlignmentTree;
+import org.phc.templatejavabe.domain.model.Objective;
 import org.phc.templatejavabe.domain.model.ObjectiveAlignment;
 import org.phc.templatejavabe.domain.model.ObjectiveAlignmentId;
+import org.phc.templatejavabe.infrastructure.cache.AlignmentGraphIndex;
 import org.phc.templatejavabe.infrastructure.repository.ObjectiveAlignmentRepository;
+import org.phc.templatejavabe.infrastructure.repository.ObjectiveRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class AlignmentService {
-    private final ObjectiveAlignmentRepository repo;
+    private static final int MAX_TREE_DEPTH = 32;
+    private static final int MAX_TREE_NODES = 5000;
+    private static final int ROWS_PER_NODE = 4;
 
-    public AlignmentService(ObjectiveAlignmentRepository repo) {
+    private final ObjectiveAlignmentRepository repo;
+    private final ObjectiveRepository objectiveRepository;
+    private final AlignmentGraphIndex graphIndex;
+    private final ProgressRollupService progressRollupService;
+
+    public AlignmentService(ObjectiveAlignmentRepository repo,
+                            ObjectiveRepository objectiveRepository,
+                            AlignmentGraphIndex graphIndex,
+                            ProgressRollupService progressRollupService) {
         this.repo = repo;
+        this.objectiveRepository = objectiveRepository;
+        this.graphIndex = graphIndex;
+        this.progressRollupService = progressRollupService;
     }
 
     public List<ObjectiveAlignment> listParents(String parentObjectiveId) {
@@ -29,48 +48,87 @@ public class AlignmentService {
     }
 
     /**
-     * Get alignment tree starting from root objective
+     * Descendants of a root objective as a flat edge list, at most {@code maxDepth} levels and
+     * {@code maxNodes} distinct objectives. Served from the workspace index, else one recursive query.
      */
-    public List<Map<String, Object>> getAlignmentTree(String rootObjectiveId) {
-        List<ObjectiveAlignment> alignments = repo.findByIdParentObjectiveId(rootObjectiveId);
-        
-        return alignments.stream()
-            .map(alignment -> {
-                Map<String, Object> node = new HashMap<>();
-                node.put("parent_id", alignment.getId().getParentObjectiveId());
-                node.put("child_id", alignment.getId().getChildObjectiveId());
-                node.put("children", getAlignmentTree(alignment.getId().getChildObjectiveId()));
-                return node;
-            })
-            .collect(Collectors.toList());
+    public AlignmentTree getAlignmentTree(String rootObjectiveId, int maxDepth, int maxNodes) {
+        int depth = Math.max(1, Math.min(maxDepth, MAX_TREE_DEPTH));
+        int nodes = Math.max(1, Math.min(maxNodes, MAX_TREE_NODES));
+        // A node reachable over several paths yields several rows, so leave headroom over the node limit
+        int maxRows = nodes * ROWS_PER_NODE + 1;
+
+        String workspaceId = objectiveRepository.findById(rootObjectiveId)
+            .map(Objective::getWorkspaceId)
+            .orElse(null);
+        List<AlignmentEdge> rows = graphIndex.descendants(workspaceId, rootObjectiveId, depth, maxRows)
+            .orElseGet(() -> repo.findDescendantEdges(rootObjectiveId, depth, maxRows).stream()
+                .map(row -> new AlignmentEdge(row.getParentId(), row.getChildId(), row.getDepth()))
+                .collect(Collectors.toList()));
+        return limitNodes(rootObjectiveId, rows, nodes, rows.size() >= maxRows);
+    }
+
+    /**
+     * Keep the first (shallowest) occurrence of each edge until the node limit is reached
+     */
+    private AlignmentTree limitNodes(String rootObjectiveId, List<AlignmentEdge> rows, int maxNodes, boolean truncated) {
+        Set<String> seenEdges = new HashSet<>();
+        Set<String> seenNodes = new HashSet<>();
+        List<AlignmentEdge> edges = new ArrayList<>();
+        for (AlignmentEdge row : rows) {
+            if (!seenEdges.add(row.parentId() + '>' + row.childId())) {
+                continue;
+            }
+            if (!seenNodes.contains(row.childId()) && seenNodes.size() >= maxNodes) {
+                truncated = true;
+                continue;
+            }
+            seenNodes.add(row.childId());
+            edges.add(row);
+        }
+        return new AlignmentTree(rootObjectiveId, edges, truncated);
     }
 
     @Transactional
     public ObjectiveAlignment align(String parentObjectiveId, String childObjectiveId) {
-        // Validate no circular dependency
-        validateAlignment(parentObjectiveId, childObjectiveId);
+        // Looked up once for the cycle check and the index update
+        Map<String, String> workspaces = workspacesOf(parentObjectiveId, childObjectiveId);
+        validateAlignment(parentObjectiveId, childObjectiveId, workspaces.get(childObjectiveId));
         
         ObjectiveAlignment a = new ObjectiveAlignment();
         a.setId(new ObjectiveAlignmentId(parentObjectiveId, childObjectiveId));
-        return repo.save(a);
+        ObjectiveAlignment saved = repo.save(a);
+        
+        graphIndex.onAligned(parentObjectiveId, workspaces.get(parentObjectiveId),
+            childObjectiveId, workspaces.get(childObjectiveId));
+        progressRollupService.objectivesChanged(List.of(parentObjectiveId));
+        return saved;
     }
 
     @Transactional
     public void deleteAlignment(String parentObjectiveId, String childObjectiveId) {
         ObjectiveAlignmentId id = new ObjectiveAlignmentId(parentObjectiveId, childObjectiveId);
         repo.deleteById(id);
+        
+        Map<String, String> workspaces = workspacesOf(parentObjectiveId, childObjectiveId);
+        graphIndex.onUnaligned(parentObjectiveId, workspaces.get(parentObjectiveId),
+            childObjectiveId, workspaces.get(childObjectiveId));
+        progressRollupService.objectivesChanged(List.of(parentObjectiveId));
     }
 
     /**
      * Validate that alignment doesn't create circular dependency
      */
     public void validateAlignment(String parentObjectiveId, String childObjectiveId) {
+        validateAlignment(parentObjectiveId, childObjectiveId, workspacesOf(childObjectiveId).get(childObjectiveId));
+    }
+
+    private void validateAlignment(String parentObjectiveId, String childObjectiveId, String childWorkspaceId) {
         if (parentObjectiveId.equals(childObjectiveId)) {
             throw new IllegalArgumentException("Không thể align objective với chính nó");
         }
 
         // Check if child is already a parent of the proposed parent (circular dependency)
-        if (wouldCreateCircularDependency(parentObjectiveId, childObjectiveId)) {
+        if (wouldCreateCircularDependency(parentObjectiveId, childObjectiveId, childWorkspaceId)) {
             throw new IllegalArgumentException("Alignment này sẽ tạo ra circular dependency");
         }
     }
@@ -78,33 +136,18 @@ public class AlignmentService {
     /**
      * Check if adding this alignment would create a circular dependency
      */
-    private boolean wouldCreateCircularDependency(String parentObjectiveId, String childObjectiveId) {
-        Set<String> visited = new HashSet<>();
-        return hasPath(childObjectiveId, parentObjectiveId, visited);
+    private boolean wouldCreateCircularDependency(String parentObjectiveId, String childObjectiveId,
+                                                  String childWorkspaceId) {
+        return graphIndex.reaches(childWorkspaceId, childObjectiveId, parentObjectiveId)
+            .orElseGet(() -> repo.existsPath(childObjectiveId, parentObjectiveId));
     }
 
-    /**
-     * Check if there's a path from start to target using DFS
-     */
-    private boolean hasPath(String start, String target, Set<String> visited) {
-        if (start.equals(target)) {
-            return true;
-        }
-
-        if (visited.contains(start)) {
-            return false;
-        }
-
-        visited.add(start);
-
-        List<ObjectiveAlignment> children = repo.findByIdParentObjectiveId(start);
-        for (ObjectiveAlignment alignment : children) {
-            if (hasPath(alignment.getId().getChildObjectiveId(), target, visited)) {
-                return true;
-            }
+    private Map<String, String> workspacesOf(String... objectiveIds) {
+        Map<String, String> workspaces = new HashMap<>();
+        for (Objective objective : objectiveRepository.findAllById(List.of(objectiveIds))) {
+            workspaces.put(objective.getId(), objective.getWorkspaceId());
         }
-
-        return false;
+        return workspaces;
     }
 
     /**
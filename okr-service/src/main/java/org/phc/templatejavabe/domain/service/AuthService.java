@@ -6,20 +6,19 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import org.phc.templatejavabe.domain.model.User;
 import org.phc.templatejavabe.infrastructure.config.JwtUtil;
 import org.phc.templatejavabe.domain.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class AuthService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
 
     
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil) {
+    public AuthService(UserRepository userRepository, PasswordHashingService passwordHashingService, JwtUtil jwtUtil) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
         this.jwtUtil = jwtUtil;
     }
 
@@ -30,7 +29,7 @@ public class AuthService {
         }
         User u = new User();
         u.setEmail(email);
-        u.setPasswordHash(passwordEncoder.encode(rawPassword));
+        u.setPasswordHash(passwordHashingService.encode(rawPassword));
         u.setFullName(fullName);
         u.setStatus(User.UserStatus.ACTIVE);
         return userRepository.save(u);
@@ -38,7 +37,7 @@ public class AuthService {
 
     public String[] login(String email, String rawPassword) {
         User u = userRepository.findByEmail(email).orElseThrow(() -> new IllegalArgumentException("Sai email hoặc mật khẩu"));
-        if (u.getPasswordHash() == null || !passwordEncoder.matches(rawPassword, u.getPasswordHash())) {
+        if (u.getPasswordHash() == null || !passwordHashingService.matches(rawPassword, u.getPasswordHash())) {
             throw new IllegalArgumentException("Sai email hoặc mật khẩu");
         }
         String access = jwtUtil.generateAccessToken(u.getId(), Map.of("email", u.getEmail(), "name", u.getFullName()));
@@ -0,0 +1,394 @@
+package org.phc.templatejavabe.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.phc.templatejavabe.domain.model.CheckIn;
+import org.phc.templatejavabe.domain.model.CheckInBatchReceipt;
+import org.phc.templatejavabe.domain.model.CheckInRecorded;
+import org.phc.templatejavabe.domain.model.KeyResult;
+import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.infrastructure.cache.DashboardSnapshotCache;
+import org.phc.templatejavabe.infrastructure.cache.RecentCheckInBuffer;
+import org.phc.templatejavabe.infrastructure.config.CheckInIngestionProperties;
+import org.phc.templatejavabe.infrastructure.repository.CheckInBatchWriter;
+import org.phc.templatejavabe.infrastructure.repository.CheckInRepository;
+import org.phc.templatejavabe.infrastructure.repository.KeyResultRepository;
+import org.phc.templatejavabe.infrastructure.repository.ObjectiveRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Write-behind queue for bulk check-ins.
+ *
+ * <p>Submissions are validated and assigned ids on the request thread, then a single writer thread
+ * drains the queue in batches: rows go in with one JDBC batch insert, each key result takes the value
+ * of its latest check-in once, and each affected objective receives one progress update per batch.
+ * Callers hold a ticket they can wait on until the batch is committed.</p>
+ *
+ * <p>A batch that fails to commit is retried in halves, each in its own transaction, so one bad
+ * submission only fails its own ticket. Submissions still queued when shutdown gives up are failed.</p>
+ */
+@Service
+public class CheckInIngestionService implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(CheckInIngestionService.class);
+
+    private final KeyResultRepository keyResultRepository;
+    private final ObjectiveRepository objectiveRepository;
+    private final CheckInRepository checkInRepository;
+    private final CheckInBatchWriter checkInBatchWriter;
+    private final CheckInRollupService checkInRollupService;
+    private final KeyResultService keyResultService;
+    private final ProgressRollupService progressRollupService;
+    private final IdGeneratorService idGeneratorService;
+    private final DashboardSnapshotCache dashboardSnapshotCache;
+    private final RecentCheckInBuffer recentCheckInBuffer;
+    private final DomainEventPublisher domainEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final CheckInIngestionProperties props;
+
+    private final LinkedBlockingQueue<Submission> queue = new LinkedBlockingQueue<>();
+    private final Semaphore capacity;
+    private final Cache<String, Submission> submissions;
+    // Guards running together with enqueueing, so nothing is queued once stop() has begun
+    private final Object lifecycleLock = new Object();
+    private volatile boolean running;
+    private Thread writer;
+
+    public CheckInIngestionService(KeyResultRepository keyResultRepository,
+                                   ObjectiveRepository objectiveRepository,
+                                   CheckInRepository checkInRepository,
+                                   CheckInBatchWriter checkInBatchWriter,
+                                   CheckInRollupService checkInRollupService,
+                                   KeyResultService keyResultService,
+                                   ProgressRollupService progressRollupService,
+                                   IdGeneratorService idGeneratorService,
+                                   DashboardSnapshotCache dashboardSnapshotCache,
+                                   RecentCheckInBuffer recentCheckInBuffer,
+                                   DomainEventPublisher domainEventPublisher,
+                                   TransactionTemplate transactionTemplate,
+                                   CheckInIngestionProperties props) {
+        this.keyResultRepository = keyResultRepository;
+        this.objectiveRepository = objectiveRepository;
+        this.checkInRepository = checkInRepository;
+        this.checkInBatchWriter = checkInBatchWriter;
+        this.checkInRollupService = checkInRollupService;
+        this.keyResultService = keyResultService;
+        this.progressRollupService = progressRollupService;
+        this.idGeneratorService = idGeneratorService;
+        this.dashboardSnapshotCache = dashboardSnapshotCache;
+        this.recentCheckInBuffer = recentCheckInBuffer;
+        this.domainEventPublisher = domainEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.props = props;
+        this.capacity = new Semaphore(props.getQueueCapacity());
+        this.submissions = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(props.getReceiptTtlSeconds()))
+            .build();
+    }
+
+    /**
+     * Validate and enqueue check-ins. Fails fast with 503 when the queue is full.
+     */
+    public CheckInBatchReceipt submit(List<CheckIn> checkIns) {
+        if (checkIns.isEmpty()) {
+            throw new IllegalArgumentException("Batch không được rỗng");
+        }
+        if (checkIns.size() > props.getMaxBatchSize()) {
+            throw new IllegalArgumentException("Batch vượt quá " + props.getMaxBatchSize() + " check-in");
+        }
+
+        Set<String> keyResultIds = checkIns.stream().map(CheckIn::getKeyResultId).collect(Collectors.toSet());
+        Map<String, KeyResult> keyResults = keyResultRepository.findAllById(keyResultIds).stream()
+            .collect(Collectors.toMap(KeyResult::getId, Function.identity()));
+
+        String currentUserId = currentUserId();
+        Instant now = Instant.now();
+        for (CheckIn c : checkIns) {
+            KeyResult kr = keyResults.get(c.getKeyResultId());
+            if (kr == null) {
+                throw new IllegalArgumentException("KeyResult không tồn tại");
+            }
+            keyResultService.validateCheckInValue(kr, c.getValue());
+            c.setId(idGeneratorService.generateId());
+            c.setCreatedBy(currentUserId);
+            c.setCreatedDate(now);
+        }
+
+        Submission submission = new Submission(idGeneratorService.generateId(), List.copyOf(checkIns));
+        synchronized (lifecycleLock) {
+            if (!running || !capacity.tryAcquire(checkIns.size())) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Check-in queue is full, retry later");
+            }
+            submissions.put(submission.ticket, submission);
+            queue.add(submission);
+        }
+        return submission.pending();
+    }
+
+    public Optional<CheckInBatchReceipt> status(String ticket) {
+        return Optional.ofNullable(submissions.getIfPresent(ticket)).map(Submission::current);
+    }
+
+    /**
+     * Wait until the batch is committed or failed, bounded by app.check-ins.ingest.max-wait-seconds.
+     * Returns the pending receipt when the wait times out.
+     */
+    public Optional<CheckInBatchReceipt> awaitDurable(String ticket, Duration timeout) {
+        Submission submission = submissions.getIfPresent(ticket);
+        if (submission == null) {
+            return Optional.empty();
+        }
+        long millis = Math.min(timeout.toMillis(), TimeUnit.SECONDS.toMillis(props.getMaxWaitSeconds()));
+        try {
+            return Optional.of(submission.outcome.get(millis, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            return Optional.of(submission.pending());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.of(submission.pending());
+        } catch (ExecutionException e) {
+            return Optional.of(submission.current());
+        }
+    }
+
+    @Override
+    public void start() {
+        synchronized (lifecycleLock) {
+            running = true;
+        }
+        writer = new Thread(this::drainLoop, "check-in-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        // Stop accepting work, then let the writer flush what is already queued
+        synchronized (lifecycleLock) {
+            running = false;
+        }
+        if (writer != null) {
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(props.getMaxWaitSeconds()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Whatever the writer did not reach in time is failed rather than left pending forever
+        IllegalStateException shutdown = new IllegalStateException("Check-in writer stopped before this batch was written");
+        Submission abandoned;
+        while ((abandoned = queue.poll()) != null) {
+            abandoned.fail(shutdown);
+            capacity.release(abandoned.checkIns.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<Submission> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Check-in writer iteration failed", e);
+            }
+        }
+    }
+
+    /**
+     * Block for the first submission, then linger briefly to fill the batch up to max-batch-size
+     */
+    private List<Submission> nextBatch() throws InterruptedException {
+        List<Submission> batch = new ArrayList<>();
+        Submission first = queue.poll(props.getLingerMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        int size = first.checkIns.size();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(props.getLingerMillis());
+        while (size < props.getMaxBatchSize()) {
+            Submission next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            size += next.checkIns.size();
+        }
+        return batch;
+    }
+
+    private void flush(List<Submission> batch) {
+        int permits = batch.stream().mapToInt(s -> s.checkIns.size()).sum();
+        try {
+            persist(batch);
+        } finally {
+            capacity.release(permits);
+        }
+    }
+
+    /**
+     * Commit the submissions together; if that fails, bisect so only the offending submissions fail
+     */
+    private void persist(List<Submission> batch) {
+        try {
+            Map<String, List<String>> persisted = transactionTemplate.execute(status -> write(batch));
+            for (Submission submission : batch) {
+                submission.complete(persisted.getOrDefault(submission.ticket, List.of()));
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                Submission submission = batch.get(0);
+                logger.error("Failed to persist {} queued check-ins of ticket {}", submission.checkIns.size(),
+                    submission.ticket, e);
+                submission.fail(e);
+                return;
+            }
+            logger.warn("Batch of {} submissions failed, retrying in halves: {}", batch.size(), e.getMessage());
+            int middle = batch.size() / 2;
+            persist(batch.subList(0, middle));
+            persist(batch.subList(middle, batch.size()));
+        }
+    }
+
+    /**
+     * Persist one batch inside a transaction; returns the persisted check-in ids per ticket
+     */
+    private Map<String, List<String>> write(List<Submission> batch) {
+        List<CheckIn> rows = batch.stream().flatMap(s -> s.checkIns.stream()).toList();
+
+        // Key results may have been deleted since submission; their check-ins are dropped
+        Map<String, KeyResult> keyResults = keyResultRepository.findAllById(
+                rows.stream().map(CheckIn::getKeyResultId).collect(Collectors.toSet())).stream()
+            .collect(Collectors.toMap(KeyResult::getId, Function.identity()));
+        // Serialises with POST /check-ins and other writers of the same key results
+        progressRollupService.lock(keyResults.values());
+        List<CheckIn> accepted = rows.stream().filter(c -> keyResults.containsKey(c.getKeyResultId())).toList();
+        if (accepted.size() < rows.size()) {
+            logger.warn("Dropped {} queued check-ins of deleted key results", rows.size() - accepted.size());
+        }
+
+        // Read before the insert: a check-in that committed after these were submitted must keep its value
+        Map<String, Instant> lastCheckInDates = keyResults.isEmpty() ? Map.of()
+            : checkInRepository.findLastCheckInDatesByKeyResultIds(keyResults.keySet()).stream()
+                .collect(Collectors.toMap(CheckInRepository.KeyResultLastCheckInView::getKeyResultId,
+                    CheckInRepository.KeyResultLastCheckInView::getLastCheckInDate));
+        checkInBatchWriter.insertAll(accepted, props.getMaxBatchSize());
+
+        // Coalesce per key result: only the latest check-in sets the current value, and only if it is newer
+        Map<String, CheckIn> latestByKeyResult = accepted.stream().collect(Collectors.toMap(
+            CheckIn::getKeyResultId, Function.identity(),
+            (a, b) -> Comparator.comparing(CheckIn::getCreatedDate).thenComparing(CheckIn::getId).compare(a, b) >= 0 ? a : b));
+        List<KeyResult> changed = new ArrayList<>(latestByKeyResult.size());
+        latestByKeyResult.forEach((keyResultId, latest) -> {
+            Instant lastCheckIn = lastCheckInDates.get(keyResultId);
+            if (lastCheckIn != null && lastCheckIn.isAfter(latest.getCreatedDate())) {
+                return;
+            }
+            KeyResult kr = keyResults.get(keyResultId);
+            kr.setCurrentValue(latest.getValue().max(BigDecimal.ZERO));
+            changed.add(kr);
+        });
+        progressRollupService.keyResultsChanged(changed);
+
+        // Every accepted row needs its workspace, including those that did not move the current value
+        Map<String, Objective> objectives = objectiveRepository.findAllById(
+                accepted.stream().map(c -> keyResults.get(c.getKeyResultId()).getObjectiveId())
+                    .collect(Collectors.toSet())).stream()
+            .collect(Collectors.toMap(Objective::getId, Function.identity()));
+        objectives.values().forEach(dashboardSnapshotCache::evict);
+
+        Map<String, List<Instant>> rollup = new HashMap<>();
+        for (CheckIn c : accepted) {
+            KeyResult kr = keyResults.get(c.getKeyResultId());
+            Objective objective = objectives.get(kr.getObjectiveId());
+            String workspaceId = objective != null ? objective.getWorkspaceId() : null;
+            recentCheckInBuffer.onCreated(workspaceId, c);
+            // Written by this thread, so the submitter is taken from the check-in rather than the security context
+            domainEventPublisher.publishAs(c.getCreatedBy(), CheckInRecorded.of(kr, c, workspaceId));
+            if (workspaceId != null) {
+                rollup.computeIfAbsent(workspaceId, k -> new ArrayList<>()).add(c.getCreatedDate());
+            }
+        }
+        rollup.forEach((workspaceId, createdDates) -> checkInRollupService.record(workspaceId, createdDates, 1));
+
+        Map<String, List<String>> persisted = new LinkedHashMap<>();
+        for (Submission submission : batch) {
+            persisted.put(submission.ticket, submission.checkIns.stream()
+                .filter(c -> keyResults.containsKey(c.getKeyResultId()))
+                .map(CheckIn::getId)
+                .toList());
+        }
+        return persisted;
+    }
+
+    private static String currentUserId() {
+        org.springframework.security.core.Authentication auth =
+            org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
+        return (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getName()))
+            ? auth.getName() : "system";
+    }
+
+    private static final class Submission {
+        private final String ticket;
+        private final List<CheckIn> checkIns;
+        private final CompletableFuture<CheckInBatchReceipt> outcome = new CompletableFuture<>();
+
+        Submission(String ticket, List<CheckIn> checkIns) {
+            this.ticket = ticket;
+            this.checkIns = checkIns;
+        }
+
+        CheckInBatchReceipt pending() {
+            return new CheckInBatchReceipt(ticket, CheckInBatchReceipt.State.PENDING,
+                checkIns.stream().map(CheckIn::getId).toList(), null);
+        }
+
+        CheckInBatchReceipt current() {
+            return outcome.isDone() ? outcome.getNow(pending()) : pending();
+        }
+
+        void complete(List<String> persistedIds) {
+            outcome.complete(new CheckInBatchReceipt(ticket, CheckInBatchReceipt.State.DURABLE, persistedIds, null));
+        }
+
+        void fail(Exception e) {
+            // Completed normally with a FAILED receipt so waiters read it instead of an exception
+            outcome.complete(new CheckInBatchReceipt(ticket, CheckInBatchReceipt.State.FAILED,
+                checkIns.stream().map(CheckIn::getId).toList(), e.getMessage()));
+        }
+    }
+}
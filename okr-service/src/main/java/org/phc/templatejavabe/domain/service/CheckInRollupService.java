@@ -0,0 +1,78 @@
+package org.phc.templatejavabe.domain.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import org.phc.templatejavabe.infrastructure.repository.CheckInDailyRollupRepository;
+import org.phc.templatejavabe.infrastructure.repository.CheckInRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps check_in_daily_rollup in step with check-ins: new and deleted check-ins, and the check-ins
+ * that leave a workspace (key result / objective cascade deletes) or change workspace (moves).
+ *
+ * <p>Buckets are UTC days, the same as the Liquibase backfill and the trend endpoint.</p>
+ */
+@Service
+public class CheckInRollupService {
+    private final CheckInRepository checkInRepository;
+    private final CheckInDailyRollupRepository checkInDailyRollupRepository;
+
+    public CheckInRollupService(CheckInRepository checkInRepository,
+                                CheckInDailyRollupRepository checkInDailyRollupRepository) {
+        this.checkInRepository = checkInRepository;
+        this.checkInDailyRollupRepository = checkInDailyRollupRepository;
+    }
+
+    public static LocalDate bucketDateOf(Instant createdDate) {
+        return createdDate.atZone(ZoneOffset.UTC).toLocalDate();
+    }
+
+    /**
+     * Add (delta 1) or remove (delta -1) check-ins created at the given instants, one upsert per day
+     */
+    @Transactional
+    public void record(String workspaceId, Collection<Instant> createdDates, int delta) {
+        if (workspaceId == null) {
+            return;
+        }
+        countByDay(createdDates).forEach((day, count) ->
+            checkInDailyRollupRepository.increment(workspaceId, day, count * delta));
+    }
+
+    /**
+     * Move the check-ins of the key results from one workspace's buckets to another's. With a null target
+     * they are only subtracted, which is how cascade deletes are recorded; call it before the delete runs.
+     */
+    @Transactional
+    public void moveKeyResults(Collection<String> keyResultIds, String fromWorkspaceId, String toWorkspaceId) {
+        if (keyResultIds.isEmpty() || Objects.equals(fromWorkspaceId, toWorkspaceId)) {
+            return;
+        }
+        Map<LocalDate, Integer> counts = countByDay(checkInRepository.findCreatedDatesByKeyResultIds(keyResultIds));
+        counts.forEach((day, count) -> {
+            if (fromWorkspaceId != null) {
+                checkInDailyRollupRepository.increment(fromWorkspaceId, day, -count);
+            }
+            if (toWorkspaceId != null) {
+                checkInDailyRollupRepository.increment(toWorkspaceId, day, count);
+            }
+        });
+    }
+
+    private static Map<LocalDate, Integer> countByDay(Collection<Instant> createdDates) {
+        // Sorted so concurrent writers take the bucket row locks in the same order
+        Map<LocalDate, Integer> counts = new TreeMap<>();
+        for (Instant createdDate : createdDates) {
+            if (createdDate != null) {
+                counts.merge(bucketDateOf(createdDate), 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+}
@@ -4,14 +4,22 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.phc.templatejavabe.domain.model.CheckIn;
+import org.phc.templatejavabe.domain.model.CheckInDeleted;
+import org.phc.templatejavabe.domain.model.CheckInRecorded;
 import org.phc.templatejavabe.domain.model.KeyResult;
 import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.domain.model.RecentCheckIn;
+import org.phc.templatejavabe.infrastructure.cache.RecentCheckInBuffer;
 import org.phc.templatejavabe.infrastructure.repository.CheckInRepository;
 import org.phc.templatejavabe.infrastructure.repository.KeyResultRepository;
 import org.phc.templatejavabe.infrastructure.repository.ObjectiveRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,29 +29,55 @@ public class CheckInService {
     private final KeyResultRepository keyResultRepository;
     private final ObjectiveRepository objectiveRepository;
     private final KeyResultService keyResultService;
+    private final CheckInRollupService checkInRollupService;
+    private final RecentCheckInBuffer recentCheckInBuffer;
+    private final DomainEventPublisher domainEventPublisher;
 
     public CheckInService(CheckInRepository checkInRepository, 
                          KeyResultRepository keyResultRepository,
                          ObjectiveRepository objectiveRepository,
-                         KeyResultService keyResultService) {
+                         KeyResultService keyResultService,
+                         CheckInRollupService checkInRollupService,
+                         RecentCheckInBuffer recentCheckInBuffer,
+                         DomainEventPublisher domainEventPublisher) {
         this.checkInRepository = checkInRepository;
         this.keyResultRepository = keyResultRepository;
         this.objectiveRepository = objectiveRepository;
         this.keyResultService = keyResultService;
+        this.checkInRollupService = checkInRollupService;
+        this.recentCheckInBuffer = recentCheckInBuffer;
+        this.domainEventPublisher = domainEventPublisher;
     }
 
     public List<CheckIn> list(String keyResultId) {
         return checkInRepository.findByKeyResultIdOrderByCreatedDateDesc(keyResultId);
     }
 
-    public List<CheckIn> getRecentCheckIns(int limit) {
-        return checkInRepository.findTop10ByOrderByCreatedDateDesc();
+    /**
+     * Latest check-ins of a workspace (all workspaces when null), served from the in-memory feed
+     */
+    public List<CheckIn> getRecentCheckIns(String workspaceId, int limit) {
+        return recentCheckInBuffer.recent(workspaceId, limit, size -> loadRecent(workspaceId, size)).stream()
+            .map(RecentCheckIn::toCheckIn)
+            .toList();
     }
 
     public List<CheckIn> getCheckInHistory(String keyResultId) {
         return checkInRepository.findByKeyResultIdOrderByCreatedDateAsc(keyResultId);
     }
 
+    /**
+     * Resolve the last check-in date for each objective in one query
+     */
+    public Map<String, Instant> findLastCheckInDates(Collection<String> objectiveIds) {
+        if (objectiveIds.isEmpty()) {
+            return Map.of();
+        }
+        return checkInRepository.findLastCheckInDatesByObjectiveIds(objectiveIds).stream()
+            .collect(Collectors.toMap(CheckInRepository.LastCheckInView::getObjectiveId,
+                CheckInRepository.LastCheckInView::getLastCheckInDate));
+    }
+
     public Optional<CheckIn> findById(String checkInId) {
         return checkInRepository.findById(checkInId);
     }
@@ -52,6 +86,7 @@ public class CheckInService {
     public CheckIn create(String keyResultId, CheckIn c) {
         KeyResult kr = keyResultRepository.findById(keyResultId)
             .orElseThrow(() -> new IllegalArgumentException("KeyResult không tồn tại"));
+        keyResultService.lock(kr);
         
         // Validate no duplicate check-in on same day
         // Temporarily disabled for testing
@@ -78,10 +113,14 @@ public class CheckInService {
         if (kr.getCurrentValue().compareTo(BigDecimal.ZERO) < 0) {
             kr.setCurrentValue(BigDecimal.ZERO);
         }
-        keyResultService.update(kr);
+        // Also folds the key result delta into the objective progress
+        keyResultService.applyCheckIn(kr);
         
-        // Update Objective progress
-        updateObjectiveProgress(kr.getObjectiveId());
+        String workspaceId = workspaceOf(kr.getObjectiveId());
+        // Updates never touch the rollup because they keep the original created date
+        checkInRollupService.record(workspaceId, List.of(saved.getCreatedDate()), 1);
+        recentCheckInBuffer.onCreated(workspaceId, saved);
+        domainEventPublisher.publish(CheckInRecorded.of(kr, saved, workspaceId));
         
         return saved;
     }
@@ -104,6 +143,7 @@ public class CheckInService {
         // Update Key Result current value
         KeyResult kr = keyResultRepository.findById(existing.getKeyResultId()).orElse(null);
         if (kr != null) {
+            keyResultService.lock(kr);
             kr.setCurrentValue(saved.getValue());
             // Ensure current value is not null and not negative
             if (kr.getCurrentValue() == null) {
@@ -112,10 +152,12 @@ public class CheckInService {
             if (kr.getCurrentValue().compareTo(BigDecimal.ZERO) < 0) {
                 kr.setCurrentValue(BigDecimal.ZERO);
             }
-            keyResultService.update(kr);
+            // Also folds the key result delta into the objective progress
+            keyResultService.applyCheckIn(kr);
             
-            // Update Objective progress
-            updateObjectiveProgress(kr.getObjectiveId());
+            String workspaceId = workspaceOf(kr.getObjectiveId());
+            recentCheckInBuffer.onUpdated(workspaceId, saved);
+            domainEventPublisher.publish(CheckInRecorded.of(kr, saved, workspaceId, true));
         }
         
         return saved;
@@ -134,15 +176,21 @@ public class CheckInService {
         
         KeyResult kr = keyResultRepository.findById(keyResultId).orElse(null);
         if (kr != null) {
+            keyResultService.lock(kr);
             if (remainingCheckIns.isEmpty()) {
                 kr.setCurrentValue(BigDecimal.ZERO);
             } else {
                 kr.setCurrentValue(remainingCheckIns.get(0).getValue());
             }
-            keyResultService.update(kr);
+            // Also folds the key result delta into the objective progress
+            keyResultService.applyCheckIn(kr);
             
-            // Update Objective progress
-            updateObjectiveProgress(kr.getObjectiveId());
+            String workspaceId = workspaceOf(kr.getObjectiveId());
+            checkInRollupService.record(workspaceId, List.of(checkIn.getCreatedDate()), -1);
+            recentCheckInBuffer.onDeleted(workspaceId);
+            domainEventPublisher.publish(CheckInDeleted.of(kr, checkIn, workspaceId));
+        } else {
+            recentCheckInBuffer.onDeleted(null);
         }
     }
 
@@ -176,27 +224,16 @@ public class CheckInService {
         return createdDate.isAfter(twentyFourHoursAgo);
     }
 
-    /**
-     * Update Objective progress based on its Key Results
-     */
-    private void updateObjectiveProgress(String objectiveId) {
-        Objective objective = objectiveRepository.findById(objectiveId).orElse(null);
-        if (objective == null) return;
+    private String workspaceOf(String objectiveId) {
+        return objectiveRepository.findById(objectiveId)
+            .map(Objective::getWorkspaceId)
+            .orElse(null);
+    }
 
-        List<KeyResult> keyResults = keyResultRepository.findByObjectiveId(objectiveId);
-        if (keyResults.isEmpty()) {
-            objective.setProgress(BigDecimal.valueOf(0));
-        } else {
-            double totalProgress = keyResults.stream()
-                .mapToDouble(kr -> keyResultService.calculateProgressPercentage(kr).doubleValue())
-                .sum();
-            double averageProgress = totalProgress / keyResults.size();
-            objective.setProgress(BigDecimal.valueOf((int) Math.round(averageProgress)));
-        }
-        
-        objectiveRepository.save(objective);
+    private List<CheckIn> loadRecent(String workspaceId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return workspaceId == null || workspaceId.isBlank()
+            ? checkInRepository.findByOrderByCreatedDateDescIdDesc(page)
+            : checkInRepository.findRecentByWorkspaceId(workspaceId, page);
     }
 }
-
-
-
@@ -3,16 +3,30 @@ package org.phc.templatejavabe.domain.service;
 import java.util.List;
 import java.util.Optional;
 import org.phc.templatejavabe.domain.model.Comment;
+import org.phc.templatejavabe.domain.model.CommentAdded;
+import org.phc.templatejavabe.domain.model.KeyResult;
+import org.phc.templatejavabe.domain.model.Objective;
 import org.phc.templatejavabe.infrastructure.repository.CommentRepository;
+import org.phc.templatejavabe.infrastructure.repository.KeyResultRepository;
+import org.phc.templatejavabe.infrastructure.repository.ObjectiveRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class CommentService {
     private final CommentRepository commentRepository;
+    private final ObjectiveRepository objectiveRepository;
+    private final KeyResultRepository keyResultRepository;
+    private final DomainEventPublisher domainEventPublisher;
 
-    public CommentService(CommentRepository commentRepository) {
+    public CommentService(CommentRepository commentRepository,
+                          ObjectiveRepository objectiveRepository,
+                          KeyResultRepository keyResultRepository,
+                          DomainEventPublisher domainEventPublisher) {
         this.commentRepository = commentRepository;
+        this.objectiveRepository = objectiveRepository;
+        this.keyResultRepository = keyResultRepository;
+        this.domainEventPublisher = domainEventPublisher;
     }
 
     public List<Comment> getCommentsByObjective(String objectiveId) {
@@ -35,7 +49,13 @@ public class CommentService {
         comment.setCreatedBy(comment.getAuthorId());
         comment.setCreatedDate(java.time.Instant.now());
         
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        String objectiveId = saved.getObjectiveId() != null ? saved.getObjectiveId()
+            : keyResultRepository.findById(saved.getKeyResultId()).map(KeyResult::getObjectiveId).orElse(null);
+        String workspaceId = objectiveId != null
+            ? objectiveRepository.findById(objectiveId).map(Objective::getWorkspaceId).orElse(null) : null;
+        domainEventPublisher.publish(new CommentAdded(saved.getId(), objectiveId, workspaceId, saved.getContent()));
+        return saved;
     }
 
     @Transactional
@@ -1,186 +1,310 @@
 package org.phc.templatejavabe.domain.service;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
-import org.phc.templatejavabe.domain.model.CheckIn;
+import org.phc.templatejavabe.domain.model.DashboardSnapshot;
 import org.phc.templatejavabe.domain.model.Objective;
 import org.phc.templatejavabe.domain.model.ObjectiveStatus;
-import org.phc.templatejavabe.infrastructure.repository.CheckInRepository;
+import org.phc.templatejavabe.infrastructure.cache.DashboardSnapshotCache;
+import org.phc.templatejavabe.infrastructure.config.DashboardCacheProperties;
+import org.phc.templatejavabe.infrastructure.repository.CheckInDailyRollupRepository;
 import org.phc.templatejavabe.infrastructure.repository.ObjectiveRepository;
+import org.phc.templatejavabe.presentation.response.dashboard.TopPerformersPage;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 @Service
 public class DashboardService {
+    private static final int MAX_TOP_PERFORMERS = 100;
+    private static final String SNAPSHOT_SOURCE = "s";
+    private static final String DATABASE_SOURCE = "d";
+
     private final ObjectiveRepository objectiveRepository;
-    private final CheckInRepository checkInRepository;
+    private final CheckInDailyRollupRepository checkInDailyRollupRepository;
+    private final DashboardSnapshotCache snapshotCache;
+    private final DashboardCacheProperties cacheProperties;
+    private final CheckInService checkInService;
 
-    public DashboardService(ObjectiveRepository objectiveRepository, CheckInRepository checkInRepository) {
+    public DashboardService(ObjectiveRepository objectiveRepository, 
+                           CheckInDailyRollupRepository checkInDailyRollupRepository,
+                           DashboardSnapshotCache snapshotCache,
+                           DashboardCacheProperties cacheProperties,
+                           CheckInService checkInService) {
         this.objectiveRepository = objectiveRepository;
-        this.checkInRepository = checkInRepository;
+        this.checkInDailyRollupRepository = checkInDailyRollupRepository;
+        this.snapshotCache = snapshotCache;
+        this.cacheProperties = cacheProperties;
+        this.checkInService = checkInService;
     }
 
     /**
      * Get team summary for dashboard
      */
     public Map<String, Object> getTeamSummary(String teamId, String quarter, String workspaceId) {
-        List<Objective> objectives;
+        DashboardSnapshot snapshot;
         
         if (workspaceId != null && !workspaceId.isBlank()) {
-            objectives = objectiveRepository.findByWorkspaceIdAndQuarter(workspaceId, quarter);
-        } else {
-            objectives = objectiveRepository.findByTeamIdAndQuarter(teamId, quarter);
-        }
-        
-        Map<String, Object> summary = new HashMap<>();
-        summary.put("total_objectives", objectives.size());
-        
-        if (!objectives.isEmpty()) {
-            BigDecimal avgProgress = objectives.stream()
-                .map(Objective::getProgress)
-                .filter(progress -> progress != null)
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .divide(BigDecimal.valueOf(objectives.size()), 2, BigDecimal.ROUND_HALF_UP);
-            summary.put("average_progress", avgProgress);
+            snapshot = getWorkspaceSnapshot(workspaceId, quarter);
         } else {
-            summary.put("average_progress", BigDecimal.ZERO);
+            snapshot = buildSnapshot(objectiveRepository.findByTeamIdAndQuarter(teamId, quarter));
         }
-
-        // Status distribution
-        Map<ObjectiveStatus, Long> statusCounts = objectives.stream()
-            .filter(obj -> obj.getStatus() != null)
-            .collect(Collectors.groupingBy(Objective::getStatus, Collectors.counting()));
         
-        Map<String, Long> statusDistribution = new HashMap<>();
-        for (ObjectiveStatus status : ObjectiveStatus.values()) {
-            statusDistribution.put(status.name().toLowerCase(), statusCounts.getOrDefault(status, 0L));
-        }
-        summary.put("status_distribution", statusDistribution);
-
-        return summary;
+        return toSummary(snapshot);
     }
 
     /**
      * Get personal OKR summary
      */
     public Map<String, Object> getMyOKRSummary(String userId, String quarter, String workspaceId) {
-        List<Objective> objectives;
+        DashboardSnapshot snapshot;
         
         if (workspaceId != null && !workspaceId.isBlank()) {
-            objectives = objectiveRepository.findByWorkspaceIdAndQuarter(workspaceId, quarter);
-        } else {
-            objectives = objectiveRepository.findByOwnerIdAndQuarter(userId, quarter);
-        }
-        
-        Map<String, Object> summary = new HashMap<>();
-        summary.put("total_objectives", objectives.size());
-        
-        if (!objectives.isEmpty()) {
-            BigDecimal avgProgress = objectives.stream()
-                .map(Objective::getProgress)
-                .filter(progress -> progress != null)
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .divide(BigDecimal.valueOf(objectives.size()), 2, BigDecimal.ROUND_HALF_UP);
-            summary.put("average_progress", avgProgress);
+            snapshot = getWorkspaceSnapshot(workspaceId, quarter);
         } else {
-            summary.put("average_progress", BigDecimal.ZERO);
+            snapshot = buildSnapshot(objectiveRepository.findByOwnerIdAndQuarter(userId, quarter));
         }
-
-        // Count objectives by status
-        Map<ObjectiveStatus, Long> statusCounts = objectives.stream()
-            .filter(obj -> obj.getStatus() != null)
-            .collect(Collectors.groupingBy(Objective::getStatus, Collectors.counting()));
         
-        Map<String, Long> statusDistribution = new HashMap<>();
-        for (ObjectiveStatus status : ObjectiveStatus.values()) {
-            statusDistribution.put(status.name().toLowerCase(), statusCounts.getOrDefault(status, 0L));
-        }
-        summary.put("status_distribution", statusDistribution);
+        return toSummary(snapshot);
+    }
 
-        return summary;
+    /**
+     * Get the cached snapshot of a workspace and quarter, computing it on a miss
+     */
+    public DashboardSnapshot getWorkspaceSnapshot(String workspaceId, String quarter) {
+        return snapshotCache.get(workspaceId, quarter,
+            () -> buildSnapshot(objectiveRepository.findByWorkspaceIdAndQuarter(workspaceId, quarter)));
     }
 
     /**
-     * Get check-in trend data for charts
+     * Get check-in trend data for charts, bucketed per day or per week (weeks start on Monday).
+     * Reads the daily rollup, so the cost depends on the number of days rather than check-ins.
      */
-    public Map<String, Object> getCheckInTrend(int days) {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(days);
+    public Map<String, Object> getCheckInTrend(int days, String workspaceId, String bucket) {
+        if (days < 1) {
+            throw new IllegalArgumentException("days must be positive");
+        }
+        boolean weekly = "week".equalsIgnoreCase(bucket);
+        if (!weekly && !"day".equalsIgnoreCase(bucket)) {
+            throw new IllegalArgumentException("bucket must be 'day' or 'week'");
+        }
+        
+        // Rollup buckets are UTC days; the window is the last `days` of them, today included
+        LocalDate endDate = LocalDate.now(ZoneOffset.UTC);
+        LocalDate startDate = endDate.minusDays(days - 1);
+        
+        Map<LocalDate, Long> dailyCounts = new HashMap<>();
+        if (workspaceId != null && !workspaceId.isBlank()) {
+            checkInDailyRollupRepository.findByIdWorkspaceIdAndIdBucketDateBetween(workspaceId, startDate, endDate)
+                .forEach(row -> dailyCounts.put(row.getId().getBucketDate(), (long) row.getCheckInCount()));
+        } else {
+            checkInDailyRollupRepository.sumByBucketDateBetween(startDate, endDate)
+                .forEach(row -> dailyCounts.put(row.getBucketDate(), row.getCheckInCount()));
+        }
+        
+        // Zero-fill every bucket in the window so charts get a continuous series
+        Map<LocalDate, Long> buckets = new TreeMap<>();
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            LocalDate bucketStart = weekly ? day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : day;
+            buckets.merge(bucketStart, dailyCounts.getOrDefault(day, 0L), Long::sum);
+        }
+        
+        List<Map<String, Object>> points = buckets.entrySet().stream()
+            .map(entry -> {
+                Map<String, Object> point = new HashMap<>();
+                point.put("date", entry.getKey().format(DateTimeFormatter.ISO_LOCAL_DATE));
+                point.put("count", entry.getValue());
+                return point;
+            })
+            .collect(Collectors.toList());
         
-        // This would need a custom query to group check-ins by date
-        // Get actual check-in data from database
         Map<String, Object> trend = new HashMap<>();
         trend.put("period_days", days);
         trend.put("start_date", startDate.format(DateTimeFormatter.ISO_LOCAL_DATE));
         trend.put("end_date", endDate.format(DateTimeFormatter.ISO_LOCAL_DATE));
-        trend.put("total_check_ins", checkInRepository.count());
+        trend.put("bucket", weekly ? "week" : "day");
+        trend.put("workspace_id", workspaceId);
+        trend.put("total_check_ins", buckets.values().stream().mapToLong(Long::longValue).sum());
+        trend.put("points", points);
         
         return trend;
     }
 
     /**
-     * Get top performing objectives
+     * Get top performing objectives, ranked by progress with ties broken by id.
+     * Pass the {@code nextCursor} of a page back as {@code cursor} to read the following page.
+     *
+     * <p>A workspace ranking that fits whole in the cached snapshot is paged from the snapshot, anything else
+     * from the database. The cursor records the source, so a listing begun on the database stays there and
+     * pages of one listing never mix cached and live rankings.</p>
      */
-    public List<Map<String, Object>> getTopPerformers(String quarter, int limit, String workspaceId) {
-        List<Objective> objectives;
+    public TopPerformersPage getTopPerformers(String quarter, int limit, String workspaceId, String cursor) {
+        if (limit < 1 || limit > MAX_TOP_PERFORMERS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_TOP_PERFORMERS);
+        }
+        boolean byWorkspace = workspaceId != null && !workspaceId.isBlank();
+        PerformerCursor after = cursor != null ? decodeCursor(cursor) : null;
         
-        if (workspaceId != null && !workspaceId.isBlank()) {
-            objectives = objectiveRepository.findByWorkspaceIdAndQuarter(workspaceId, quarter);
+        if (byWorkspace && (after == null || after.fromSnapshot())) {
+            List<DashboardSnapshot.Performer> ranked = getWorkspaceSnapshot(workspaceId, quarter).topPerformers();
+            // A full list may have been cut at the snapshot size
+            if (ranked.size() < cacheProperties.getTopPerformers()) {
+                List<DashboardSnapshot.Performer> rest = ranked.stream()
+                    .filter(performer -> after == null || after.precedes(performer))
+                    .limit(limit + 1)
+                    .collect(Collectors.toList());
+                return toPage(rest, limit, true);
+            }
+        }
+        
+        // Fetch one extra row to know whether a next page exists
+        Pageable page = PageRequest.of(0, limit + 1);
+        List<Objective> objectives;
+        if (after == null) {
+            objectives = byWorkspace
+                ? objectiveRepository.findTopByWorkspaceAndQuarter(workspaceId, quarter, page)
+                : objectiveRepository.findTopByQuarter(quarter, page);
         } else {
-            objectives = objectiveRepository.findByQuarterOrderByProgressDesc(quarter);
+            objectives = byWorkspace
+                ? objectiveRepository.findTopByWorkspaceAndQuarterAfter(workspaceId, quarter, after.progress(), after.id(), page)
+                : objectiveRepository.findTopByQuarterAfter(quarter, after.progress(), after.id(), page);
         }
         
+        return toPage(objectives.stream().map(this::toPerformer).collect(Collectors.toList()), limit, false);
+    }
+
+    /**
+     * Get recent check-ins for dashboard
+     */
+    public List<Map<String, Object>> getRecentCheckIns(int limit, String workspaceId) {
+        return checkInService.getRecentCheckIns(workspaceId, limit).stream()
+            .map(checkIn -> {
+                Map<String, Object> recent = new HashMap<>();
+                recent.put("id", checkIn.getId());
+                recent.put("key_result_id", checkIn.getKeyResultId());
+                recent.put("value", checkIn.getValue());
+                recent.put("note", checkIn.getNote());
+                recent.put("created_date", checkIn.getCreatedDate());
+                recent.put("created_by", checkIn.getCreatedBy());
+                return recent;
+            })
+            .collect(Collectors.toList());
+    }
+
+    private DashboardSnapshot buildSnapshot(List<Objective> objectives) {
+        BigDecimal avgProgress = BigDecimal.ZERO;
+        if (!objectives.isEmpty()) {
+            avgProgress = objectives.stream()
+                .map(Objective::getProgress)
+                .filter(progress -> progress != null)
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .divide(BigDecimal.valueOf(objectives.size()), 2, RoundingMode.HALF_UP);
+        }
+
+        // Status distribution
+        Map<ObjectiveStatus, Long> statusCounts = objectives.stream()
+            .filter(obj -> obj.getStatus() != null)
+            .collect(Collectors.groupingBy(Objective::getStatus, Collectors.counting()));
+
+        return new DashboardSnapshot(objectives.size(), avgProgress, statusCounts,
+            rank(objectives, cacheProperties.getTopPerformers()));
+    }
+
+    /**
+     * Rank in memory with the same order as the top performer queries
+     */
+    private List<DashboardSnapshot.Performer> rank(List<Objective> objectives, int limit) {
         return objectives.stream()
+            .filter(obj -> obj.getProgress() != null)
+            .sorted(Comparator.comparing(Objective::getProgress).reversed().thenComparing(Objective::getId))
             .limit(limit)
-            .map(obj -> {
-                Map<String, Object> performer = new HashMap<>();
-                performer.put("id", obj.getId());
-                performer.put("title", obj.getTitle());
-                performer.put("progress", obj.getProgress());
-                performer.put("status", obj.getStatus());
-                performer.put("owner_id", obj.getOwnerId());
-                performer.put("team_id", obj.getTeamId());
-                return performer;
+            .map(this::toPerformer)
+            .collect(Collectors.toList());
+    }
+
+    private DashboardSnapshot.Performer toPerformer(Objective obj) {
+        return new DashboardSnapshot.Performer(
+            obj.getId(),
+            obj.getTitle(),
+            obj.getProgress(),
+            obj.getStatus(),
+            obj.getOwnerId(),
+            obj.getTeamId()
+        );
+    }
+
+    private TopPerformersPage toPage(List<DashboardSnapshot.Performer> ranked, int limit, boolean fromSnapshot) {
+        List<DashboardSnapshot.Performer> items = ranked.stream().limit(limit).collect(Collectors.toList());
+        String nextCursor = ranked.size() > limit ? encodeCursor(items.get(items.size() - 1), fromSnapshot) : null;
+        
+        List<Map<String, Object>> performers = items.stream()
+            .map(performer -> {
+                Map<String, Object> result = new HashMap<>();
+                result.put("id", performer.id());
+                result.put("title", performer.title());
+                result.put("progress", performer.progress());
+                result.put("status", performer.status());
+                result.put("owner_id", performer.ownerId());
+                result.put("team_id", performer.teamId());
+                return result;
             })
             .collect(Collectors.toList());
+        return new TopPerformersPage(performers, nextCursor);
+    }
+
+    private String encodeCursor(DashboardSnapshot.Performer last, boolean fromSnapshot) {
+        String raw = (fromSnapshot ? SNAPSHOT_SOURCE : DATABASE_SOURCE) + ":" + last.progress().toPlainString()
+            + ":" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private PerformerCursor decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 3);
+            if (parts.length != 3 || !(parts[0].equals(SNAPSHOT_SOURCE) || parts[0].equals(DATABASE_SOURCE))) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new PerformerCursor(parts[0].equals(SNAPSHOT_SOURCE), new BigDecimal(parts[1]), parts[2]);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
     }
 
     /**
-     * Get recent check-ins for dashboard
+     * Position after the last performer of a page, and whether that page came from the snapshot
      */
-    public List<Map<String, Object>> getRecentCheckIns(int limit) {
-        try {
-            List<CheckIn> recentCheckIns = checkInRepository.findAll();
-            
-            return recentCheckIns.stream()
-                .sorted((a, b) -> {
-                    if (a.getCreatedDate() == null && b.getCreatedDate() == null) return 0;
-                    if (a.getCreatedDate() == null) return 1;
-                    if (b.getCreatedDate() == null) return -1;
-                    return b.getCreatedDate().compareTo(a.getCreatedDate());
-                })
-                .limit(limit)
-                .map(checkIn -> {
-                    Map<String, Object> recent = new HashMap<>();
-                    recent.put("id", checkIn.getId());
-                    recent.put("key_result_id", checkIn.getKeyResultId());
-                    recent.put("value", checkIn.getValue());
-                    recent.put("note", checkIn.getNote());
-                    recent.put("created_date", checkIn.getCreatedDate());
-                    recent.put("created_by", checkIn.getCreatedBy());
-                    return recent;
-                })
-                .collect(Collectors.toList());
-        } catch (Exception e) {
-            // Log error and return empty list
-            System.err.println("Error getting recent check-ins: " + e.getMessage());
-            e.printStackTrace();
-            return new java.util.ArrayList<>();
+    private record PerformerCursor(boolean fromSnapshot, BigDecimal progress, String id) {
+        // Same order as the ranking: progress descending, then id ascending
+        boolean precedes(DashboardSnapshot.Performer performer) {
+            int byProgress = performer.progress().compareTo(progress);
+            return byProgress < 0 || (byProgress == 0 && performer.id().compareTo(id) > 0);
         }
     }
-}
 
+    private Map<String, Object> toSummary(DashboardSnapshot snapshot) {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("total_objectives", snapshot.totalObjectives());
+        summary.put("average_progress", snapshot.averageProgress());
+        
+        Map<String, Long> statusDistribution = new HashMap<>();
+        for (ObjectiveStatus status : ObjectiveStatus.values()) {
+            statusDistribution.put(status.name().toLowerCase(), snapshot.statusCounts().getOrDefault(status, 0L));
+        }
+        summary.put("status_distribution", statusDistribution);
+
+        return summary;
+    }
+}
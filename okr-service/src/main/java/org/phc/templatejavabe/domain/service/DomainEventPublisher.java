@@ -0,0 +1,80 @@
+package org.phc.templatejavabe.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import org.phc.templatejavabe.domain.model.DomainEvent;
+import org.phc.templatejavabe.infrastructure.repository.OutboxRepository;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Writes domain events to the outbox in the caller's transaction, so an event exists exactly when the change
+ * it describes was committed. Subscribers run later, on the {@link OutboxDispatcher} thread.
+ */
+@Service
+public class DomainEventPublisher {
+    private final OutboxRepository outboxRepository;
+    private final IdGeneratorService idGeneratorService;
+    private final ObjectMapper objectMapper;
+    private final OutboxDispatcher outboxDispatcher;
+
+    public DomainEventPublisher(OutboxRepository outboxRepository,
+                                IdGeneratorService idGeneratorService,
+                                ObjectMapper objectMapper,
+                                OutboxDispatcher outboxDispatcher) {
+        this.outboxRepository = outboxRepository;
+        this.idGeneratorService = idGeneratorService;
+        this.objectMapper = objectMapper;
+        this.outboxDispatcher = outboxDispatcher;
+    }
+
+    /**
+     * Publish an event caused by the authenticated user
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        publishAs(currentUserId(), event);
+    }
+
+    /**
+     * Publish an event on behalf of {@code actorId}, for work done off the request thread
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAs(String actorId, DomainEvent event) {
+        // Truncated to what the column stores, so every delivery carries the same occurredAt
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        outboxRepository.insert(new OutboxRepository.OutboxRecord(idGeneratorService.generateId(),
+            event.typeName(), actorId, toJson(event), now, 0, Set.of()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Deliver right after commit rather than at the dispatcher's next poll
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxDispatcher.wakeUp();
+                }
+            });
+        }
+    }
+
+    private String toJson(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + event.typeName(), e);
+        }
+    }
+
+    private static String currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getName()))
+            ? auth.getName() : "system";
+    }
+}
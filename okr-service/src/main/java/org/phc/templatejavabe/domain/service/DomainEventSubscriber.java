@@ -0,0 +1,16 @@
+package org.phc.templatejavabe.domain.service;
+
+import java.util.List;
+import org.phc.templatejavabe.domain.model.EventEnvelope;
+
+/**
+ * Receives committed domain events from the {@link OutboxDispatcher}, in batches and in publication order,
+ * and picks out the event types it cares about.
+ *
+ * <p>Delivery is at least once. An event another subscriber failed on is not delivered again to a subscriber
+ * that already handled it, but after a crash or an expired lease the same event can arrive again with the same
+ * envelope id, so handling must be idempotent. Subscribers are told apart by simple class name.</p>
+ */
+public interface DomainEventSubscriber {
+    void onEvents(List<EventEnvelope> events);
+}
@@ -18,7 +18,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,6 +35,9 @@ public class GroupService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private IdGeneratorService idGeneratorService;
+
     public GroupResponse createGroup(CreateGroupRequest request, String userId) {
         logger.info("Creating group: {} for workspace: {} by user: {}", request.getName(), request.getWorkspaceId(), userId);
 
@@ -46,7 +48,7 @@ public class GroupService {
 
         // Create group
         Group group = new Group();
-        group.setId(generateId());
+        group.setId(idGeneratorService.generateId());
         group.setName(request.getName());
         group.setDescription(request.getDescription());
         group.setWorkspaceId(request.getWorkspaceId());
@@ -168,7 +170,7 @@ public class GroupService {
 
         // Create group member
         GroupMember member = new GroupMember();
-        member.setId(generateId());
+        member.setId(idGeneratorService.generateId());
         member.setGroupId(groupId);
         member.setUserId(user.getId());
         member.setRole(request.getRole());
@@ -230,8 +232,4 @@ public class GroupService {
                 })
                 .collect(Collectors.toList());
     }
-
-    private String generateId() {
-        return UUID.randomUUID().toString().replace("-", "").substring(0, 26);
-    }
 }
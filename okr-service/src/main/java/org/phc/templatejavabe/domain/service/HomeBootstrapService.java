@@ -0,0 +1,100 @@
+package org.phc.templatejavabe.domain.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.infrastructure.config.HomeBootstrapProperties;
+import org.phc.templatejavabe.infrastructure.config.SqlRequestStats;
+import org.phc.templatejavabe.infrastructure.repository.KeyResultRepository;
+import org.phc.templatejavabe.presentation.response.home.GroupInfoResponse;
+import org.phc.templatejavabe.presentation.response.home.HomeBootstrapResponse;
+import org.phc.templatejavabe.presentation.response.home.HomeSummaryResponse;
+import org.phc.templatejavabe.presentation.response.home.PersonalObjectiveResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Builds every section of the home page in one call.
+ *
+ * <p>The user's objectives are loaded once and shared by the summary and personal objective sections;
+ * those two and the groups section then run concurrently on a small bounded pool. When the pool is
+ * saturated the request thread computes the section itself, so load degrades to the serial cost
+ * instead of failing.</p>
+ */
+@Service
+public class HomeBootstrapService {
+    private static final Logger logger = LoggerFactory.getLogger(HomeBootstrapService.class);
+
+    private final HomeService homeService;
+    private final KeyResultRepository keyResultRepository;
+    private final HomeBootstrapProperties props;
+    private final ThreadPoolExecutor executor;
+
+    public HomeBootstrapService(HomeService homeService,
+                                KeyResultRepository keyResultRepository,
+                                HomeBootstrapProperties props) {
+        this.homeService = homeService;
+        this.keyResultRepository = keyResultRepository;
+        this.props = props;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(props.getThreads(), props.getThreads(),
+            0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(props.getQueueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "home-bootstrap-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public HomeBootstrapResponse bootstrap(String userId) {
+        // Sections count towards the request's SQL stats although they run on the pool
+        Executor sections = SqlRequestStats.propagating(executor);
+
+        // Groups do not depend on the user's objectives, so they start before those are loaded
+        CompletableFuture<List<GroupInfoResponse>> groups =
+            CompletableFuture.supplyAsync(() -> homeService.getUserGroups(userId), sections);
+
+        List<Objective> objectives = homeService.findPersonalObjectives(userId);
+        CompletableFuture<HomeSummaryResponse> summary = CompletableFuture.supplyAsync(() -> {
+            List<String> objectiveIds = objectives.stream().map(Objective::getId).collect(Collectors.toList());
+            return homeService.summarize(objectives,
+                objectiveIds.isEmpty() ? List.of() : keyResultRepository.findByObjectiveIdInOrderByCreatedDateAsc(objectiveIds));
+        }, sections);
+        CompletableFuture<List<PersonalObjectiveResponse>> personalObjectives =
+            CompletableFuture.supplyAsync(() -> homeService.toPersonalObjectives(objectives), sections);
+
+        try {
+            CompletableFuture.allOf(groups, summary, personalObjectives).get(props.getTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            groups.cancel(true);
+            summary.cancel(true);
+            personalObjectives.cancel(true);
+            throw new IllegalStateException("Home bootstrap timed out for user: " + userId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building home bootstrap", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new CompletionException(e.getCause());
+        }
+
+        logger.info("Built home bootstrap for user: {} ({} objectives)", userId, objectives.size());
+        return new HomeBootstrapResponse(summary.join(), personalObjectives.join(), groups.join());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
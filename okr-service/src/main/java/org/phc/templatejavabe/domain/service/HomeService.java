@@ -1,12 +1,10 @@
 package org.phc.templatejavabe.domain.service;
 
-import org.phc.templatejavabe.domain.model.CheckIn;
 import org.phc.templatejavabe.domain.model.KeyResult;
 import org.phc.templatejavabe.domain.model.Objective;
 import org.phc.templatejavabe.domain.model.ObjectiveStatus;
+import org.phc.templatejavabe.domain.model.ProgressContribution;
 import org.phc.templatejavabe.domain.model.Team;
-import org.phc.templatejavabe.infrastructure.repository.CheckInRepository;
-import org.phc.templatejavabe.infrastructure.repository.KeyResultRepository;
 import org.phc.templatejavabe.infrastructure.repository.ObjectiveRepository;
 import org.phc.templatejavabe.infrastructure.repository.TeamRepository;
 import org.phc.templatejavabe.presentation.response.home.*;
@@ -15,6 +13,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -22,19 +21,18 @@ import java.util.stream.Collectors;
 @Service
 public class HomeService {
     private static final Logger logger = LoggerFactory.getLogger(HomeService.class);
+    // Current quarter (simplified - using Q1 2024 as default)
+    static final String CURRENT_QUARTER = "Q1 2024";
     
     private final ObjectiveRepository objectiveRepository;
-    private final KeyResultRepository keyResultRepository;
-    private final CheckInRepository checkInRepository;
+    private final CheckInService checkInService;
     private final TeamRepository teamRepository;
 
     public HomeService(ObjectiveRepository objectiveRepository, 
-                      KeyResultRepository keyResultRepository,
-                      CheckInRepository checkInRepository,
+                      CheckInService checkInService,
                       TeamRepository teamRepository) {
         this.objectiveRepository = objectiveRepository;
-        this.keyResultRepository = keyResultRepository;
-        this.checkInRepository = checkInRepository;
+        this.checkInService = checkInService;
         this.teamRepository = teamRepository;
     }
 
@@ -45,28 +43,28 @@ public class HomeService {
         logger.info("Getting home summary for userId: {}", userId);
         
         try {
-            // Get current quarter (simplified - using Q1 2024 as default)
-            String currentQuarter = "Q1 2024";
+            String currentQuarter = CURRENT_QUARTER;
             logger.debug("Using quarter: {}", currentQuarter);
             
-            // Get user's objectives for current quarter
-            logger.debug("Fetching objectives for user: {} and quarter: {}", userId, currentQuarter);
-            List<Objective> objectives = objectiveRepository.findByOwnerIdAndQuarter(userId, currentQuarter);
-            logger.info("Found {} objectives for user: {}", objectives.size(), userId);
+            // Aggregate user's objectives for current quarter in a single grouped query
+            logger.debug("Aggregating objectives for user: {} and quarter: {}", userId, currentQuarter);
+            List<ObjectiveRepository.StatusProgressAggregate> aggregates =
+                objectiveRepository.aggregateByOwnerAndQuarter(userId, currentQuarter);
+            logger.info("Found {} status buckets for user: {}", aggregates.size(), userId);
             
             // Calculate personal progress (average of objectives progress)
-            int personalProgress = calculateAverageProgress(objectives);
+            int personalProgress = averageObjectiveProgress(aggregates);
             logger.debug("Calculated personal progress: {}%", personalProgress);
             
             // Calculate metrics progress (average of all key results progress)
-            int metricsProgress = calculateMetricsProgress(objectives);
+            int metricsProgress = averageMetricsProgress(aggregates);
             logger.debug("Calculated metrics progress: {}%", metricsProgress);
             
             // Calculate last week change (simplified - return 0 for now)
             int lastWeekChange = 0;
             
             // Calculate status distribution
-            StatusDistributionResponse statusDistribution = calculateStatusDistribution(objectives);
+            StatusDistributionResponse statusDistribution = toStatusDistribution(aggregates);
             logger.debug("Status distribution: {}", statusDistribution);
             
             HomeSummaryResponse response = new HomeSummaryResponse(
@@ -92,14 +90,8 @@ public class HomeService {
         logger.info("Getting personal objectives for userId: {}", userId);
         
         try {
-            String currentQuarter = "Q1 2024";
-            logger.debug("Fetching objectives for user: {} and quarter: {}", userId, currentQuarter);
-            List<Objective> objectives = objectiveRepository.findByOwnerIdAndQuarter(userId, currentQuarter);
-            logger.info("Found {} objectives for user: {}", objectives.size(), userId);
-            
-            List<PersonalObjectiveResponse> response = objectives.stream()
-                .map(this::mapToPersonalObjectiveResponse)
-                .collect(Collectors.toList());
+            List<Objective> objectives = findPersonalObjectives(userId);
+            List<PersonalObjectiveResponse> response = toPersonalObjectives(objectives);
             
             logger.info("Successfully mapped {} personal objectives for user: {}", response.size(), userId);
             return response;
@@ -110,6 +102,46 @@ public class HomeService {
         }
     }
 
+    /**
+     * The user's objectives for the current quarter, the set every home section is built from
+     */
+    public List<Objective> findPersonalObjectives(String userId) {
+        logger.debug("Fetching objectives for user: {} and quarter: {}", userId, CURRENT_QUARTER);
+        List<Objective> objectives = objectiveRepository.findByOwnerIdAndQuarter(userId, CURRENT_QUARTER);
+        logger.info("Found {} objectives for user: {}", objectives.size(), userId);
+        return objectives;
+    }
+
+    public List<PersonalObjectiveResponse> toPersonalObjectives(List<Objective> objectives) {
+        Map<String, Instant> lastCheckIns = findLastCheckInDates(objectives);
+        return objectives.stream()
+            .map(obj -> mapToPersonalObjectiveResponse(obj, lastCheckIns.get(obj.getId())))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Same figures as {@link #getHomeSummary} computed from already loaded objectives and their key results
+     */
+    public HomeSummaryResponse summarize(List<Objective> objectives, List<KeyResult> keyResults) {
+        Map<String, Long> statusCounts = objectives.stream()
+            .filter(obj -> obj.getStatus() != null)
+            .collect(Collectors.groupingBy(obj -> obj.getStatus().name(), Collectors.counting()));
+        BigDecimal progressSum = objectives.stream()
+            .map(Objective::getProgress)
+            .filter(Objects::nonNull)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal keyResultProgressSum = keyResults.stream()
+            .map(kr -> ProgressContribution.progressOf(kr.getCurrentValue(), kr.getTargetValue()))
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        
+        return new HomeSummaryResponse(
+            average(progressSum, objectives.size()),
+            average(keyResultProgressSum, keyResults.size()),
+            0,
+            toStatusDistribution(statusCounts)
+        );
+    }
+
     /**
      * Get groups information for a user
      */
@@ -123,8 +155,10 @@ public class HomeService {
             List<Team> teams = teamRepository.findByManagerId(userId);
             logger.info("Found {} teams for user: {}", teams.size(), userId);
             
+            Map<String, ObjectiveRepository.TeamProgressAggregate> aggregatesByTeam = aggregateTeams(teams);
+            
             List<GroupInfoResponse> response = teams.stream()
-                .map(team -> mapToGroupInfoResponse(team))
+                .map(team -> mapToGroupInfoResponse(team, aggregatesByTeam.get(team.getId())))
                 .collect(Collectors.toList());
             
             logger.info("Successfully mapped {} groups for user: {}", response.size(), userId);
@@ -136,88 +170,71 @@ public class HomeService {
         }
     }
 
-    private int calculateAverageProgress(List<Objective> objectives) {
-        logger.debug("Calculating average progress for {} objectives", objectives.size());
-        
-        if (objectives.isEmpty()) {
+    private int averageObjectiveProgress(List<? extends ObjectiveRepository.ProgressAggregate> aggregates) {
+        long objectiveCount = aggregates.stream()
+            .mapToLong(ObjectiveRepository.ProgressAggregate::getObjectiveCount)
+            .sum();
+        if (objectiveCount == 0) {
             logger.debug("No objectives found, returning 0% progress");
             return 0;
         }
         
-        BigDecimal totalProgress = objectives.stream()
-            .filter(obj -> obj.getProgress() != null)
-            .map(Objective::getProgress)
+        BigDecimal totalProgress = aggregates.stream()
+            .map(ObjectiveRepository.ProgressAggregate::getProgressSum)
+            .filter(Objects::nonNull)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
         
-        int result = totalProgress.divide(BigDecimal.valueOf(objectives.size()), 0, java.math.RoundingMode.HALF_UP).intValue();
-        logger.debug("Average progress calculated: {}%", result);
-        return result;
+        return average(totalProgress, objectiveCount);
     }
 
-    private int calculateMetricsProgress(List<Objective> objectives) {
-        logger.debug("Calculating metrics progress for {} objectives", objectives.size());
-        
-        if (objectives.isEmpty()) {
-            logger.debug("No objectives found, returning 0% metrics progress");
-            return 0;
-        }
-        
-        List<KeyResult> allKeyResults = objectives.stream()
-            .map(obj -> {
-                logger.debug("Fetching key results for objective: {}", obj.getId());
-                return keyResultRepository.findByObjectiveId(obj.getId());
-            })
-            .flatMap(List::stream)
-            .collect(Collectors.toList());
-        
-        logger.debug("Found {} key results across all objectives", allKeyResults.size());
-        
-        if (allKeyResults.isEmpty()) {
+    private int averageMetricsProgress(List<? extends ObjectiveRepository.ProgressAggregate> aggregates) {
+        long keyResultCount = aggregates.stream()
+            .mapToLong(ObjectiveRepository.ProgressAggregate::getKeyResultCount)
+            .sum();
+        if (keyResultCount == 0) {
             logger.debug("No key results found, returning 0% metrics progress");
             return 0;
         }
         
-        // Calculate average progress of key results
-        BigDecimal totalProgress = allKeyResults.stream()
-            .filter(kr -> kr.getCurrentValue() != null && kr.getTargetValue() != null && kr.getTargetValue().compareTo(BigDecimal.ZERO) > 0)
-            .map(kr -> {
-                BigDecimal progress = kr.getCurrentValue().divide(kr.getTargetValue(), 4, java.math.RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100));
-                logger.debug("Key result {} progress: {}%", kr.getId(), progress);
-                return progress;
-            })
+        BigDecimal totalProgress = aggregates.stream()
+            .map(ObjectiveRepository.ProgressAggregate::getKeyResultProgressSum)
+            .filter(Objects::nonNull)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
         
-        int result = totalProgress.divide(BigDecimal.valueOf(allKeyResults.size()), 0, java.math.RoundingMode.HALF_UP).intValue();
-        logger.debug("Metrics progress calculated: {}%", result);
-        return result;
+        return average(totalProgress, keyResultCount);
     }
 
-    private StatusDistributionResponse calculateStatusDistribution(List<Objective> objectives) {
-        logger.debug("Calculating status distribution for {} objectives", objectives.size());
-        
-        Map<ObjectiveStatus, Long> statusCounts = objectives.stream()
-            .filter(obj -> obj.getStatus() != null)
-            .collect(Collectors.groupingBy(Objective::getStatus, Collectors.counting()));
-        
-        StatusDistributionResponse response = new StatusDistributionResponse(
-            statusCounts.getOrDefault(ObjectiveStatus.NOT_STARTED, 0L).intValue(),
-            statusCounts.getOrDefault(ObjectiveStatus.AT_RISK, 0L).intValue(),
-            statusCounts.getOrDefault(ObjectiveStatus.BEHIND, 0L).intValue(),
-            statusCounts.getOrDefault(ObjectiveStatus.ON_TRACK, 0L).intValue(),
-            statusCounts.getOrDefault(ObjectiveStatus.CLOSED, 0L).intValue(),
-            statusCounts.getOrDefault(ObjectiveStatus.ABANDONED, 0L).intValue()
+    private static int average(BigDecimal total, long count) {
+        if (count == 0) {
+            return 0;
+        }
+        return total.divide(BigDecimal.valueOf(count), 0, java.math.RoundingMode.HALF_UP).intValue();
+    }
+
+    private StatusDistributionResponse toStatusDistribution(List<ObjectiveRepository.StatusProgressAggregate> aggregates) {
+        Map<String, Long> statusCounts = aggregates.stream()
+            .filter(row -> row.getStatus() != null)
+            .collect(Collectors.toMap(ObjectiveRepository.StatusProgressAggregate::getStatus,
+                ObjectiveRepository.StatusProgressAggregate::getObjectiveCount));
+        return toStatusDistribution(statusCounts);
+    }
+
+    private StatusDistributionResponse toStatusDistribution(Map<String, Long> statusCounts) {
+        return new StatusDistributionResponse(
+            statusCounts.getOrDefault(ObjectiveStatus.NOT_STARTED.name(), 0L).intValue(),
+            statusCounts.getOrDefault(ObjectiveStatus.AT_RISK.name(), 0L).intValue(),
+            statusCounts.getOrDefault(ObjectiveStatus.BEHIND.name(), 0L).intValue(),
+            statusCounts.getOrDefault(ObjectiveStatus.ON_TRACK.name(), 0L).intValue(),
+            statusCounts.getOrDefault(ObjectiveStatus.CLOSED.name(), 0L).intValue(),
+            statusCounts.getOrDefault(ObjectiveStatus.ABANDONED.name(), 0L).intValue()
         );
-        
-        logger.debug("Status distribution calculated: {}", response);
-        return response;
     }
 
-    private PersonalObjectiveResponse mapToPersonalObjectiveResponse(Objective objective) {
+    private PersonalObjectiveResponse mapToPersonalObjectiveResponse(Objective objective, Instant lastCheckInDate) {
         logger.debug("Mapping objective to PersonalObjectiveResponse: {}", objective.getId());
         
         try {
-            // Get last check-in date for this objective
-            String lastCheckIn = getLastCheckInForObjective(objective.getId());
+            String lastCheckIn = lastCheckInDate != null ? lastCheckInDate.toString() : null;
             
             // Format due date
             String dueDate = objective.getEndDate() != null ? 
@@ -242,88 +259,50 @@ public class HomeService {
         }
     }
 
-    private String getLastCheckInForObjective(String objectiveId) {
-        logger.debug("Getting last check-in for objective: {}", objectiveId);
+    private Map<String, Instant> findLastCheckInDates(List<Objective> objectives) {
+        if (objectives.isEmpty()) {
+            return Map.of();
+        }
         
         try {
-            // Get all key results for this objective
-            List<KeyResult> keyResults = keyResultRepository.findByObjectiveId(objectiveId);
-            logger.debug("Found {} key results for objective: {}", keyResults.size(), objectiveId);
-            
-            if (keyResults.isEmpty()) {
-                logger.debug("No key results found for objective: {}", objectiveId);
-                return null;
-            }
-            
-            // Find the most recent check-in across all key results
-            Optional<CheckIn> lastCheckIn = keyResults.stream()
-                .map(kr -> {
-                    logger.debug("Fetching check-ins for key result: {}", kr.getId());
-                    return checkInRepository.findByKeyResultIdOrderByCreatedDateDesc(kr.getId());
-                })
-                .flatMap(List::stream)
-                .max(Comparator.comparing(CheckIn::getCreatedDate));
-            
-            String result = lastCheckIn.map(checkIn -> {
-                logger.debug("Found last check-in: {} for objective: {}", checkIn.getId(), objectiveId);
-                return checkIn.getCreatedDate().toString();
-            }).orElse(null);
-            
-            logger.debug("Last check-in for objective {}: {}", objectiveId, result);
+            List<String> objectiveIds = objectives.stream().map(Objective::getId).collect(Collectors.toList());
+            Map<String, Instant> result = checkInService.findLastCheckInDates(objectiveIds);
+            logger.debug("Resolved last check-in for {} of {} objectives", result.size(), objectives.size());
             return result;
             
         } catch (Exception e) {
-            logger.error("Error getting last check-in for objective: {}", objectiveId, e);
-            return null; // Return null instead of throwing to avoid breaking the whole request
+            logger.error("Error getting last check-ins for {} objectives", objectives.size(), e);
+            return Map.of(); // Return empty instead of throwing to avoid breaking the whole request
         }
     }
 
-    private GroupInfoResponse mapToGroupInfoResponse(Team team) {
+    private Map<String, ObjectiveRepository.TeamProgressAggregate> aggregateTeams(List<Team> teams) {
+        if (teams.isEmpty()) {
+            return Map.of();
+        }
+        
+        String currentQuarter = CURRENT_QUARTER;
+        List<String> teamIds = teams.stream().map(Team::getId).collect(Collectors.toList());
+        logger.debug("Aggregating objectives for {} teams and quarter: {}", teamIds.size(), currentQuarter);
+        return objectiveRepository.aggregateByTeamIdsAndQuarter(teamIds, currentQuarter).stream()
+            .collect(Collectors.toMap(ObjectiveRepository.TeamProgressAggregate::getTeamId, row -> row));
+    }
+
+    private GroupInfoResponse mapToGroupInfoResponse(Team team, ObjectiveRepository.TeamProgressAggregate aggregate) {
         logger.debug("Mapping team to GroupInfoResponse: {}", team.getId());
         
-        try {
-            String currentQuarter = "Q1 2024";
-            
-            // Get objectives for this team
-            logger.debug("Fetching objectives for team: {} and quarter: {}", team.getId(), currentQuarter);
-            List<Objective> teamObjectives = objectiveRepository.findByTeamIdAndQuarter(team.getId(), currentQuarter);
-            logger.debug("Found {} objectives for team: {}", teamObjectives.size(), team.getId());
-            
-            // Count objectives
-            int objectivesCount = teamObjectives.size();
-            
-            // Count metrics (key results)
-            int metricsCount = teamObjectives.stream()
-                .mapToInt(obj -> {
-                    List<KeyResult> keyResults = keyResultRepository.findByObjectiveId(obj.getId());
-                    logger.debug("Found {} key results for objective: {}", keyResults.size(), obj.getId());
-                    return keyResults.size();
-                })
-                .sum();
-            
-            logger.debug("Total metrics count for team {}: {}", team.getId(), metricsCount);
-            
-            // Calculate average objectives progress
-            int avgObjectivesProgress = calculateAverageProgress(teamObjectives);
-            
-            // Calculate average metrics progress
-            int avgMetricsProgress = calculateMetricsProgress(teamObjectives);
-            
-            GroupInfoResponse response = new GroupInfoResponse(
-                team.getId(),
-                team.getName(),
-                objectivesCount,
-                metricsCount,
-                avgObjectivesProgress,
-                avgMetricsProgress
-            );
-            
-            logger.debug("Successfully mapped team: {}", team.getId());
-            return response;
-            
-        } catch (Exception e) {
-            logger.error("Error mapping team to GroupInfoResponse: {}", team.getId(), e);
-            throw new RuntimeException("Failed to map team: " + e.getMessage(), e);
-        }
+        List<ObjectiveRepository.TeamProgressAggregate> aggregates = aggregate != null ? List.of(aggregate) : List.of();
+        
+        GroupInfoResponse response = new GroupInfoResponse(
+            team.getId(),
+            team.getName(),
+            aggregate != null ? aggregate.getObjectiveCount().intValue() : 0,
+            aggregate != null ? aggregate.getKeyResultCount().intValue() : 0,
+            averageObjectiveProgress(aggregates),
+            averageMetricsProgress(aggregates)
+        );
+        
+        logger.debug("Successfully mapped team: {}", team.getId());
+        return response;
     }
 }
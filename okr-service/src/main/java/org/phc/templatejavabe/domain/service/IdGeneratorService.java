@@ -2,40 +2,73 @@ package org.phc.templatejavabe.domain.service;
 
 import org.springframework.stereotype.Service;
 
-import java.security.SecureRandom;
-import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class IdGeneratorService {
-    
-    private static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
     private static final int ID_LENGTH = 26;
-    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final long RANDOM_HIGH_MASK = 0xFFFFL;
+
+    private final AtomicReference<State> last = new AtomicReference<>(new State(0, 0, 0));
 
     /**
-     * Generate a ULID-like ID (26 characters)
+     * Generate a monotonic ULID (26 characters)
      * Format: TTTTTTTTTTRRRRRRRRRRRRRRRR
-     * T = Timestamp (10 chars)
-     * R = Random (16 chars)
+     * T = Timestamp, 48-bit epoch millis (10 chars)
+     * R = Random, 80 bits (16 chars)
+     *
+     * Within one millisecond the random part of the previous id is incremented instead of redrawn, so ids
+     * are strictly increasing across all threads. Lock-free: concurrent callers retry a CAS on the last state.
      */
     public String generateId() {
-        long timestamp = Instant.now().toEpochMilli();
-        
-        // Convert timestamp to base32
-        StringBuilder id = new StringBuilder();
-        
+        return encode(next());
+    }
+
+    private State next() {
+        while (true) {
+            State previous = last.get();
+            long now = System.currentTimeMillis();
+            State candidate;
+            if (now > previous.millis) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                candidate = new State(now, random.nextLong() & RANDOM_HIGH_MASK, random.nextLong());
+            } else {
+                // Same millisecond (or the clock stepped back): previous + 1, carrying into the next ms on overflow
+                long low = previous.randomLow + 1;
+                long high = low == 0 ? (previous.randomHigh + 1) & RANDOM_HIGH_MASK : previous.randomHigh;
+                long millis = (low == 0 && high == 0) ? previous.millis + 1 : previous.millis;
+                candidate = new State(millis, high, low);
+            }
+            if (last.compareAndSet(previous, candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    private static String encode(State state) {
+        char[] id = new char[ID_LENGTH];
+
         // Timestamp part (10 characters)
-        long temp = timestamp;
-        for (int i = 0; i < 10; i++) {
-            id.insert(0, ALPHABET.charAt((int) (temp % 32)));
-            temp /= 32;
+        long time = state.millis;
+        for (int i = 9; i >= 0; i--) {
+            id[i] = ALPHABET[(int) (time & 31)];
+            time >>>= 5;
         }
-        
-        // Random part (16 characters)
-        for (int i = 0; i < 16; i++) {
-            id.append(ALPHABET.charAt(RANDOM.nextInt(32)));
+
+        // Random part (16 characters), shifting 5 bits at a time across the two words
+        long high = state.randomHigh;
+        long low = state.randomLow;
+        for (int i = ID_LENGTH - 1; i >= 10; i--) {
+            id[i] = ALPHABET[(int) (low & 31)];
+            low = (low >>> 5) | (high << 59);
+            high >>>= 5;
         }
-        
-        return id.toString();
+
+        return new String(id);
     }
+
+    private record State(long millis, long randomHigh, long randomLow) {}
 }
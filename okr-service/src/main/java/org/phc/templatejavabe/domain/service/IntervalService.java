@@ -14,7 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +25,9 @@ public class IntervalService {
     @Autowired
     private IntervalRepository intervalRepository;
 
+    @Autowired
+    private IdGeneratorService idGeneratorService;
+
     public IntervalResponse createInterval(CreateIntervalRequest request, String userId) {
         logger.info("Creating interval: {} for workspace: {} by user: {}", request.getName(), request.getWorkspaceId(), userId);
 
@@ -54,7 +56,7 @@ public class IntervalService {
 
         // Create interval
         Interval interval = new Interval();
-        interval.setId(generateId());
+        interval.setId(idGeneratorService.generateId());
         interval.setName(request.getName());
         interval.setDescription(request.getDescription());
         interval.setWorkspaceId(request.getWorkspaceId());
@@ -234,10 +236,6 @@ public class IntervalService {
                 .map(IntervalMapper::toResponse)
                 .collect(Collectors.toList());
     }
-
-    private String generateId() {
-        return UUID.randomUUID().toString().replace("-", "").substring(0, 26);
-    }
 }
 
 
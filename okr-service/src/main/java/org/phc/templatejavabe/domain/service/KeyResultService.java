@@ -2,19 +2,45 @@ package org.phc.templatejavabe.domain.service;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import org.phc.templatejavabe.domain.model.KeyResult;
+import org.phc.templatejavabe.domain.model.KeyResultChanged;
 import org.phc.templatejavabe.domain.model.MetricType;
+import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.domain.model.ProgressContribution;
+import org.phc.templatejavabe.infrastructure.cache.DashboardSnapshotCache;
+import org.phc.templatejavabe.infrastructure.cache.RecentCheckInBuffer;
 import org.phc.templatejavabe.infrastructure.repository.KeyResultRepository;
+import org.phc.templatejavabe.infrastructure.repository.ObjectiveRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class KeyResultService {
     private final KeyResultRepository keyResultRepository;
-
-    public KeyResultService(KeyResultRepository keyResultRepository) {
+    private final ObjectiveRepository objectiveRepository;
+    private final DashboardSnapshotCache dashboardSnapshotCache;
+    private final ProgressRollupService progressRollupService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final RecentCheckInBuffer recentCheckInBuffer;
+    private final CheckInRollupService checkInRollupService;
+
+    public KeyResultService(KeyResultRepository keyResultRepository,
+                           ObjectiveRepository objectiveRepository,
+                           DashboardSnapshotCache dashboardSnapshotCache,
+                           ProgressRollupService progressRollupService,
+                           DomainEventPublisher domainEventPublisher,
+                           RecentCheckInBuffer recentCheckInBuffer,
+                           CheckInRollupService checkInRollupService) {
         this.keyResultRepository = keyResultRepository;
+        this.objectiveRepository = objectiveRepository;
+        this.dashboardSnapshotCache = dashboardSnapshotCache;
+        this.progressRollupService = progressRollupService;
+        this.domainEventPublisher = domainEventPublisher;
+        this.recentCheckInBuffer = recentCheckInBuffer;
+        this.checkInRollupService = checkInRollupService;
     }
 
     public List<KeyResult> findAll() {
@@ -36,17 +62,71 @@ public class KeyResultService {
         if (keyResult.getWeight() == null) {
             keyResult.setWeight(BigDecimal.ONE);
         }
-        return keyResultRepository.save(keyResult);
+        KeyResult saved = keyResultRepository.save(keyResult);
+        progressRollupService.keyResultAdded(saved);
+        Objective objective = evictDashboard(saved.getObjectiveId());
+        publishChanged(saved, objective, true);
+        return saved;
+    }
+
+    /**
+     * Lock a key result before changing its value, weight or target; see {@link ProgressRollupService#lock}
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(KeyResult keyResult) {
+        progressRollupService.lock(List.of(keyResult));
     }
 
     @Transactional
     public KeyResult update(KeyResult keyResult) {
+        // The caller's changes are not flushed yet, so the lock still reads the stored contribution
+        lock(keyResult);
+        String storedObjectiveId = keyResult.getRolledUp() != null ? keyResult.getRolledUp().objectiveId() : null;
+        KeyResult saved = save(keyResult);
+        Objective objective = evictDashboard(saved.getObjectiveId());
+        if (storedObjectiveId != null && !storedObjectiveId.equals(saved.getObjectiveId())) {
+            // Re-parented: its check-ins follow it when the new objective is in another workspace
+            String fromWorkspaceId = objectiveRepository.findById(storedObjectiveId)
+                .map(Objective::getWorkspaceId).orElse(null);
+            String toWorkspaceId = objective != null ? objective.getWorkspaceId() : null;
+            checkInRollupService.moveKeyResults(List.of(saved.getId()), fromWorkspaceId, toWorkspaceId);
+            if (!Objects.equals(fromWorkspaceId, toWorkspaceId)) {
+                recentCheckInBuffer.onMoved(fromWorkspaceId, toWorkspaceId);
+            }
+        }
+        publishChanged(saved, objective, false);
+        return saved;
+    }
+
+    /**
+     * Same as {@link #update} for a current value set by a check-in, which publishes its own event.
+     * The caller must have {@link #lock locked} the key result before setting the value.
+     */
+    @Transactional
+    public KeyResult applyCheckIn(KeyResult keyResult) {
+        KeyResult saved = save(keyResult);
+        evictDashboard(saved.getObjectiveId());
+        return saved;
+    }
+
+    private KeyResult save(KeyResult keyResult) {
         validateMetric(keyResult);
-        return keyResultRepository.save(keyResult);
+        KeyResult saved = keyResultRepository.save(keyResult);
+        progressRollupService.keyResultChanged(saved);
+        return saved;
     }
 
     @Transactional
     public void delete(String id) {
+        keyResultRepository.findById(id).ifPresent(kr -> {
+            lock(kr);
+            progressRollupService.keyResultRemoved(kr);
+            Objective objective = evictDashboard(kr.getObjectiveId());
+            String workspaceId = objective != null ? objective.getWorkspaceId() : null;
+            // Check-ins go with the key result (ON DELETE CASCADE)
+            checkInRollupService.moveKeyResults(List.of(id), workspaceId, null);
+            recentCheckInBuffer.onDeleted(workspaceId);
+        });
         keyResultRepository.deleteById(id);
     }
 
@@ -54,9 +134,25 @@ public class KeyResultService {
     public KeyResult updateProgress(String keyResultId, BigDecimal newValue) {
         KeyResult keyResult = keyResultRepository.findById(keyResultId)
             .orElseThrow(() -> new IllegalArgumentException("Key Result không tồn tại"));
+        lock(keyResult);
         
         keyResult.setCurrentValue(newValue);
-        return keyResultRepository.save(keyResult);
+        KeyResult saved = keyResultRepository.save(keyResult);
+        progressRollupService.keyResultChanged(saved);
+        evictDashboard(saved.getObjectiveId());
+        return saved;
+    }
+
+    /**
+     * Reject a check-in value the key result could not take as its current value
+     */
+    public void validateCheckInValue(KeyResult keyResult, BigDecimal value) {
+        if (value == null || value.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Current value không được âm");
+        }
+        if (keyResult.getMetricType() == MetricType.PERCENT && value.compareTo(BigDecimal.valueOf(100)) > 0) {
+            throw new IllegalArgumentException("Current value cho PERCENT metric không được vượt quá 100");
+        }
     }
 
     private void validateMetric(KeyResult keyResult) {
@@ -84,15 +180,7 @@ public class KeyResultService {
     }
 
     public BigDecimal calculateProgressPercentage(KeyResult keyResult) {
-        if (keyResult.getTargetValue() == null || keyResult.getTargetValue().compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.ZERO;
-        }
-        
-        BigDecimal progress = keyResult.getCurrentValue()
-            .divide(keyResult.getTargetValue(), 4, BigDecimal.ROUND_HALF_UP)
-            .multiply(BigDecimal.valueOf(100));
-        
-        return progress.min(BigDecimal.valueOf(100));
+        return ProgressContribution.progressOf(keyResult.getCurrentValue(), keyResult.getTargetValue());
     }
 
     /**
@@ -108,7 +196,27 @@ public class KeyResultService {
         duplicate.setTargetValue(source.getTargetValue());
         duplicate.setCurrentValue(BigDecimal.ZERO); // Reset current value
         duplicate.setWeight(source.getWeight() != null ? source.getWeight() : BigDecimal.ONE);
-        return keyResultRepository.save(duplicate);
+        KeyResult saved = keyResultRepository.save(duplicate);
+        progressRollupService.keyResultAdded(saved);
+        evictDashboard(saved.getObjectiveId());
+        return saved;
+    }
+
+    private void publishChanged(KeyResult keyResult, Objective objective, boolean created) {
+        domainEventPublisher.publish(new KeyResultChanged(keyResult.getId(), keyResult.getObjectiveId(),
+            objective != null ? objective.getWorkspaceId() : null, keyResult.getTitle(), created));
+    }
+
+    /**
+     * Evict the dashboard of the key result's objective; returns that objective, or null when it is gone
+     */
+    private Objective evictDashboard(String objectiveId) {
+        if (objectiveId == null) {
+            return null;
+        }
+        Objective objective = objectiveRepository.findById(objectiveId).orElse(null);
+        dashboardSnapshotCache.evict(objective);
+        return objective;
     }
 }
 
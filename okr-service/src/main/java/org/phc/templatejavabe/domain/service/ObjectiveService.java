@@ -1,14 +1,32 @@
 package org.phc.templatejavabe.domain.service;
 
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.domain.model.ObjectiveChanged;
+import org.phc.templatejavabe.domain.model.ObjectiveChildren;
+import org.phc.templatejavabe.domain.model.ObjectiveFilter;
+import org.phc.templatejavabe.domain.model.ObjectiveMoved;
+import org.phc.templatejavabe.domain.model.ObjectiveSlice;
 import org.phc.templatejavabe.domain.model.ObjectiveStatus;
 import org.phc.templatejavabe.domain.model.ObjectiveType;
 import org.phc.templatejavabe.domain.model.KeyResult;
+import org.phc.templatejavabe.infrastructure.cache.AlignmentGraphIndex;
+import org.phc.templatejavabe.infrastructure.cache.DashboardSnapshotCache;
+import org.phc.templatejavabe.infrastructure.cache.RecentCheckInBuffer;
 import org.phc.templatejavabe.infrastructure.repository.ObjectiveRepository;
 import org.phc.templatejavabe.infrastructure.repository.KeyResultRepository;
 import org.springframework.stereotype.Service;
@@ -16,12 +34,36 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ObjectiveService {
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final ObjectiveRepository objectiveRepository;
     private final KeyResultRepository keyResultRepository;
-
-    public ObjectiveService(ObjectiveRepository objectiveRepository, KeyResultRepository keyResultRepository) {
+    private final DashboardSnapshotCache dashboardSnapshotCache;
+    private final EntityManager entityManager;
+    private final ProgressRollupService progressRollupService;
+    private final AlignmentGraphIndex alignmentGraphIndex;
+    private final DomainEventPublisher domainEventPublisher;
+    private final RecentCheckInBuffer recentCheckInBuffer;
+    private final CheckInRollupService checkInRollupService;
+
+    public ObjectiveService(ObjectiveRepository objectiveRepository, 
+                           KeyResultRepository keyResultRepository,
+                           DashboardSnapshotCache dashboardSnapshotCache,
+                           EntityManager entityManager,
+                           ProgressRollupService progressRollupService,
+                           AlignmentGraphIndex alignmentGraphIndex,
+                           DomainEventPublisher domainEventPublisher,
+                           RecentCheckInBuffer recentCheckInBuffer,
+                           CheckInRollupService checkInRollupService) {
         this.objectiveRepository = objectiveRepository;
         this.keyResultRepository = keyResultRepository;
+        this.dashboardSnapshotCache = dashboardSnapshotCache;
+        this.entityManager = entityManager;
+        this.progressRollupService = progressRollupService;
+        this.alignmentGraphIndex = alignmentGraphIndex;
+        this.domainEventPublisher = domainEventPublisher;
+        this.recentCheckInBuffer = recentCheckInBuffer;
+        this.checkInRollupService = checkInRollupService;
     }
 
     public List<Objective> findAll() { return objectiveRepository.findAll(); }
@@ -43,10 +85,70 @@ public class ObjectiveService {
         return objectiveRepository.findByTeamIdAndQuarter(teamId, quarter);
     }
 
+    /**
+     * Keyset page of objectives in ULID order. Pass the {@code nextCursor} of a page back as
+     * {@code cursor} to read the following page; {@code limit} must be between 1 and 500.
+     */
+    public ObjectiveSlice findPage(ObjectiveFilter filter, int limit, String cursor) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit phải nằm trong khoảng 1 đến " + MAX_PAGE_SIZE);
+        }
+        String afterId = cursor != null ? decodeCursor(cursor) : null;
+        
+        // One extra row tells whether another page exists
+        List<Objective> rows = objectiveRepository.findPage(filter, afterId, limit + 1);
+        
+        if (rows.size() <= limit) {
+            return new ObjectiveSlice(rows, null);
+        }
+        List<Objective> page = rows.subList(0, limit);
+        return new ObjectiveSlice(page, encodeCursor(page.get(page.size() - 1).getId()));
+    }
+
+    /**
+     * Walk every matching objective through a database cursor, handing them over in chunks.
+     * The persistence context is cleared after each chunk so memory stays flat whatever the tenant size.
+     */
+    @Transactional(readOnly = true)
+    public void forEachChunk(ObjectiveFilter filter, int chunkSize, Consumer<List<Objective>> consumer) {
+        try (Stream<Objective> stream = objectiveRepository.streamAll(filter)) {
+            List<Objective> chunk = new ArrayList<>(chunkSize);
+            Iterator<Objective> it = stream.iterator();
+            while (it.hasNext()) {
+                chunk.add(it.next());
+                if (chunk.size() == chunkSize) {
+                    consumer.accept(chunk);
+                    entityManager.clear();
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                consumer.accept(chunk);
+            }
+        }
+    }
+
     public List<Objective> findKPIsByParentId(String parentId) {
         return objectiveRepository.findByParentIdAndType(parentId, ObjectiveType.KPI);
     }
 
+    /**
+     * Load key results and KPI children for all given objectives with one IN query each
+     */
+    public ObjectiveChildren loadChildren(Collection<Objective> objectives) {
+        List<String> ids = objectives.stream().map(Objective::getId).distinct().toList();
+        if (ids.isEmpty()) {
+            return new ObjectiveChildren(Map.of(), Map.of());
+        }
+        
+        Map<String, List<KeyResult>> keyResults = keyResultRepository.findByObjectiveIdInOrderByCreatedDateAsc(ids).stream()
+            .collect(Collectors.groupingBy(KeyResult::getObjectiveId));
+        Map<String, List<Objective>> kpis = objectiveRepository.findByParentIdInAndType(ids, ObjectiveType.KPI).stream()
+            .collect(Collectors.groupingBy(Objective::getParentId));
+        
+        return new ObjectiveChildren(keyResults, kpis);
+    }
+
     @Transactional
     public Objective create(Objective o) { 
         // Set default status
@@ -54,74 +156,52 @@ public class ObjectiveService {
             o.setStatus(ObjectiveStatus.NOT_STARTED);
         }
         o.setProgress(BigDecimal.ZERO);
-        return objectiveRepository.save(o); 
+        Objective saved = objectiveRepository.save(o);
+        // A new child dilutes its parents' progress when hierarchical roll-up is on
+        progressRollupService.objectivesChanged(List.of(saved.getId()));
+        dashboardSnapshotCache.evict(saved);
+        domainEventPublisher.publish(ObjectiveChanged.created(saved));
+        return saved;
     }
 
     @Transactional
     public Objective update(Objective o) { 
-        // Recalculate progress when updating
-        calculateProgress(o);
-        updateStatus(o);
-        return objectiveRepository.save(o); 
+        Objective saved = objectiveRepository.save(o);
+        // Recalculate progress when updating; saved first so a new weight or parent reaches the roll-up
+        calculateProgress(saved);
+        updateStatus(saved);
+        // Quarter may have been changed by the caller, so drop every quarter of the workspace
+        dashboardSnapshotCache.evictWorkspace(saved.getWorkspaceId());
+        alignmentGraphIndex.evictObjective(saved.getId());
+        domainEventPublisher.publish(ObjectiveChanged.updated(saved));
+        return saved;
     }
 
     @Transactional
     public void deleteById(String id) { 
-        // Delete all key results first
         List<KeyResult> keyResults = keyResultRepository.findByObjectiveId(id);
+        objectiveRepository.findById(id).ifPresent(objective -> {
+            dashboardSnapshotCache.evict(objective);
+            // Check-ins go with the key results (ON DELETE CASCADE)
+            checkInRollupService.moveKeyResults(keyResults.stream().map(KeyResult::getId).toList(),
+                objective.getWorkspaceId(), null);
+            recentCheckInBuffer.onDeleted(objective.getWorkspaceId());
+        });
+        List<String> parentIds = progressRollupService.parentsOf(id);
+        
+        // Delete all key results first
         keyResultRepository.deleteAll(keyResults);
         objectiveRepository.deleteById(id); 
+        // Alignments go with the objective (ON DELETE CASCADE)
+        alignmentGraphIndex.evictObjective(id);
+        progressRollupService.objectivesChanged(parentIds);
     }
 
     /**
-     * Calculate progress based on weighted average of all Key Results
+     * Calculate progress based on weighted average of all Key Results, re-seeding the roll-up sums
      */
     public void calculateProgress(Objective objective) {
-        List<KeyResult> keyResults = keyResultRepository.findByObjectiveId(objective.getId());
-        
-        if (keyResults.isEmpty()) {
-            objective.setProgress(BigDecimal.ZERO);
-            return;
-        }
-
-        // Calculate weighted progress
-        BigDecimal totalWeightedProgress = BigDecimal.ZERO;
-        BigDecimal totalWeight = BigDecimal.ZERO;
-
-        for (KeyResult kr : keyResults) {
-            BigDecimal progress = calculateKeyResultProgress(kr);
-            BigDecimal weight = kr.getWeight() != null ? kr.getWeight() : BigDecimal.ONE;
-            
-            totalWeightedProgress = totalWeightedProgress.add(progress.multiply(weight));
-            totalWeight = totalWeight.add(weight);
-        }
-
-        if (totalWeight.compareTo(BigDecimal.ZERO) == 0) {
-            objective.setProgress(BigDecimal.ZERO);
-        } else {
-            BigDecimal weightedAverage = totalWeightedProgress.divide(totalWeight, 2, RoundingMode.HALF_UP);
-            objective.setProgress(weightedAverage);
-        }
-    }
-
-    /**
-     * Calculate progress percentage for a Key Result
-     */
-    private BigDecimal calculateKeyResultProgress(KeyResult keyResult) {
-        if (keyResult.getTargetValue() == null || keyResult.getTargetValue().compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.ZERO;
-        }
-
-        if (keyResult.getCurrentValue() == null) {
-            return BigDecimal.ZERO;
-        }
-
-        BigDecimal progress = keyResult.getCurrentValue()
-            .divide(keyResult.getTargetValue(), 4, RoundingMode.HALF_UP)
-            .multiply(BigDecimal.valueOf(100));
-
-        // Cap at 100%
-        return progress.min(BigDecimal.valueOf(100));
+        objective.setProgress(progressRollupService.recompute(objective.getId()));
     }
 
     /**
@@ -218,7 +298,9 @@ public class ObjectiveService {
             duplicateKr.setCurrentValue(BigDecimal.ZERO); // Reset current value
             keyResultRepository.save(duplicateKr);
         }
+        progressRollupService.recompute(savedObjective.getId());
         
+        dashboardSnapshotCache.evict(savedObjective);
         return savedObjective;
     }
 
@@ -227,15 +309,38 @@ public class ObjectiveService {
      */
     @Transactional
     public Objective move(Objective objective, String newTeamId, String newWorkspaceId) {
+        String fromWorkspaceId = objective.getWorkspaceId();
+        String fromTeamId = objective.getTeamId();
+        dashboardSnapshotCache.evict(objective.getWorkspaceId(), objective.getQuarter());
         if (newTeamId != null && !newTeamId.trim().isEmpty()) {
             objective.setTeamId(newTeamId);
         }
         if (newWorkspaceId != null && !newWorkspaceId.trim().isEmpty()) {
             objective.setWorkspaceId(newWorkspaceId);
         }
-        return objectiveRepository.save(objective);
+        Objective saved = objectiveRepository.save(objective);
+        dashboardSnapshotCache.evict(saved);
+        alignmentGraphIndex.evictObjective(saved.getId());
+        if (!Objects.equals(fromWorkspaceId, saved.getWorkspaceId())) {
+            List<String> keyResultIds = keyResultRepository.findByObjectiveId(saved.getId()).stream()
+                .map(KeyResult::getId).toList();
+            checkInRollupService.moveKeyResults(keyResultIds, fromWorkspaceId, saved.getWorkspaceId());
+            recentCheckInBuffer.onMoved(fromWorkspaceId, saved.getWorkspaceId());
+        }
+        domainEventPublisher.publish(new ObjectiveMoved(saved.getId(), saved.getTitle(), fromWorkspaceId,
+            saved.getWorkspaceId(), fromTeamId, saved.getTeamId()));
+        return saved;
     }
-}
-
 
+    private String encodeCursor(String lastId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(lastId.getBytes(StandardCharsets.UTF_8));
+    }
 
+    private String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package org.phc.templatejavabe.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import org.phc.templatejavabe.domain.model.DomainEvent;
+import org.phc.templatejavabe.domain.model.EventEnvelope;
+import org.phc.templatejavabe.infrastructure.config.OutboxProperties;
+import org.phc.templatejavabe.infrastructure.repository.OutboxRepository;
+import org.phc.templatejavabe.infrastructure.repository.OutboxRepository.OutboxRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Delivers committed outbox events to every {@link DomainEventSubscriber} from a single background thread,
+ * in batches of up to {@code app.outbox.batch-size}.
+ *
+ * <p>An event is deleted once all subscribers have handled it. When one fails, the subscribers that did handle
+ * it are recorded on the row, and the event is leased again after an exponential backoff and redelivered only to
+ * the others, until {@code max-attempts} is reached; it is then left in the table with its last error. Claims
+ * skip rows locked by other instances, so several instances can dispatch the same outbox.</p>
+ */
+@Service
+public class OutboxDispatcher implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final long SHUTDOWN_WAIT_SECONDS = 10;
+    private static final int MAX_ERROR_LENGTH = 512;
+    private static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES =
+        Arrays.stream(DomainEvent.class.getPermittedSubclasses())
+            .collect(Collectors.toMap(Class::getSimpleName, type -> type.asSubclass(DomainEvent.class)));
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    // Looked up on first dispatch: subscribers may themselves publish events
+    private final ObjectProvider<DomainEventSubscriber> subscriberProvider;
+    private final OutboxProperties props;
+
+    private List<DomainEventSubscriber> subscribers;
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    public OutboxDispatcher(OutboxRepository outboxRepository,
+                            ObjectMapper objectMapper,
+                            ObjectProvider<DomainEventSubscriber> subscriberProvider,
+                            OutboxProperties props) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.subscriberProvider = subscriberProvider;
+        this.props = props;
+    }
+
+    /**
+     * Dispatch now instead of at the next poll; called after a transaction that published events commits
+     */
+    public void wakeUp() {
+        Thread current = worker;
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::dispatchLoop, "outbox-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        // Undelivered events stay in the outbox for the next start
+        running = false;
+        Thread current = worker;
+        if (current != null) {
+            LockSupport.unpark(current);
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_WAIT_SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        worker = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            int claimed = 0;
+            try {
+                claimed = dispatchBatch();
+            } catch (RuntimeException e) {
+                logger.error("Outbox dispatch failed", e);
+            }
+            // A full batch means more are waiting; otherwise sleep until a commit wakes us or the poll is due
+            if (claimed < props.getBatchSize()) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(props.getPollMillis()));
+            }
+        }
+    }
+
+    /**
+     * Claim, deliver and acknowledge one batch; returns the number of events claimed.
+     * Only called from the dispatcher thread.
+     */
+    int dispatchBatch() {
+        Instant now = Instant.now();
+        List<OutboxRecord> records = new ArrayList<>(outboxRepository.claim(now,
+            now.plusSeconds(props.getLeaseSeconds()), props.getMaxAttempts(), props.getBatchSize()));
+        if (records.isEmpty()) {
+            return 0;
+        }
+        // Ids are ULIDs, so id order is publication order
+        records.sort(Comparator.comparing(OutboxRecord::id));
+
+        Map<String, String> failures = new LinkedHashMap<>();
+        List<EventEnvelope> envelopes = new ArrayList<>(records.size());
+        for (OutboxRecord record : records) {
+            try {
+                envelopes.add(decode(record));
+            } catch (RuntimeException e) {
+                // Possibly published by a newer version of the application; retried like any failure
+                failures.put(record.id(), describe(e));
+                logger.warn("Cannot decode outbox event {} ({})", record.id(), record.eventType(), e);
+            }
+        }
+        if (subscribers == null) {
+            subscribers = subscriberProvider.orderedStream().toList();
+        }
+        // Subscribers that have handled each event, on this attempt or an earlier one
+        Map<String, Set<String>> handledBy = new HashMap<>();
+        for (OutboxRecord record : records) {
+            handledBy.put(record.id(), new LinkedHashSet<>(record.deliveredTo()));
+        }
+        for (DomainEventSubscriber subscriber : subscribers) {
+            String name = nameOf(subscriber);
+            List<EventEnvelope> pending = envelopes.stream()
+                .filter(envelope -> !handledBy.get(envelope.id()).contains(name))
+                .toList();
+            deliver(subscriber, name, pending, handledBy, failures);
+        }
+
+        List<String> delivered = records.stream()
+            .map(OutboxRecord::id)
+            .filter(id -> !failures.containsKey(id))
+            .toList();
+        if (!delivered.isEmpty()) {
+            outboxRepository.deleteAll(delivered);
+        }
+        for (OutboxRecord record : records) {
+            String error = failures.get(record.id());
+            if (error != null) {
+                retry(record, error, handledBy.get(record.id()), now);
+            }
+        }
+        return records.size();
+    }
+
+    private void deliver(DomainEventSubscriber subscriber, String name, List<EventEnvelope> envelopes,
+                         Map<String, Set<String>> handledBy, Map<String, String> failures) {
+        if (envelopes.isEmpty()) {
+            return;
+        }
+        try {
+            subscriber.onEvents(envelopes);
+            envelopes.forEach(envelope -> handledBy.get(envelope.id()).add(name));
+        } catch (RuntimeException e) {
+            if (envelopes.size() == 1) {
+                fail(name, envelopes.get(0), e, failures);
+                return;
+            }
+            // One at a time, so a single bad event does not hold back the rest of the batch
+            for (EventEnvelope envelope : envelopes) {
+                try {
+                    subscriber.onEvents(List.of(envelope));
+                    handledBy.get(envelope.id()).add(name);
+                } catch (RuntimeException single) {
+                    fail(name, envelope, single, failures);
+                }
+            }
+        }
+    }
+
+    private void fail(String name, EventEnvelope envelope, RuntimeException e, Map<String, String> failures) {
+        failures.putIfAbsent(envelope.id(), name + ": " + describe(e));
+        logger.warn("{} failed on outbox event {} ({}, attempt {})", name, envelope.id(),
+            envelope.event().typeName(), envelope.attempt(), e);
+    }
+
+    private void retry(OutboxRecord record, String error, Set<String> deliveredTo, Instant now) {
+        if (record.attempts() >= props.getMaxAttempts()) {
+            logger.error("Giving up on outbox event {} ({}) after {} attempts: {}", record.id(), record.eventType(),
+                record.attempts(), error);
+        }
+        long backoff = Math.min(props.getRetryBackoffMillis() << Math.min(record.attempts() - 1, 20),
+            props.getMaxRetryBackoffMillis());
+        String truncated = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        outboxRepository.retryAt(record.id(), now.plusMillis(backoff), truncated, deliveredTo);
+    }
+
+    private EventEnvelope decode(OutboxRecord record) {
+        Class<? extends DomainEvent> type = EVENT_TYPES.get(record.eventType());
+        if (type == null) {
+            throw new IllegalStateException("Unknown event type " + record.eventType());
+        }
+        try {
+            return new EventEnvelope(record.id(), record.occurredAt(), record.actorId(), record.attempts(),
+                objectMapper.readValue(record.payload(), type));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable " + record.eventType() + " payload", e);
+        }
+    }
+
+    private static String nameOf(DomainEventSubscriber subscriber) {
+        return ClassUtils.getUserClass(subscriber).getSimpleName();
+    }
+
+    private static String describe(RuntimeException e) {
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+}
@@ -0,0 +1,155 @@
+package org.phc.templatejavabe.domain.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.phc.templatejavabe.infrastructure.config.PasswordHashingProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Runs BCrypt on a small dedicated pool so a login storm cannot occupy every request thread.
+ *
+ * <p>At most {@code max-concurrency} hashes run at once and {@code queue-capacity} wait behind them.
+ * A caller that finds the queue full, or whose hash has not started within {@code queue-timeout-millis},
+ * gets a 429 straight away instead of holding its request thread.</p>
+ */
+@Service
+public class PasswordHashingService {
+    private static final int QUEUED = 0;
+    private static final int RUNNING = 1;
+    private static final int ABANDONED = 2;
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingProperties props;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedFull;
+    private final Counter rejectedTimeout;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  PasswordHashingProperties props,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.props = props;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(props.getMaxConcurrency(), props.getMaxConcurrency(),
+            0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(props.getQueueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.queueWaitTimer = Timer.builder("auth.password.hash.queue.wait")
+            .description("Time a password hash waited for a worker")
+            .register(meterRegistry);
+        this.rejectedFull = rejectedCounter(meterRegistry, "queue_full");
+        this.rejectedTimeout = rejectedCounter(meterRegistry, "queue_timeout");
+        Gauge.builder("auth.password.hash.queue.depth", executor, e -> e.getQueue().size())
+            .description("Password hashes waiting for a worker")
+            .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Password hashes currently running")
+            .register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return run(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Timer hashTimer, Supplier<T> hash) {
+        long queuedAt = System.nanoTime();
+        AtomicInteger state = new AtomicInteger(QUEUED);
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!state.compareAndSet(QUEUED, RUNNING)) {
+                    return null;
+                }
+                queueWaitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(hash);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedFull.increment();
+            throw tooManyRequests();
+        }
+
+        try {
+            return future.get(props.getQueueTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (state.compareAndSet(QUEUED, ABANDONED)) {
+                future.cancel(false);
+                rejectedTimeout.increment();
+                throw tooManyRequests();
+            }
+            // Already hashing; it finishes within one BCrypt round
+            return await(future);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            state.compareAndSet(QUEUED, ABANDONED);
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        return e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+    }
+
+    private static ResponseStatusException tooManyRequests() {
+        return new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many sign-in attempts in progress, retry later");
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hash")
+            .description("BCrypt hashing time, excluding queue wait")
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auth.password.hash.rejected")
+            .description("Password hashes refused with 429")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,332 @@
+package org.phc.templatejavabe.domain.service;
+
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.phc.templatejavabe.domain.model.EventEnvelope;
+import org.hibernate.Hibernate;
+import org.phc.templatejavabe.domain.model.KeyResult;
+import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.domain.model.ObjectiveProgressChanged;
+import org.phc.templatejavabe.domain.model.ProgressContribution;
+import org.phc.templatejavabe.infrastructure.config.ProgressRollupProperties;
+import org.phc.templatejavabe.infrastructure.repository.KeyResultRepository;
+import org.phc.templatejavabe.infrastructure.repository.ObjectiveRepository;
+import org.phc.templatejavabe.infrastructure.stream.ProgressStreamHub;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps objectives.progress in step with key result changes through per-objective running sums
+ * (progress_weighted_sum, progress_total_weight). Each change applies only the delta of the changed
+ * key result with one atomic UPDATE instead of reloading all siblings. Writers {@link #lock} the key results
+ * first, so the delta is always taken from the value the previous writer committed.
+ *
+ * <p>With {@code app.progress.rollup.hierarchical} enabled, an objective's progress also averages in its
+ * children (objectives.parent_id and alignments), weighted by Objective.weight. After each batch of
+ * changes the affected ancestors are refreshed bottom-up, one UPDATE per tree level, so every ancestor
+ * is recomputed once per batch however many of its descendants changed. The refresh reads child progress
+ * without locking it, so ancestors are only eventually consistent: when two branches under one parent commit
+ * at the same time, the parent can keep missing one of them until the next change below it or a recompute.
+ * Off by default.</p>
+ *
+ * <p>With {@code app.progress.rollup.async-propagation} the ancestors are not refreshed in the write
+ * transaction: an {@link ObjectiveProgressChanged} event is published instead and handled here after commit,
+ * one bottom-up refresh per delivered batch.</p>
+ *
+ * <p>Every objective whose progress is touched here, ancestors included, is reported to the
+ * {@link ProgressStreamHub} for live progress streams.</p>
+ */
+@Service
+public class ProgressRollupService implements DomainEventSubscriber {
+    private final ObjectiveRepository objectiveRepository;
+    private final KeyResultRepository keyResultRepository;
+    private final EntityManager entityManager;
+    private final ProgressRollupProperties props;
+    private final DomainEventPublisher domainEventPublisher;
+    private final ProgressStreamHub progressStreamHub;
+
+    public ProgressRollupService(ObjectiveRepository objectiveRepository,
+                                 KeyResultRepository keyResultRepository,
+                                 EntityManager entityManager,
+                                 ProgressRollupProperties props,
+                                 DomainEventPublisher domainEventPublisher,
+                                 ProgressStreamHub progressStreamHub) {
+        this.objectiveRepository = objectiveRepository;
+        this.keyResultRepository = keyResultRepository;
+        this.entityManager = entityManager;
+        this.props = props;
+        this.domainEventPublisher = domainEventPublisher;
+        this.progressStreamHub = progressStreamHub;
+    }
+
+    /**
+     * Lock the key results' rows until the transaction ends and take what they contribute from the database.
+     * Call before changing them: a concurrent writer of the same key result then waits, and its delta starts
+     * from the value this transaction commits instead of the one both loaded.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(Collection<KeyResult> keyResults) {
+        Map<String, KeyResult> byId = new HashMap<>();
+        for (KeyResult kr : keyResults) {
+            if (kr.getId() != null) {
+                byId.put(kr.getId(), kr);
+            }
+        }
+        if (byId.isEmpty()) {
+            return;
+        }
+        for (KeyResultRepository.StoredValues stored : keyResultRepository.lockStoredValues(byId.keySet())) {
+            byId.get(stored.getId()).setRolledUp(ProgressContribution.of(stored.getObjectiveId(),
+                stored.getCurrentValue(), stored.getTargetValue(), stored.getWeight()));
+        }
+    }
+
+    @Transactional
+    public void keyResultAdded(KeyResult kr) {
+        ProgressContribution after = ProgressContribution.of(kr);
+        apply(after.objectiveId(), after.weightedProgress(), after.weight());
+        kr.setRolledUp(after);
+        propagate(Collections.singleton(after.objectiveId()));
+    }
+
+    /**
+     * Apply the difference between what the key result last contributed and what it contributes now.
+     * Instances that were never loaded carry no previous contribution, so their objective is recomputed.
+     */
+    @Transactional
+    public void keyResultChanged(KeyResult kr) {
+        keyResultsChanged(List.of(kr));
+    }
+
+    /**
+     * Same as {@link #keyResultChanged} for many key results, summing the deltas so each affected
+     * objective receives exactly one UPDATE
+     */
+    @Transactional
+    public void keyResultsChanged(Collection<KeyResult> keyResults) {
+        Map<String, ProgressContribution> deltas = new LinkedHashMap<>();
+        Set<String> toRecompute = new LinkedHashSet<>();
+        
+        for (KeyResult kr : keyResults) {
+            ProgressContribution before = kr.getRolledUp();
+            if (before == null) {
+                toRecompute.add(kr.getObjectiveId());
+                continue;
+            }
+            ProgressContribution after = ProgressContribution.of(kr);
+            // A key result moved to another objective leaves the old one and joins the new one
+            addDelta(deltas, before.objectiveId(), before.weightedProgress().negate(), before.weight().negate());
+            addDelta(deltas, after.objectiveId(), after.weightedProgress(), after.weight());
+            kr.setRolledUp(after);
+        }
+        
+        deltas.forEach((objectiveId, delta) -> {
+            if (!toRecompute.contains(objectiveId)) {
+                apply(objectiveId, delta.weightedProgress(), delta.weight());
+            }
+        });
+        toRecompute.forEach(this::recomputeSums);
+        
+        Set<String> changed = new LinkedHashSet<>(deltas.keySet());
+        changed.addAll(toRecompute);
+        propagate(changed);
+    }
+
+    @Transactional
+    public void keyResultRemoved(KeyResult kr) {
+        ProgressContribution before = kr.getRolledUp();
+        if (before == null) {
+            recompute(kr.getObjectiveId());
+            return;
+        }
+        apply(before.objectiveId(), before.weightedProgress().negate(), before.weight().negate());
+        kr.setRolledUp(null);
+        propagate(Collections.singleton(before.objectiveId()));
+    }
+
+    /**
+     * Rebuild an objective's running sums from all of its key results and return the resulting progress
+     */
+    @Transactional
+    public BigDecimal recompute(String objectiveId) {
+        BigDecimal progress = recomputeSums(objectiveId);
+        propagate(Collections.singleton(objectiveId));
+        if (objectiveId == null || !props.isHierarchical()) {
+            return progress;
+        }
+        return objectiveRepository.findProgressById(objectiveId);
+    }
+
+    /**
+     * The tree around these objectives changed (alignment added or removed, weight or parent edited,
+     * objective deleted): refresh them and their ancestors. No-op unless hierarchical roll-up is enabled.
+     */
+    @Transactional
+    public void objectivesChanged(Collection<String> objectiveIds) {
+        propagate(objectiveIds);
+    }
+
+    /**
+     * Refresh the ancestors of objectives whose progress changed in already committed transactions.
+     * Safe to repeat: every refreshed objective is recomputed from its current children.
+     */
+    @Override
+    @Transactional
+    public void onEvents(List<EventEnvelope> events) {
+        Set<String> changed = new LinkedHashSet<>();
+        for (EventEnvelope envelope : events) {
+            if (envelope.event() instanceof ObjectiveProgressChanged progressChanged) {
+                changed.addAll(progressChanged.objectiveIds());
+            }
+        }
+        if (props.isHierarchical() && !changed.isEmpty()) {
+            refreshBottomUp(changed);
+        }
+    }
+
+    /**
+     * Direct parents to refresh once the objective is gone; empty unless hierarchical roll-up is enabled
+     */
+    public List<String> parentsOf(String objectiveId) {
+        if (!props.isHierarchical() || objectiveId == null) {
+            return List.of();
+        }
+        return objectiveRepository.findParentLinks(List.of(objectiveId)).stream()
+            .map(ObjectiveRepository.ParentLink::getParentId)
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    private BigDecimal recomputeSums(String objectiveId) {
+        if (objectiveId == null) {
+            return BigDecimal.ZERO;
+        }
+        
+        List<KeyResult> keyResults = keyResultRepository.findByObjectiveId(objectiveId);
+        BigDecimal weightedSum = BigDecimal.ZERO;
+        BigDecimal totalWeight = BigDecimal.ZERO;
+        for (KeyResult kr : keyResults) {
+            ProgressContribution contribution = ProgressContribution.of(kr);
+            weightedSum = weightedSum.add(contribution.weightedProgress());
+            totalWeight = totalWeight.add(contribution.weight());
+            kr.setRolledUp(contribution);
+        }
+        
+        BigDecimal progress = ProgressContribution.average(weightedSum, totalWeight);
+        objectiveRepository.setProgressSums(objectiveId, weightedSum, totalWeight, progress);
+        syncManaged(List.of(objectiveId));
+        return progress;
+    }
+
+    private void propagate(Collection<String> changedIds) {
+        Set<String> affected = new LinkedHashSet<>();
+        for (String id : changedIds) {
+            if (id != null) {
+                affected.add(id);
+            }
+        }
+        if (affected.isEmpty()) {
+            return;
+        }
+        progressStreamHub.objectivesChanged(affected);
+        if (!props.isHierarchical()) {
+            return;
+        }
+        if (props.isAsyncPropagation()) {
+            domainEventPublisher.publish(new ObjectiveProgressChanged(List.copyOf(affected)));
+            return;
+        }
+        refreshBottomUp(affected);
+    }
+
+    /**
+     * Refresh the changed objectives and all their ancestors bottom-up. Ancestors are collected with one
+     * query per level, then refreshed in topological layers: an objective is refreshed only after all of
+     * its affected children, and exactly once.
+     */
+    private void refreshBottomUp(Set<String> changedIds) {
+        Set<String> affected = new LinkedHashSet<>(changedIds);
+        objectiveRepository.flush();
+        
+        Map<String, Set<String>> parentsOf = new HashMap<>();
+        Map<String, Integer> pendingChildren = new HashMap<>();
+        Collection<String> frontier = new ArrayList<>(affected);
+        for (int depth = 0; depth < props.getMaxDepth() && !frontier.isEmpty(); depth++) {
+            List<String> next = new ArrayList<>();
+            for (ObjectiveRepository.ParentLink link : objectiveRepository.findParentLinks(frontier)) {
+                if (parentsOf.computeIfAbsent(link.getChildId(), k -> new HashSet<>()).add(link.getParentId())) {
+                    pendingChildren.merge(link.getParentId(), 1, Integer::sum);
+                }
+                if (affected.add(link.getParentId())) {
+                    next.add(link.getParentId());
+                }
+            }
+            frontier = next;
+        }
+        
+        List<String> layer = new ArrayList<>();
+        for (String id : affected) {
+            if (!pendingChildren.containsKey(id)) {
+                layer.add(id);
+            }
+        }
+        // Objectives caught in a parent_id/alignment cycle never become ready and are left as they are
+        while (!layer.isEmpty()) {
+            objectiveRepository.refreshHierarchicalProgress(layer);
+            syncManaged(layer);
+            List<String> next = new ArrayList<>();
+            for (String child : layer) {
+                for (String parent : parentsOf.getOrDefault(child, Set.of())) {
+                    if (pendingChildren.merge(parent, -1, Integer::sum) == 0) {
+                        next.add(parent);
+                    }
+                }
+            }
+            layer = next;
+        }
+        progressStreamHub.objectivesChanged(affected);
+    }
+
+    private static void addDelta(Map<String, ProgressContribution> deltas, String objectiveId,
+                                 BigDecimal weightedDelta, BigDecimal weightDelta) {
+        if (objectiveId == null) {
+            return;
+        }
+        deltas.merge(objectiveId, new ProgressContribution(objectiveId, weightedDelta, weightDelta),
+            (a, b) -> new ProgressContribution(objectiveId,
+                a.weightedProgress().add(b.weightedProgress()), a.weight().add(b.weight())));
+    }
+
+    private void apply(String objectiveId, BigDecimal weightedDelta, BigDecimal weightDelta) {
+        if (objectiveId == null || (weightedDelta.signum() == 0 && weightDelta.signum() == 0)) {
+            return;
+        }
+        objectiveRepository.applyProgressDelta(objectiveId, weightedDelta, weightDelta);
+        syncManaged(List.of(objectiveId));
+    }
+
+    /**
+     * The progress UPDATEs bypass the persistence context. Reload objectives already loaded in this transaction,
+     * or a later flush of one of them would write its old progress back. Objectives not loaded are left alone.
+     */
+    private void syncManaged(Collection<String> objectiveIds) {
+        for (String id : objectiveIds) {
+            Objective objective = entityManager.getReference(Objective.class, id);
+            if (Hibernate.isInitialized(objective) && entityManager.contains(objective)) {
+                entityManager.refresh(objective);
+            }
+        }
+    }
+}
@@ -6,7 +6,6 @@ import org.phc.templatejavabe.infrastructure.config.JwtUtil;
 import org.phc.templatejavabe.presentation.request.auth.LoginRequest;
 import org.phc.templatejavabe.presentation.request.auth.RegisterRequest;
 import org.phc.templatejavabe.presentation.response.auth.TokenResponse;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -16,16 +15,16 @@ import java.util.Optional;
 @Service
 public class UserService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
     private final IdGeneratorService idGeneratorService;
 
     public UserService(UserRepository userRepository, 
-                      PasswordEncoder passwordEncoder, 
+                      PasswordHashingService passwordHashingService, 
                       JwtUtil jwtUtil,
                       IdGeneratorService idGeneratorService) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
         this.jwtUtil = jwtUtil;
         this.idGeneratorService = idGeneratorService;
     }
@@ -49,7 +48,7 @@ public class UserService {
         }
 
         User user = userOpt.get();
-        if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
+        if (!passwordHashingService.matches(request.password(), user.getPasswordHash())) {
             throw new RuntimeException("Invalid email or password");
         }
 
@@ -69,7 +68,7 @@ public class UserService {
         }
 
         String userId = idGeneratorService.generateId();
-        String hashedPassword = passwordEncoder.encode(request.password());
+        String hashedPassword = passwordHashingService.encode(request.password());
 
         User user = new User(userId, request.email(), hashedPassword, request.fullName());
         return userRepository.save(user);
@@ -7,8 +7,10 @@ import org.phc.templatejavabe.presentation.request.workspace.*;
 import org.phc.templatejavabe.presentation.response.workspace.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.util.List;
@@ -85,8 +87,7 @@ public class WorkspaceService {
             Workspace ws = workspace.get();
             
             // Check if user has access to this workspace
-            if (!ws.getOwnerId().equals(userId)) {
-                // TODO: Check if user is a member of the workspace
+            if (!ws.getOwnerId().equals(userId) && !workspaceRepository.hasAccess(workspaceId, userId)) {
                 throw new RuntimeException("Access denied to workspace");
             }
 
@@ -98,6 +99,16 @@ public class WorkspaceService {
         }
     }
 
+    /**
+     * Reject (403) a user who neither owns nor is a member of the workspace; unknown workspaces are rejected the same way
+     */
+    @Transactional(readOnly = true)
+    public void checkAccess(String workspaceId, String userId) {
+        if (workspaceId == null || userId == null || !workspaceRepository.hasAccess(workspaceId, userId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied to workspace");
+        }
+    }
+
     /**
      * Update workspace
      */
@@ -0,0 +1,397 @@
+package org.phc.templatejavabe.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import org.phc.templatejavabe.domain.model.AlignmentEdge;
+import org.phc.templatejavabe.infrastructure.config.AlignmentIndexProperties;
+import org.phc.templatejavabe.infrastructure.repository.ObjectiveAlignmentRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory adjacency index of objective_alignments, one compact graph per workspace.
+ *
+ * <p>Objective ids are mapped to int slots and edges are stored as int arrays, so reachability and
+ * subtree walks touch no database and allocate little. A graph is loaded with one query on first use
+ * and kept current after commit by align/delete. A graph that has edges leaving its workspace cannot
+ * see the whole picture, so it declines to answer (empty result) and callers fall back to the database.</p>
+ */
+@Component
+public class AlignmentGraphIndex {
+    private final Cache<String, WorkspaceGraph> graphs;
+    private final ObjectiveAlignmentRepository alignmentRepository;
+
+    public AlignmentGraphIndex(AlignmentIndexProperties props, ObjectiveAlignmentRepository alignmentRepository) {
+        this.alignmentRepository = alignmentRepository;
+        this.graphs = Caffeine.newBuilder()
+            .maximumSize(props.getMaxWorkspaces())
+            .expireAfterAccess(Duration.ofSeconds(props.getIdleSeconds()))
+            .build();
+    }
+
+    /**
+     * Whether {@code to} can be reached from {@code from} following parent → child edges
+     */
+    public Optional<Boolean> reaches(String workspaceId, String from, String to) {
+        WorkspaceGraph graph = graph(workspaceId);
+        return graph != null ? graph.reaches(from, to) : Optional.empty();
+    }
+
+    /**
+     * Edges below {@code rootId} in breadth-first order, bounded by depth and edge count
+     */
+    public Optional<List<AlignmentEdge>> descendants(String workspaceId, String rootId, int maxDepth, int maxEdges) {
+        WorkspaceGraph graph = graph(workspaceId);
+        return graph != null ? graph.descendants(rootId, maxDepth, maxEdges) : Optional.empty();
+    }
+
+    public void onAligned(String parentId, String parentWorkspaceId, String childId, String childWorkspaceId) {
+        afterCommit(() -> forEachGraph(parentWorkspaceId, childWorkspaceId,
+            graph -> graph.addEdge(parentId, parentWorkspaceId, childId, childWorkspaceId)));
+    }
+
+    public void onUnaligned(String parentId, String parentWorkspaceId, String childId, String childWorkspaceId) {
+        afterCommit(() -> forEachGraph(parentWorkspaceId, childWorkspaceId,
+            graph -> graph.removeEdge(parentId, childId)));
+    }
+
+    /**
+     * Drop every loaded graph that knows the objective, e.g. after it moved workspace or was deleted
+     */
+    public void evictObjective(String objectiveId) {
+        Runnable eviction = () -> graphs.asMap().values().removeIf(graph -> graph.contains(objectiveId));
+        eviction.run();
+        afterCommit(eviction);
+    }
+
+    private WorkspaceGraph graph(String workspaceId) {
+        if (workspaceId == null) {
+            return null;
+        }
+        return graphs.get(workspaceId, this::load);
+    }
+
+    private WorkspaceGraph load(String workspaceId) {
+        WorkspaceGraph graph = new WorkspaceGraph(workspaceId);
+        for (ObjectiveAlignmentRepository.WorkspaceEdgeView edge : alignmentRepository.findEdgesByWorkspaceId(workspaceId)) {
+            graph.addEdge(edge.getParentId(), edge.getParentWorkspaceId(), edge.getChildId(), edge.getChildWorkspaceId());
+        }
+        return graph;
+    }
+
+    private void forEachGraph(String parentWorkspaceId, String childWorkspaceId, Consumer<WorkspaceGraph> action) {
+        // computeIfPresent waits for an in-flight load, so a graph loading concurrently still gets the change
+        for (String workspaceId : new String[] {parentWorkspaceId, childWorkspaceId}) {
+            if (workspaceId != null) {
+                graphs.asMap().computeIfPresent(workspaceId, (key, graph) -> {
+                    action.accept(graph);
+                    return graph;
+                });
+            }
+            if (Objects.equals(parentWorkspaceId, childWorkspaceId)) {
+                break;
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Directed graph over int slots. An objective left without edges frees its slot, and the arrays are
+     * compacted once freed slots make up half of them.
+     */
+    static final class WorkspaceGraph {
+        private static final int[] NO_EDGES = new int[0];
+        private static final int COMPACT_MIN_FREE = 64;
+
+        private final String workspaceId;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, Integer> slots = new HashMap<>();
+        private final BitSet foreign = new BitSet();
+        private String[] ids = new String[16];
+        private int[][] children = new int[16][];
+        private int[] childCounts = new int[16];
+        private int[] degrees = new int[16];
+        private int size;
+        private int freeSlots;
+        private int foreignEdges;
+
+        WorkspaceGraph(String workspaceId) {
+            this.workspaceId = workspaceId;
+        }
+
+        boolean contains(String objectiveId) {
+            lock.readLock().lock();
+            try {
+                return slots.containsKey(objectiveId);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void addEdge(String parentId, String parentWorkspaceId, String childId, String childWorkspaceId) {
+            lock.writeLock().lock();
+            try {
+                int parent = slot(parentId, parentWorkspaceId);
+                int child = slot(childId, childWorkspaceId);
+                if (indexOf(parent, child) >= 0) {
+                    return;
+                }
+                int count = childCounts[parent];
+                if (children[parent].length == count) {
+                    children[parent] = Arrays.copyOf(children[parent], Math.max(4, count * 2));
+                }
+                children[parent][count] = child;
+                childCounts[parent] = count + 1;
+                degrees[parent]++;
+                degrees[child]++;
+                if (foreign.get(parent) || foreign.get(child)) {
+                    foreignEdges++;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void removeEdge(String parentId, String childId) {
+            lock.writeLock().lock();
+            try {
+                Integer parent = slots.get(parentId);
+                Integer child = slots.get(childId);
+                if (parent == null || child == null) {
+                    return;
+                }
+                int at = indexOf(parent, child);
+                if (at < 0) {
+                    return;
+                }
+                int last = --childCounts[parent];
+                children[parent][at] = children[parent][last];
+                if (foreign.get(parent) || foreign.get(child)) {
+                    foreignEdges--;
+                }
+                release(parent);
+                release(child);
+                if (freeSlots >= COMPACT_MIN_FREE && freeSlots * 2 >= size) {
+                    compact();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Optional<Boolean> reaches(String fromId, String toId) {
+            lock.readLock().lock();
+            try {
+                if (foreignEdges > 0) {
+                    return Optional.empty();
+                }
+                if (fromId.equals(toId)) {
+                    return Optional.of(true);
+                }
+                Integer from = slots.get(fromId);
+                Integer to = slots.get(toId);
+                if (from == null || to == null) {
+                    return Optional.of(false);
+                }
+
+                // Iterative DFS over int slots
+                BitSet visited = new BitSet(size);
+                int[] stack = new int[Math.max(16, size)];
+                int top = 0;
+                stack[top++] = from;
+                visited.set(from);
+                while (top > 0) {
+                    int node = stack[--top];
+                    int[] next = children[node];
+                    for (int i = 0; i < childCounts[node]; i++) {
+                        int child = next[i];
+                        if (child == to) {
+                            return Optional.of(true);
+                        }
+                        if (!visited.get(child)) {
+                            visited.set(child);
+                            stack[top++] = child;
+                        }
+                    }
+                }
+                return Optional.of(false);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        Optional<List<AlignmentEdge>> descendants(String rootId, int maxDepth, int maxEdges) {
+            lock.readLock().lock();
+            try {
+                if (foreignEdges > 0) {
+                    return Optional.empty();
+                }
+                List<AlignmentEdge> edges = new ArrayList<>();
+                Integer root = slots.get(rootId);
+                if (root == null) {
+                    return Optional.of(edges);
+                }
+
+                // Breadth-first so truncation by maxEdges keeps the shallowest levels
+                BitSet visited = new BitSet(size);
+                int[] frontier = {root};
+                visited.set(root);
+                for (int depth = 1; depth <= maxDepth && frontier.length > 0; depth++) {
+                    int[] nextFrontier = new int[16];
+                    int nextSize = 0;
+                    for (int parent : frontier) {
+                        for (int i = 0; i < childCounts[parent]; i++) {
+                            int child = children[parent][i];
+                            if (edges.size() >= maxEdges) {
+                                return Optional.of(edges);
+                            }
+                            edges.add(new AlignmentEdge(ids[parent], ids[child], depth));
+                            if (!visited.get(child)) {
+                                visited.set(child);
+                                if (nextSize == nextFrontier.length) {
+                                    nextFrontier = Arrays.copyOf(nextFrontier, nextSize * 2);
+                                }
+                                nextFrontier[nextSize++] = child;
+                            }
+                        }
+                    }
+                    frontier = Arrays.copyOf(nextFrontier, nextSize);
+                }
+                return Optional.of(edges);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Slots in use, freed ones included until the next compaction
+         */
+        int slotCount() {
+            lock.readLock().lock();
+            try {
+                return size;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void release(int slot) {
+            if (--degrees[slot] > 0) {
+                return;
+            }
+            slots.remove(ids[slot]);
+            ids[slot] = null;
+            children[slot] = NO_EDGES;
+            foreign.clear(slot);
+            freeSlots++;
+        }
+
+        /**
+         * Renumbers the live slots densely, keeping their edges and order
+         */
+        private void compact() {
+            int live = size - freeSlots;
+            int capacity = Math.max(16, Integer.highestOneBit(Math.max(1, live)) << 1);
+            int[] renumbered = new int[size];
+            String[] newIds = new String[capacity];
+            int[] newDegrees = new int[capacity];
+            BitSet newForeign = new BitSet();
+            int next = 0;
+            for (int slot = 0; slot < size; slot++) {
+                if (ids[slot] == null) {
+                    renumbered[slot] = -1;
+                    continue;
+                }
+                renumbered[slot] = next;
+                newIds[next] = ids[slot];
+                newDegrees[next] = degrees[slot];
+                if (foreign.get(slot)) {
+                    newForeign.set(next);
+                }
+                slots.put(ids[slot], next);
+                next++;
+            }
+            int[][] newChildren = new int[capacity][];
+            int[] newChildCounts = new int[capacity];
+            for (int slot = 0; slot < size; slot++) {
+                int to = renumbered[slot];
+                if (to < 0) {
+                    continue;
+                }
+                int count = childCounts[slot];
+                int[] edges = count == 0 ? NO_EDGES : new int[count];
+                for (int i = 0; i < count; i++) {
+                    edges[i] = renumbered[children[slot][i]];
+                }
+                newChildren[to] = edges;
+                newChildCounts[to] = count;
+            }
+            ids = newIds;
+            children = newChildren;
+            childCounts = newChildCounts;
+            degrees = newDegrees;
+            foreign.clear();
+            foreign.or(newForeign);
+            size = live;
+            freeSlots = 0;
+        }
+
+        private int slot(String objectiveId, String objectiveWorkspaceId) {
+            Integer existing = slots.get(objectiveId);
+            if (existing != null) {
+                return existing;
+            }
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                children = Arrays.copyOf(children, capacity);
+                childCounts = Arrays.copyOf(childCounts, capacity);
+                degrees = Arrays.copyOf(degrees, capacity);
+            }
+            int slot = size++;
+            ids[slot] = objectiveId;
+            children[slot] = NO_EDGES;
+            childCounts[slot] = 0;
+            degrees[slot] = 0;
+            if (!workspaceId.equals(objectiveWorkspaceId)) {
+                foreign.set(slot);
+            }
+            slots.put(objectiveId, slot);
+            return slot;
+        }
+
+        private int indexOf(int parent, int child) {
+            int[] next = children[parent];
+            for (int i = 0; i < childCounts[parent]; i++) {
+                if (next[i] == child) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.phc.templatejavabe.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.phc.templatejavabe.domain.model.DashboardSnapshot;
+import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.infrastructure.config.DashboardCacheProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded cache of dashboard snapshots keyed by (workspaceId, quarter).
+ *
+ * <p>Writers evict the affected keys immediately and again after their transaction commits,
+ * so a reader racing the commit cannot re-populate the cache with pre-commit data.</p>
+ */
+@Component
+public class DashboardSnapshotCache implements MeterBinder {
+    private static final Logger logger = LoggerFactory.getLogger(DashboardSnapshotCache.class);
+
+    private final Cache<Key, DashboardSnapshot> cache;
+
+    public DashboardSnapshotCache(DashboardCacheProperties props) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(props.getMaxSize())
+            .expireAfterWrite(Duration.ofSeconds(props.getTtlSeconds()))
+            .recordStats()
+            .build();
+    }
+
+    public DashboardSnapshot get(String workspaceId, String quarter, Supplier<DashboardSnapshot> loader) {
+        return cache.get(new Key(workspaceId, quarter), key -> loader.get());
+    }
+
+    public void evict(String workspaceId, String quarter) {
+        if (workspaceId == null) {
+            return;
+        }
+        Key key = new Key(workspaceId, quarter);
+        runNowAndAfterCommit(() -> cache.invalidate(key));
+    }
+
+    public void evict(Objective objective) {
+        if (objective != null) {
+            evict(objective.getWorkspaceId(), objective.getQuarter());
+        }
+    }
+
+    /**
+     * Evict every quarter of a workspace, used when the previous quarter of a changed objective is unknown
+     */
+    public void evictWorkspace(String workspaceId) {
+        if (workspaceId == null) {
+            return;
+        }
+        runNowAndAfterCommit(() -> cache.asMap().keySet().removeIf(key -> workspaceId.equals(key.workspaceId())));
+    }
+
+    /**
+     * Publishes hit/miss/eviction counters as {@code cache.*{cache=dashboard.snapshots}}
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "dashboard.snapshots");
+    }
+
+    private void runNowAndAfterCommit(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+        logger.debug("Dashboard snapshot evicted");
+    }
+
+    private record Key(String workspaceId, String quarter) {}
+}
@@ -0,0 +1,234 @@
+package org.phc.templatejavabe.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import org.phc.templatejavabe.domain.model.CheckIn;
+import org.phc.templatejavabe.domain.model.RecentCheckIn;
+import org.phc.templatejavabe.infrastructure.config.RecentCheckInProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Latest N check-ins per workspace (plus one feed across all workspaces), kept in memory.
+ *
+ * <p>A feed is seeded from a limit-pushed query on first read and then kept warm by the
+ * check-in write path after commit. Deletes (including key result / objective cascades) and
+ * workspace moves drop the feed so the next read re-seeds it; every feed is also re-seeded
+ * {@code ttl-minutes} after it was loaded, whatever writes it has seen since.</p>
+ */
+@Component
+public class RecentCheckInBuffer {
+    private static final String ALL_WORKSPACES = "*";
+    private static final Comparator<RecentCheckIn> NEWEST_FIRST = Comparator.comparing(
+        RecentCheckIn::createdDate, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final Cache<String, Ring> rings;
+    private final int capacity;
+
+    @Autowired
+    public RecentCheckInBuffer(RecentCheckInProperties props) {
+        this(props, Ticker.systemTicker());
+    }
+
+    RecentCheckInBuffer(RecentCheckInProperties props, Ticker ticker) {
+        this.capacity = props.getCapacity();
+        // Appends mutate the ring in place, so the deadline counts from when the feed was created
+        this.rings = Caffeine.newBuilder()
+            .maximumSize(props.getMaxWorkspaces())
+            .expireAfterWrite(props.getTtlMinutes(), TimeUnit.MINUTES)
+            .ticker(ticker)
+            .build();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Latest check-ins of a workspace (all workspaces when null), newest first.
+     * The loader is only ever asked for {@link #capacity()} rows; larger limits are rejected.
+     */
+    public List<RecentCheckIn> recent(String workspaceId, int limit, IntFunction<List<CheckIn>> loader) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        if (limit > capacity) {
+            throw new IllegalArgumentException("limit không được vượt quá " + capacity);
+        }
+        // The empty ring is published before the seed query runs, so check-ins committed meanwhile land in it
+        Ring ring = rings.get(keyOf(workspaceId), key -> new Ring(capacity));
+        return ring.latest(limit, loader);
+    }
+
+    public void onCreated(String workspaceId, CheckIn checkIn) {
+        RecentCheckIn entry = RecentCheckIn.from(checkIn);
+        afterCommit(() -> forEachRing(workspaceId, ring -> ring.add(entry)));
+    }
+
+    public void onUpdated(String workspaceId, CheckIn checkIn) {
+        RecentCheckIn entry = RecentCheckIn.from(checkIn);
+        afterCommit(() -> forEachRing(workspaceId, ring -> ring.replace(entry)));
+    }
+
+    /**
+     * Check-ins of the workspace were deleted, directly or by a key result / objective cascade
+     */
+    public void onDeleted(String workspaceId) {
+        afterCommit(() -> {
+            rings.invalidate(ALL_WORKSPACES);
+            if (workspaceId != null) {
+                rings.invalidate(workspaceId);
+            }
+        });
+    }
+
+    /**
+     * An objective and its check-ins moved between workspaces; the all-workspaces feed is unaffected
+     */
+    public void onMoved(String fromWorkspaceId, String toWorkspaceId) {
+        afterCommit(() -> {
+            if (fromWorkspaceId != null) {
+                rings.invalidate(fromWorkspaceId);
+            }
+            if (toWorkspaceId != null) {
+                rings.invalidate(toWorkspaceId);
+            }
+        });
+    }
+
+    private void forEachRing(String workspaceId, Consumer<Ring> action) {
+        // Only feeds already read are touched; a cold feed picks the row up from the database
+        Ring all = rings.getIfPresent(ALL_WORKSPACES);
+        if (all != null) {
+            action.accept(all);
+        }
+        if (workspaceId != null) {
+            Ring ring = rings.getIfPresent(workspaceId);
+            if (ring != null) {
+                action.accept(ring);
+            }
+        }
+    }
+
+    private static String keyOf(String workspaceId) {
+        return workspaceId == null || workspaceId.isBlank() ? ALL_WORKSPACES : workspaceId;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Fixed-capacity newest-first window over an ArrayDeque; in-order appends are O(1).
+     * Seeded lazily under its own lock: writes arriving while the seed query runs wait for it and
+     * then apply, and writes that arrived before it are merged with the seeded rows.
+     */
+    private static final class Ring {
+        private final int capacity;
+        private final ArrayDeque<RecentCheckIn> entries;
+        private boolean seeded;
+
+        Ring(int capacity) {
+            this.capacity = capacity;
+            this.entries = new ArrayDeque<>(capacity + 1);
+        }
+
+        synchronized List<RecentCheckIn> latest(int limit, IntFunction<List<CheckIn>> loader) {
+            if (!seeded) {
+                seed(loader.apply(capacity));
+            }
+            List<RecentCheckIn> result = new ArrayList<>(Math.min(limit, entries.size()));
+            Iterator<RecentCheckIn> it = entries.iterator();
+            while (it.hasNext() && result.size() < limit) {
+                result.add(it.next());
+            }
+            return result;
+        }
+
+        synchronized void add(RecentCheckIn entry) {
+            if (contains(entry.id())) {
+                return;
+            }
+            RecentCheckIn newest = entries.peekFirst();
+            if (newest == null || NEWEST_FIRST.compare(entry, newest) <= 0) {
+                entries.addFirst(entry);
+                trim();
+            } else {
+                // Out-of-order commit: re-sort the (small) window
+                List<RecentCheckIn> sorted = new ArrayList<>(entries);
+                sorted.add(entry);
+                resetTo(sorted);
+            }
+        }
+
+        synchronized void replace(RecentCheckIn entry) {
+            if (!contains(entry.id())) {
+                // Before the seed the row may simply not be loaded yet; keep the newer copy for the merge
+                if (!seeded) {
+                    add(entry);
+                }
+                return;
+            }
+            List<RecentCheckIn> updated = new ArrayList<>(entries.size());
+            for (RecentCheckIn existing : entries) {
+                updated.add(existing.id().equals(entry.id()) ? entry : existing);
+            }
+            entries.clear();
+            entries.addAll(updated);
+        }
+
+        private void seed(List<CheckIn> rows) {
+            // Entries already here were applied after their commit, so they win over the seed copy
+            List<RecentCheckIn> merged = new ArrayList<>(entries);
+            for (CheckIn row : rows) {
+                if (!contains(row.getId())) {
+                    merged.add(RecentCheckIn.from(row));
+                }
+            }
+            resetTo(merged);
+            seeded = true;
+        }
+
+        private void resetTo(List<RecentCheckIn> unsorted) {
+            unsorted.sort(NEWEST_FIRST);
+            entries.clear();
+            entries.addAll(unsorted);
+            trim();
+        }
+
+        private void trim() {
+            while (entries.size() > capacity) {
+                entries.removeLast();
+            }
+        }
+
+        private boolean contains(String id) {
+            for (RecentCheckIn existing : entries) {
+                if (existing.id().equals(id)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.phc.templatejavabe.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import org.phc.templatejavabe.infrastructure.config.JwtProperties;
+import org.phc.templatejavabe.infrastructure.config.JwtUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Subjects of JWTs whose signature has already been checked, keyed by the SHA-256 of the token.
+ *
+ * <p>The web client sends the same access token on every call, so only its first request pays for
+ * signature verification and claims parsing. Each entry expires together with its token; tokens
+ * without an expiry are verified every time. Only hashes are kept, never the bearer tokens themselves.</p>
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+    private final JwtUtil jwtUtil;
+    private final Clock clock;
+    private final Cache<String, VerifiedToken> tokens;
+
+    @Autowired
+    public VerifiedTokenCache(JwtUtil jwtUtil, JwtProperties props) {
+        this(jwtUtil, props, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(JwtUtil jwtUtil, JwtProperties props, Clock clock) {
+        this.jwtUtil = jwtUtil;
+        this.clock = clock;
+        this.tokens = Caffeine.newBuilder()
+            .maximumSize(props.getVerifiedCacheSize())
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                    long remainingMillis = value.expiresAt().toEpochMilli() - clock.millis();
+                    return Math.max(0, remainingMillis) * 1_000_000L;
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Subject of a valid token; throws the parser's {@code JwtException} for an invalid or expired one
+     */
+    public String verify(String token) {
+        String key = hash(token);
+        VerifiedToken cached = tokens.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(clock.instant())) {
+            return cached.subject();
+        }
+
+        Claims claims = jwtUtil.parseClaims(token);
+        if (claims.getExpiration() != null) {
+            tokens.put(key, new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant()));
+        }
+        return claims.getSubject();
+    }
+
+    /**
+     * Publishes hit/miss/eviction counters as {@code cache.*{cache=jwt.verified-tokens}}
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, tokens, "jwt.verified-tokens");
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(String subject, Instant expiresAt) {}
+}
@@ -0,0 +1,18 @@
+/**
+ * Infrastructure Cache Package - In-process Caches
+ *
+ * <p>Package này chứa các cache và index in-memory giúp giảm số round trip tới database
+ * cho các read path nóng (dashboard, home, ...).</p>
+ *
+ * <h2>Nguyên tắc:</h2>
+ * <ul>
+ *   <li>✅ Luôn bounded (size và/hoặc TTL)</li>
+ *   <li>✅ Chỉ lưu immutable values, không lưu JPA entities đang managed</li>
+ *   <li>✅ Invalidate sau khi transaction commit để reader không thấy dữ liệu cũ</li>
+ *   <li>❌ KHÔNG chứa business logic</li>
+ * </ul>
+ *
+ * @see org.phc.templatejavabe.domain.service
+ * @since 1.0
+ */
+package org.phc.templatejavabe.infrastructure.cache;
@@ -0,0 +1,16 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.activity")
+public class ActivityEventProperties {
+    private int partitionsAhead = 2;
+    private int retentionMonths = 0;
+
+    public int getPartitionsAhead() { return partitionsAhead; }
+    public void setPartitionsAhead(int partitionsAhead) { this.partitionsAhead = partitionsAhead; }
+    public int getRetentionMonths() { return retentionMonths; }
+    public void setRetentionMonths(int retentionMonths) { this.retentionMonths = retentionMonths; }
+}
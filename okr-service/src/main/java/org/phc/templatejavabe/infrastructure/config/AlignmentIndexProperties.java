@@ -0,0 +1,16 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.alignment.index")
+public class AlignmentIndexProperties {
+    private long maxWorkspaces = 1000;
+    private long idleSeconds = 3600;
+
+    public long getMaxWorkspaces() { return maxWorkspaces; }
+    public void setMaxWorkspaces(long maxWorkspaces) { this.maxWorkspaces = maxWorkspaces; }
+    public long getIdleSeconds() { return idleSeconds; }
+    public void setIdleSeconds(long idleSeconds) { this.idleSeconds = idleSeconds; }
+}
@@ -0,0 +1,25 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.check-ins.ingest")
+public class CheckInIngestionProperties {
+    private int maxBatchSize = 500;
+    private long lingerMillis = 200;
+    private int queueCapacity = 20000;
+    private long maxWaitSeconds = 10;
+    private long receiptTtlSeconds = 3600;
+
+    public int getMaxBatchSize() { return maxBatchSize; }
+    public void setMaxBatchSize(int maxBatchSize) { this.maxBatchSize = maxBatchSize; }
+    public long getLingerMillis() { return lingerMillis; }
+    public void setLingerMillis(long lingerMillis) { this.lingerMillis = lingerMillis; }
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+    public long getMaxWaitSeconds() { return maxWaitSeconds; }
+    public void setMaxWaitSeconds(long maxWaitSeconds) { this.maxWaitSeconds = maxWaitSeconds; }
+    public long getReceiptTtlSeconds() { return receiptTtlSeconds; }
+    public void setReceiptTtlSeconds(long receiptTtlSeconds) { this.receiptTtlSeconds = receiptTtlSeconds; }
+}
@@ -0,0 +1,19 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.dashboard.cache")
+public class DashboardCacheProperties {
+    private long maxSize = 1000;
+    private long ttlSeconds = 300;
+    private int topPerformers = 50;
+
+    public long getMaxSize() { return maxSize; }
+    public void setMaxSize(long maxSize) { this.maxSize = maxSize; }
+    public long getTtlSeconds() { return ttlSeconds; }
+    public void setTtlSeconds(long ttlSeconds) { this.ttlSeconds = ttlSeconds; }
+    public int getTopPerformers() { return topPerformers; }
+    public void setTopPerformers(int topPerformers) { this.topPerformers = topPerformers; }
+}
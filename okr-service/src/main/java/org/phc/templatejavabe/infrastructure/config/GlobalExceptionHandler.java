@@ -12,6 +12,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.util.HashMap;
@@ -95,6 +96,25 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<Map<String, Object>> handleResponseStatusException(
+            ResponseStatusException ex, WebRequest request) {
+        
+        logger.warn("Request rejected with status {}: {}", ex.getStatusCode(), ex.getReason());
+        
+        Locale locale = LocaleContextHolder.getLocale();
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", Instant.now());
+        response.put("status", ex.getStatusCode().value());
+        response.put("error", messageSource.getMessage("error.general", null, locale));
+        response.put("message", ex.getReason());
+        response.put("path", request.getDescription(false).replace("uri=", ""));
+        response.put("exception", ex.getClass().getSimpleName());
+        response.put("details", ex.getReason());
+        
+        return new ResponseEntity<>(response, ex.getHeaders(), ex.getStatusCode());
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, Object>> handleRuntimeException(
             RuntimeException ex, WebRequest request) {
@@ -0,0 +1,19 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.home.bootstrap")
+public class HomeBootstrapProperties {
+    private int threads = 8;
+    private int queueCapacity = 256;
+    private long timeoutSeconds = 10;
+
+    public int getThreads() { return threads; }
+    public void setThreads(int threads) { this.threads = threads; }
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+    public long getTimeoutSeconds() { return timeoutSeconds; }
+    public void setTimeoutSeconds(long timeoutSeconds) { this.timeoutSeconds = timeoutSeconds; }
+}
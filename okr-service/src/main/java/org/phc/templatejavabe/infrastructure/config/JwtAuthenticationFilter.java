@@ -1,17 +1,13 @@
 package org.phc.templatejavabe.infrastructure.config;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.phc.templatejavabe.infrastructure.cache.VerifiedTokenCache;
 import java.io.IOException;
-import java.security.Key;
 import java.util.Collections;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,10 +18,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
-    private final Key key;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public JwtAuthenticationFilter(JwtProperties props) {
-        this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(props.getSecret()));
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -43,8 +39,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             logger.debug("Extracted token: {}...", token.substring(0, Math.min(20, token.length())));
             
             try {
-                Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
-                String userId = claims.getSubject();
+                String userId = verifiedTokenCache.verify(token);
                 logger.debug("Token parsed successfully for user: {}", userId);
                 
                 var auth = new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
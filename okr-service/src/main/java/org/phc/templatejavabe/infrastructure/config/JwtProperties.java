@@ -9,6 +9,7 @@ public class JwtProperties {
     private String secret;
     private long accessTtlSeconds;
     private long refreshTtlSeconds;
+    private long verifiedCacheSize = 10000;
 
     public String getSecret() { return secret; }
     public void setSecret(String secret) { this.secret = secret; }
@@ -16,6 +17,8 @@ public class JwtProperties {
     public void setAccessTtlSeconds(long accessTtlSeconds) { this.accessTtlSeconds = accessTtlSeconds; }
     public long getRefreshTtlSeconds() { return refreshTtlSeconds; }
     public void setRefreshTtlSeconds(long refreshTtlSeconds) { this.refreshTtlSeconds = refreshTtlSeconds; }
+    public long getVerifiedCacheSize() { return verifiedCacheSize; }
+    public void setVerifiedCacheSize(long verifiedCacheSize) { this.verifiedCacheSize = verifiedCacheSize; }
 }
 
 
@@ -1,6 +1,7 @@
 package org.phc.templatejavabe.infrastructure.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -15,10 +16,13 @@ import org.springframework.stereotype.Component;
 public class JwtUtil {
     private final JwtProperties props;
     private final Key key;
+    // Immutable and thread-safe, so one instance serves every request
+    private final JwtParser parser;
 
     public JwtUtil(JwtProperties props) {
         this.props = props;
         this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(props.getSecret()));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     public String generateAccessToken(String subject) {
@@ -53,7 +57,7 @@ public class JwtUtil {
     }
 
     public Claims parseClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public boolean isRefreshToken(Claims claims) {
@@ -0,0 +1,22 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.metrics")
+public class MetricsProperties {
+    private boolean serviceTimers = true;
+    private String defaultTier = "standard";
+    private Map<String, List<String>> workspaceTiers = new LinkedHashMap<>();
+
+    public boolean isServiceTimers() { return serviceTimers; }
+    public void setServiceTimers(boolean serviceTimers) { this.serviceTimers = serviceTimers; }
+    public String getDefaultTier() { return defaultTier; }
+    public void setDefaultTier(String defaultTier) { this.defaultTier = defaultTier; }
+    public Map<String, List<String>> getWorkspaceTiers() { return workspaceTiers; }
+    public void setWorkspaceTiers(Map<String, List<String>> workspaceTiers) { this.workspaceTiers = workspaceTiers; }
+}
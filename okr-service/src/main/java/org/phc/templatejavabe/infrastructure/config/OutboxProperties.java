@@ -0,0 +1,28 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+    private int batchSize = 200;
+    private long pollMillis = 500;
+    private long leaseSeconds = 60;
+    private int maxAttempts = 10;
+    private long retryBackoffMillis = 1000;
+    private long maxRetryBackoffMillis = 300000;
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+    public long getPollMillis() { return pollMillis; }
+    public void setPollMillis(long pollMillis) { this.pollMillis = pollMillis; }
+    public long getLeaseSeconds() { return leaseSeconds; }
+    public void setLeaseSeconds(long leaseSeconds) { this.leaseSeconds = leaseSeconds; }
+    public int getMaxAttempts() { return maxAttempts; }
+    public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
+    public long getRetryBackoffMillis() { return retryBackoffMillis; }
+    public void setRetryBackoffMillis(long retryBackoffMillis) { this.retryBackoffMillis = retryBackoffMillis; }
+    public long getMaxRetryBackoffMillis() { return maxRetryBackoffMillis; }
+    public void setMaxRetryBackoffMillis(long maxRetryBackoffMillis) { this.maxRetryBackoffMillis = maxRetryBackoffMillis; }
+}
@@ -0,0 +1,19 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.auth.password-hashing")
+public class PasswordHashingProperties {
+    private int maxConcurrency = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 64;
+    private long queueTimeoutMillis = 2000;
+
+    public int getMaxConcurrency() { return maxConcurrency; }
+    public void setMaxConcurrency(int maxConcurrency) { this.maxConcurrency = maxConcurrency; }
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+    public long getQueueTimeoutMillis() { return queueTimeoutMillis; }
+    public void setQueueTimeoutMillis(long queueTimeoutMillis) { this.queueTimeoutMillis = queueTimeoutMillis; }
+}
@@ -0,0 +1,19 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.progress.rollup")
+public class ProgressRollupProperties {
+    private boolean hierarchical = false;
+    private int maxDepth = 32;
+    private boolean asyncPropagation = false;
+
+    public boolean isHierarchical() { return hierarchical; }
+    public void setHierarchical(boolean hierarchical) { this.hierarchical = hierarchical; }
+    public int getMaxDepth() { return maxDepth; }
+    public void setMaxDepth(int maxDepth) { this.maxDepth = maxDepth; }
+    public boolean isAsyncPropagation() { return asyncPropagation; }
+    public void setAsyncPropagation(boolean asyncPropagation) { this.asyncPropagation = asyncPropagation; }
+}
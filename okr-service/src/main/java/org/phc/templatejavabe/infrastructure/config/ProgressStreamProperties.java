@@ -0,0 +1,31 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.progress.stream")
+public class ProgressStreamProperties {
+    private long coalesceMillis = 250;
+    private int bufferCapacity = 200;
+    private int maxConnections = 1000;
+    private long timeoutMinutes = 30;
+    private long heartbeatSeconds = 20;
+    private int senderThreads = 4;
+    private long sendTimeoutMillis = 5000;
+
+    public long getCoalesceMillis() { return coalesceMillis; }
+    public void setCoalesceMillis(long coalesceMillis) { this.coalesceMillis = coalesceMillis; }
+    public int getBufferCapacity() { return bufferCapacity; }
+    public void setBufferCapacity(int bufferCapacity) { this.bufferCapacity = bufferCapacity; }
+    public int getMaxConnections() { return maxConnections; }
+    public void setMaxConnections(int maxConnections) { this.maxConnections = maxConnections; }
+    public long getTimeoutMinutes() { return timeoutMinutes; }
+    public void setTimeoutMinutes(long timeoutMinutes) { this.timeoutMinutes = timeoutMinutes; }
+    public long getHeartbeatSeconds() { return heartbeatSeconds; }
+    public void setHeartbeatSeconds(long heartbeatSeconds) { this.heartbeatSeconds = heartbeatSeconds; }
+    public int getSenderThreads() { return senderThreads; }
+    public void setSenderThreads(int senderThreads) { this.senderThreads = senderThreads; }
+    public long getSendTimeoutMillis() { return sendTimeoutMillis; }
+    public void setSendTimeoutMillis(long sendTimeoutMillis) { this.sendTimeoutMillis = sendTimeoutMillis; }
+}
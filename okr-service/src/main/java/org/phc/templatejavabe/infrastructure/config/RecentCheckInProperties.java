@@ -0,0 +1,19 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.check-ins.recent")
+public class RecentCheckInProperties {
+    private int capacity = 50;
+    private long maxWorkspaces = 10000;
+    private long ttlMinutes = 10;
+
+    public int getCapacity() { return capacity; }
+    public void setCapacity(int capacity) { this.capacity = capacity; }
+    public long getMaxWorkspaces() { return maxWorkspaces; }
+    public void setMaxWorkspaces(long maxWorkspaces) { this.maxWorkspaces = maxWorkspaces; }
+    public long getTtlMinutes() { return ttlMinutes; }
+    public void setTtlMinutes(long ttlMinutes) { this.ttlMinutes = ttlMinutes; }
+}
@@ -1,7 +1,10 @@
 package org.phc.templatejavabe.infrastructure.config;
 
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -25,16 +28,22 @@ public class SecurityConfig {
 
     private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final int serverPort;
+    private final int managementPort;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+                          @Value("${server.port:8080}") int serverPort,
+                          @Value("${management.server.port:-1}") int managementPort) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.serverPort = serverPort;
+        this.managementPort = managementPort;
     }
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         logger.info("=== SECURITY CONFIG STARTUP ===");
         logger.info("Configuring security filter chain - only login/register endpoints are public");
-        logger.info("Public endpoints: /auth/login, /auth/register, /auth/refresh, /actuator/health");
+        logger.info("Public endpoints: /auth/login, /auth/register, /auth/refresh, /actuator/health, /actuator/prometheus (management port only)");
         logger.info("All other endpoints require authentication");
         
         http
@@ -44,7 +53,13 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/auth/login", "/auth/register", "/auth/refresh").permitAll()
                 .requestMatchers("/actuator/health").permitAll()
+                // Prometheus scrapes without a token, but only on the internal management port;
+                // on the public port (or when both ports are the same) the endpoint needs a bearer token
+                .requestMatchers(this::isScrapeOnManagementPort).permitAll()
                 .requestMatchers("/api/test/**").permitAll()
+                // Completion of streamed responses (SSE, /objectives/stream) is re-dispatched without the bearer
+                // header; the original request was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // All other endpoints require authentication
                 .anyRequest().authenticated()
             )
@@ -55,6 +70,11 @@ public class SecurityConfig {
         return http.build();
     }
 
+    private boolean isScrapeOnManagementPort(HttpServletRequest request) {
+        return managementPort > 0 && managementPort != serverPort && request.getLocalPort() == managementPort
+            && "/actuator/prometheus".equals(request.getRequestURI());
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -71,6 +91,8 @@ public class SecurityConfig {
         configuration.setAllowedOriginPatterns(List.of("*"));
         configuration.setAllowedMethods(List.of("GET","POST","PUT","PATCH","DELETE","OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
+        configuration.setExposedHeaders(List.of("X-Next-Cursor",
+            SqlStatsResponseAdvice.STATEMENTS_HEADER, SqlStatsResponseAdvice.TIME_HEADER));
         configuration.setAllowCredentials(false);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
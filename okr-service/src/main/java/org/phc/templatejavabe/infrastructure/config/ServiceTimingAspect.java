@@ -0,0 +1,55 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the domain services as {@code okr.service}, tagged with class, method,
+ * outcome, exception and workspace tier. Histogram buckets and SLOs are configured through
+ * {@code management.metrics.distribution.*.okr.service}.
+ *
+ * <p>Only calls made through the Spring proxy are timed, so a service calling its own methods is one sample.
+ * Lifecycle callbacks (start/stop of background workers) are left out.</p>
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "app.metrics", name = "service-timers", havingValue = "true", matchIfMissing = true)
+public class ServiceTimingAspect {
+    public static final String METRIC_NAME = "okr.service";
+
+    private final MeterRegistry meterRegistry;
+    private final WorkspaceTierResolver tierResolver;
+
+    public ServiceTimingAspect(MeterRegistry meterRegistry, WorkspaceTierResolver tierResolver) {
+        this.meterRegistry = meterRegistry;
+        this.tierResolver = tierResolver;
+    }
+
+    @Around("execution(public * org.phc.templatejavabe.domain.service..*(..))"
+        + " && !execution(* org.springframework.context.Lifecycle.*(..))"
+        + " && !execution(* org.springframework.context.SmartLifecycle.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                .description("Domain service calls")
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("outcome", "none".equals(exception) ? "SUCCESS" : "ERROR")
+                .tag("exception", exception)
+                .tag("workspace.tier", tierResolver.currentTier())
+                .register(meterRegistry));
+        }
+    }
+}
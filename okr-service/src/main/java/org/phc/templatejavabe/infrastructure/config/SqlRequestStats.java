@@ -0,0 +1,97 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQL statements and JDBC time of one unit of work, normally an HTTP request.
+ *
+ * <p>SqlStatsFilter binds an instance to the request thread and the Hibernate hooks of SqlStatsConfig add
+ * to it. Work handed to another pool joins the request through {@link #propagating(Executor)}.</p>
+ */
+public final class SqlRequestStats {
+    public static final String REQUEST_ATTRIBUTE = SqlRequestStats.class.getName();
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+    private static final int MAX_DISTINCT_STATEMENTS = 256;
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong jdbcNanos = new AtomicLong();
+    private final Map<String, AtomicInteger> executions = new ConcurrentHashMap<>();
+
+    /**
+     * Start collecting on the current thread
+     */
+    public static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Stats bound to the current thread, or null outside a request
+     */
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Executor whose tasks count towards the caller's stats
+     */
+    public static Executor propagating(Executor executor) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats == null) {
+            return executor;
+        }
+        return task -> executor.execute(() -> {
+            SqlRequestStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                CURRENT.set(previous);
+            }
+        });
+    }
+
+    void statementPrepared(String sql) {
+        statements.incrementAndGet();
+        // Bounded so a request building ad-hoc SQL cannot grow this without limit
+        AtomicInteger count = executions.get(sql);
+        if (count == null && executions.size() < MAX_DISTINCT_STATEMENTS) {
+            count = executions.computeIfAbsent(sql, key -> new AtomicInteger());
+        }
+        if (count != null) {
+            count.incrementAndGet();
+        }
+    }
+
+    void jdbcTime(long nanos) {
+        jdbcNanos.addAndGet(nanos);
+    }
+
+    public int statements() {
+        return statements.get();
+    }
+
+    public long jdbcNanos() {
+        return jdbcNanos.get();
+    }
+
+    /**
+     * The statement text run most often; many runs of one statement is the usual sign of an N+1
+     */
+    public Optional<Map.Entry<String, Integer>> mostRepeated() {
+        return executions.entrySet().stream()
+            .max(Map.Entry.comparingByValue((a, b) -> Integer.compare(a.get(), b.get())))
+            .map(e -> Map.entry(e.getKey(), e.getValue().get()));
+    }
+}
@@ -0,0 +1,68 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hooks Hibernate into {@link SqlRequestStats}: a StatementInspector counts every statement Hibernate
+ * prepares (JPQL, derived and native queries, flushes), and a per-session event listener adds up the time
+ * spent executing them. Statements issued through JdbcTemplate are not seen.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.sql-stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatsHibernateCustomizer() {
+        StatementInspector inspector = sql -> {
+            SqlRequestStats stats = SqlRequestStats.current();
+            if (stats != null) {
+                stats.statementPrepared(sql);
+            }
+            return sql;
+        };
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimeListener.class.getName());
+        };
+    }
+
+    /**
+     * Instantiated by Hibernate for every session; a session is used by one thread at a time
+     */
+    public static class JdbcTimeListener extends BaseSessionEventListener {
+        private long startedAt;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            startedAt = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            record();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            startedAt = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            record();
+        }
+
+        private void record() {
+            SqlRequestStats stats = SqlRequestStats.current();
+            if (stats != null) {
+                stats.jdbcTime(System.nanoTime() - startedAt);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Collects SQL statements and JDBC time per HTTP request and records them by endpoint as
+ * {@code http.server.requests.sql.statements} and {@code http.server.requests.sql.time}.
+ *
+ * <p>A request that runs the same statement {@code repeated-statement-threshold} times or more is logged
+ * and counted in {@code http.server.requests.sql.repeated}: that is what an N+1 looks like.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatsFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatsFilter.class);
+    private static final int MAX_LOGGED_SQL_LENGTH = 200;
+
+    private final SqlStatsProperties props;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatsFilter(SqlStatsProperties props, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !props.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.begin();
+        request.setAttribute(SqlRequestStats.REQUEST_ATTRIBUTE, stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlRequestStats stats) {
+        // Only requests that reached a handler have a bounded endpoint name to tag with
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return;
+        }
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern.toString());
+        DistributionSummary.builder("http.server.requests.sql.statements")
+            .description("SQL statements per request")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(stats.statements());
+        Timer.builder("http.server.requests.sql.time")
+            .description("JDBC execution time per request")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(stats.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+        Map.Entry<String, Integer> repeated = stats.mostRepeated().orElse(null);
+        if (repeated != null && repeated.getValue() >= props.getRepeatedStatementThreshold()) {
+            meterRegistry.counter("http.server.requests.sql.repeated", tags).increment();
+            String sql = repeated.getKey();
+            logger.warn("Possible N+1 on {} {}: {} statements, {}x {}", request.getMethod(), pattern,
+                stats.statements(), repeated.getValue(),
+                sql.length() > MAX_LOGGED_SQL_LENGTH ? sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "..." : sql);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.sql-stats")
+public class SqlStatsProperties {
+    private boolean enabled = true;
+    private boolean responseHeader = false;
+    private int repeatedStatementThreshold = 10;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public boolean isResponseHeader() { return responseHeader; }
+    public void setResponseHeader(boolean responseHeader) { this.responseHeader = responseHeader; }
+    public int getRepeatedStatementThreshold() { return repeatedStatementThreshold; }
+    public void setRepeatedStatementThreshold(int repeatedStatementThreshold) { this.repeatedStatementThreshold = repeatedStatementThreshold; }
+}
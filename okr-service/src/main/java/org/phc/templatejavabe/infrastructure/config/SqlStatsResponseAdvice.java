@@ -0,0 +1,44 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import java.util.Locale;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds {@code X-SQL-Statements} and {@code X-SQL-Time-Ms} to controller responses when
+ * {@code app.sql-stats.response-header} is on (non-prod only). Headers are written just before the body,
+ * so statements run while serializing the body are not included.
+ */
+@ControllerAdvice
+public class SqlStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final SqlStatsProperties props;
+
+    public SqlStatsResponseAdvice(SqlStatsProperties props) {
+        this.props = props;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return props.isEnabled() && props.isResponseHeader();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            response.getHeaders().set(STATEMENTS_HEADER, Integer.toString(stats.statements()));
+            response.getHeaders().set(TIME_HEADER, String.format(Locale.ROOT, "%.2f", stats.jdbcNanos() / 1e6));
+        }
+        return body;
+    }
+}
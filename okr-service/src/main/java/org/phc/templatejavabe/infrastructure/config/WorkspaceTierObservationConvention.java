@@ -0,0 +1,25 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default {@code http.server.requests} tags (method, uri, status, outcome, exception) plus {@code workspace.tier}
+ */
+@Component
+public class WorkspaceTierObservationConvention extends DefaultServerRequestObservationConvention {
+    private final WorkspaceTierResolver tierResolver;
+
+    public WorkspaceTierObservationConvention(WorkspaceTierResolver tierResolver) {
+        this.tierResolver = tierResolver;
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context)
+            .and(KeyValue.of("workspace.tier", tierResolver.tier(context.getCarrier())));
+    }
+}
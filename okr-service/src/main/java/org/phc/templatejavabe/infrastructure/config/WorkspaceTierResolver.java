@@ -0,0 +1,66 @@
+package org.phc.templatejavabe.infrastructure.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Maps the workspace a request targets to its tier, the {@code workspace.tier} tag of request and service timers.
+ *
+ * <p>Tiers come from {@code app.metrics.workspace-tiers.<tier>=<workspace ids>}; any other workspace is
+ * {@code app.metrics.default-tier} and a request without a workspace is {@code none}. Workspace ids are never
+ * used as tags themselves, so the number of series stays bounded.</p>
+ */
+@Component
+public class WorkspaceTierResolver {
+    public static final String NO_WORKSPACE = "none";
+
+    private final String defaultTier;
+    private final Map<String, String> tierByWorkspace = new HashMap<>();
+
+    public WorkspaceTierResolver(MetricsProperties props) {
+        this.defaultTier = props.getDefaultTier();
+        for (Map.Entry<String, List<String>> tier : props.getWorkspaceTiers().entrySet()) {
+            for (String workspaceId : tier.getValue()) {
+                tierByWorkspace.put(workspaceId.trim(), tier.getKey());
+            }
+        }
+    }
+
+    public String tier(String workspaceId) {
+        if (workspaceId == null || workspaceId.isBlank()) {
+            return NO_WORKSPACE;
+        }
+        return tierByWorkspace.getOrDefault(workspaceId, defaultTier);
+    }
+
+    /**
+     * Tier of the {@code workspaceId} query parameter or path variable of the request
+     */
+    public String tier(HttpServletRequest request) {
+        String workspaceId = request.getParameter("workspaceId");
+        if (workspaceId == null
+            && request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> variables
+            && variables.get("workspaceId") instanceof String variable) {
+            workspaceId = variable;
+        }
+        return tier(workspaceId);
+    }
+
+    /**
+     * Tier of the request bound to the current thread, {@code none} on other threads
+     */
+    public String currentTier() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servlet) {
+            return tier(servlet.getRequest());
+        }
+        return NO_WORKSPACE;
+    }
+}
@@ -0,0 +1,39 @@
+package org.phc.templatejavabe.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.phc.templatejavabe.domain.model.ActivityEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC batch insert of activity events. A row that already exists (an event delivered again)
+ * is skipped, which makes the insert safe to repeat.
+ */
+@Repository
+public class ActivityEventBatchWriter {
+    private static final String INSERT_SQL = "INSERT INTO activity_events "
+        + "(id, workspace_id, actor_id, type, subject_id, objective_id, description, created_date) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ActivityEventBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<ActivityEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, e) -> {
+            ps.setString(1, e.getId());
+            ps.setString(2, e.getWorkspaceId());
+            ps.setString(3, e.getActorId());
+            ps.setString(4, e.getType().name());
+            ps.setString(5, e.getSubjectId());
+            ps.setString(6, e.getObjectiveId());
+            ps.setString(7, e.getDescription());
+            // UTC wall-clock time, as ActivityEvent maps it and the monthly partitions are cut
+            ps.setObject(8, LocalDateTime.ofInstant(e.getCreatedDate(), ZoneOffset.UTC));
+        });
+    }
+}
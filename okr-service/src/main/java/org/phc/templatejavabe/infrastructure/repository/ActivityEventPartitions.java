@@ -0,0 +1,66 @@
+package org.phc.templatejavabe.infrastructure.repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Monthly partitions of activity_events, named {@code activity_events_pYYYYMM}.
+ *
+ * <p>Months must be created before rows for them arrive: once the default partition holds rows of a month,
+ * PostgreSQL refuses to attach that month.</p>
+ */
+@Repository
+public class ActivityEventPartitions {
+    private static final Logger logger = LoggerFactory.getLogger(ActivityEventPartitions.class);
+    private static final String PREFIX = "activity_events_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ActivityEventPartitions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Create the partitions of {@code from} through {@code to} that do not exist yet
+     */
+    public void ensure(YearMonth from, YearMonth to) {
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name(month)
+                + " PARTITION OF activity_events FOR VALUES FROM ('" + month.atDay(1) + "') TO ('"
+                + month.plusMonths(1).atDay(1) + "')");
+        }
+    }
+
+    /**
+     * Drop the monthly partitions of months before {@code oldestKept}; returns how many were dropped
+     */
+    public int dropBefore(YearMonth oldestKept) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+            SELECT c.relname FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = 'activity_events' AND c.relname LIKE 'activity\\_events\\_p%'
+            """, String.class);
+        String oldestKeptName = name(oldestKept);
+        int dropped = 0;
+        for (String partition : partitions) {
+            // Same-length names compare like the months they encode
+            if (partition.length() == oldestKeptName.length() && partition.compareTo(oldestKeptName) < 0) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                logger.info("Dropped activity partition {}", partition);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    private static String name(YearMonth month) {
+        return PREFIX + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,44 @@
+package org.phc.templatejavabe.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.phc.templatejavabe.domain.model.ActivityEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Keyset reads of the activity feed, newest first. Pass the (created_date, id) of the last row of a page
+ * as {@code before} to read the next one; the row comparison lets the (…, created_date, id) indexes seek
+ * straight to it in every monthly partition. {@code beforeDate} is UTC wall-clock time, like created_date.
+ */
+public interface ActivityEventRepository extends JpaRepository<ActivityEvent, String> {
+
+    @Query(value = """
+        SELECT * FROM activity_events
+        WHERE workspace_id = :workspaceId
+          AND (CAST(:type AS varchar) IS NULL OR type = CAST(:type AS varchar))
+          AND (created_date, id) < (:beforeDate, :beforeId)
+        ORDER BY created_date DESC, id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<ActivityEvent> findWorkspacePage(@Param("workspaceId") String workspaceId,
+                                          @Param("type") String type,
+                                          @Param("beforeDate") LocalDateTime beforeDate,
+                                          @Param("beforeId") String beforeId,
+                                          @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT * FROM activity_events
+        WHERE actor_id = :actorId
+          AND (CAST(:type AS varchar) IS NULL OR type = CAST(:type AS varchar))
+          AND (created_date, id) < (:beforeDate, :beforeId)
+        ORDER BY created_date DESC, id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<ActivityEvent> findActorPage(@Param("actorId") String actorId,
+                                      @Param("type") String type,
+                                      @Param("beforeDate") LocalDateTime beforeDate,
+                                      @Param("beforeId") String beforeId,
+                                      @Param("limit") int limit);
+}
@@ -0,0 +1,36 @@
+package org.phc.templatejavabe.infrastructure.repository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.phc.templatejavabe.domain.model.CheckIn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC batch insert of check-ins, bypassing per-entity persist for the ingestion queue.
+ * Ids must already be assigned; joins the caller's transaction through the shared DataSource.
+ */
+@Repository
+public class CheckInBatchWriter {
+    private static final String INSERT_SQL =
+        "INSERT INTO check_ins (id, key_result_id, value, note, created_by, created_date) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CheckInBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<CheckIn> checkIns, int batchSize) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, checkIns, batchSize, (ps, c) -> {
+            ps.setString(1, c.getId());
+            ps.setString(2, c.getKeyResultId());
+            ps.setBigDecimal(3, c.getValue());
+            ps.setString(4, c.getNote());
+            ps.setString(5, c.getCreatedBy());
+            // Bound the same way Hibernate binds Instant, so both write paths store identical timestamps
+            ps.setObject(6, OffsetDateTime.ofInstant(c.getCreatedDate(), ZoneOffset.UTC));
+        });
+    }
+}
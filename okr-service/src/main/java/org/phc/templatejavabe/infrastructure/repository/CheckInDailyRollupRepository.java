@@ -0,0 +1,40 @@
+package org.phc.templatejavabe.infrastructure.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.phc.templatejavabe.domain.model.CheckInDailyRollup;
+import org.phc.templatejavabe.domain.model.CheckInDailyRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CheckInDailyRollupRepository extends JpaRepository<CheckInDailyRollup, CheckInDailyRollupId> {
+
+    /**
+     * Add {@code delta} to the day bucket, creating it on first use
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO check_in_daily_rollup (workspace_id, bucket_date, check_in_count)
+        VALUES (:workspaceId, :bucketDate, GREATEST(:delta, 0))
+        ON CONFLICT (workspace_id, bucket_date)
+        DO UPDATE SET check_in_count = GREATEST(check_in_daily_rollup.check_in_count + :delta, 0)
+        """, nativeQuery = true)
+    void increment(@Param("workspaceId") String workspaceId,
+                   @Param("bucketDate") LocalDate bucketDate,
+                   @Param("delta") int delta);
+
+    List<CheckInDailyRollup> findByIdWorkspaceIdAndIdBucketDateBetween(String workspaceId, LocalDate from, LocalDate to);
+
+    @Query("SELECT r.id.bucketDate AS bucketDate, SUM(r.checkInCount) AS checkInCount " +
+           "FROM CheckInDailyRollup r " +
+           "WHERE r.id.bucketDate BETWEEN :from AND :to " +
+           "GROUP BY r.id.bucketDate")
+    List<DailyCount> sumByBucketDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    interface DailyCount {
+        LocalDate getBucketDate();
+        Long getCheckInCount();
+    }
+}
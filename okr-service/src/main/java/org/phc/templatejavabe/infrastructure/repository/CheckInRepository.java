@@ -1,17 +1,60 @@
 package org.phc.templatejavabe.infrastructure.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import org.phc.templatejavabe.domain.model.CheckIn;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CheckInRepository extends JpaRepository<CheckIn, String> {
     List<CheckIn> findByKeyResultIdOrderByCreatedDateDesc(String keyResultId);
     List<CheckIn> findByKeyResultIdOrderByCreatedDateAsc(String keyResultId);
     
-    @Query("SELECT c FROM CheckIn c ORDER BY c.createdDate DESC")
-    List<CheckIn> findTop10ByOrderByCreatedDateDesc();
-}
+    /**
+     * Latest check-ins across all workspaces; the page size is pushed down as LIMIT
+     */
+    List<CheckIn> findByOrderByCreatedDateDescIdDesc(Pageable pageable);
+
+    /**
+     * Latest check-ins of one workspace, walking idx_check_ins_created_date newest first
+     */
+    @Query("SELECT c FROM CheckIn c " +
+           "JOIN KeyResult k ON k.id = c.keyResultId " +
+           "JOIN Objective o ON o.id = k.objectiveId " +
+           "WHERE o.workspaceId = :workspaceId " +
+           "ORDER BY c.createdDate DESC, c.id DESC")
+    List<CheckIn> findRecentByWorkspaceId(@Param("workspaceId") String workspaceId, Pageable pageable);
+
+    /**
+     * Latest check-in timestamp per objective, resolved through idx_check_ins_key_result_id_created_date.
+     * Objectives without any check-in are absent from the result.
+     */
+    @Query("SELECT k.objectiveId AS objectiveId, MAX(c.createdDate) AS lastCheckInDate " +
+           "FROM CheckIn c JOIN KeyResult k ON k.id = c.keyResultId " +
+           "WHERE k.objectiveId IN :objectiveIds " +
+           "GROUP BY k.objectiveId")
+    List<LastCheckInView> findLastCheckInDatesByObjectiveIds(@Param("objectiveIds") Collection<String> objectiveIds);
 
+    /**
+     * Latest check-in timestamp per key result; key results without any check-in are absent
+     */
+    @Query("SELECT c.keyResultId AS keyResultId, MAX(c.createdDate) AS lastCheckInDate " +
+           "FROM CheckIn c WHERE c.keyResultId IN :keyResultIds GROUP BY c.keyResultId")
+    List<KeyResultLastCheckInView> findLastCheckInDatesByKeyResultIds(@Param("keyResultIds") Collection<String> keyResultIds);
 
+    @Query("SELECT c.createdDate FROM CheckIn c WHERE c.keyResultId IN :keyResultIds")
+    List<Instant> findCreatedDatesByKeyResultIds(@Param("keyResultIds") Collection<String> keyResultIds);
 
+    interface KeyResultLastCheckInView {
+        String getKeyResultId();
+        Instant getLastCheckInDate();
+    }
+
+    interface LastCheckInView {
+        String getObjectiveId();
+        Instant getLastCheckInDate();
+    }
+}
@@ -1,13 +1,40 @@
 package org.phc.templatejavabe.infrastructure.repository;
 
+import jakarta.persistence.QueryHint;
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import org.hibernate.jpa.HibernateHints;
 import org.phc.templatejavabe.domain.model.KeyResult;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface KeyResultRepository extends JpaRepository<KeyResult, String> {
     List<KeyResult> findByObjectiveId(String objectiveId);
-}
-
-
+    List<KeyResult> findByObjectiveIdInOrderByCreatedDateAsc(Collection<String> objectiveIds);
 
+    /**
+     * Lock the rows (in id order, so concurrent lockers cannot deadlock) and return their stored values.
+     * Reads the database only: pending changes in the persistence context are not flushed first.
+     */
+    @Query(value = """
+        SELECT id AS "id", objective_id AS "objectiveId", current_value AS "currentValue",
+               target_value AS "targetValue", weight AS "weight"
+        FROM key_results
+        WHERE id IN (:ids)
+        ORDER BY id
+        FOR UPDATE
+        """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    List<StoredValues> lockStoredValues(@Param("ids") Collection<String> ids);
 
+    interface StoredValues {
+        String getId();
+        String getObjectiveId();
+        BigDecimal getCurrentValue();
+        BigDecimal getTargetValue();
+        BigDecimal getWeight();
+    }
+}
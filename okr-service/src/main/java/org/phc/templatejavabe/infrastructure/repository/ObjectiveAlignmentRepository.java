@@ -4,11 +4,61 @@ import java.util.List;
 import org.phc.templatejavabe.domain.model.ObjectiveAlignment;
 import org.phc.templatejavabe.domain.model.ObjectiveAlignmentId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ObjectiveAlignmentRepository extends JpaRepository<ObjectiveAlignment, ObjectiveAlignmentId> {
     List<ObjectiveAlignment> findByIdParentObjectiveId(String parentObjectiveId);
     List<ObjectiveAlignment> findByIdChildObjectiveId(String childObjectiveId);
-}
 
+    /**
+     * Every alignment touching a workspace, with the workspace of both ends, to build the in-memory index
+     */
+    @Query("SELECT a.id.parentObjectiveId AS parentId, a.id.childObjectiveId AS childId, " +
+           "p.workspaceId AS parentWorkspaceId, c.workspaceId AS childWorkspaceId " +
+           "FROM ObjectiveAlignment a, Objective p, Objective c " +
+           "WHERE p.id = a.id.parentObjectiveId AND c.id = a.id.childObjectiveId " +
+           "AND (p.workspaceId = :workspaceId OR c.workspaceId = :workspaceId)")
+    List<WorkspaceEdgeView> findEdgesByWorkspaceId(@Param("workspaceId") String workspaceId);
+
+    /**
+     * Edges below a root in one round trip. Rows come out level by level, so the LIMIT both bounds the
+     * response and stops the recursion early; an edge reachable at several depths appears once per depth.
+     */
+    @Query(value = "WITH RECURSIVE tree(parent_id, child_id, depth) AS (" +
+                   "  SELECT a.parent_objective_id, a.child_objective_id, 1 FROM objective_alignments a " +
+                   "  WHERE a.parent_objective_id = :rootId " +
+                   "  UNION " +
+                   "  SELECT a.parent_objective_id, a.child_objective_id, t.depth + 1 " +
+                   "  FROM objective_alignments a JOIN tree t ON a.parent_objective_id = t.child_id " +
+                   "  WHERE t.depth < :maxDepth" +
+                   ") SELECT parent_id AS \"parentId\", child_id AS \"childId\", depth AS \"depth\" FROM tree LIMIT :maxRows",
+           nativeQuery = true)
+    List<DescendantEdgeView> findDescendantEdges(@Param("rootId") String rootId,
+                                                 @Param("maxDepth") int maxDepth,
+                                                 @Param("maxRows") int maxRows);
 
+    /**
+     * Whether {@code toId} is reachable from {@code fromId}; UNION keeps the walk finite even over a cycle
+     */
+    @Query(value = "WITH RECURSIVE reach(id) AS (" +
+                   "  SELECT CAST(:fromId AS varchar) " +
+                   "  UNION " +
+                   "  SELECT a.child_objective_id FROM objective_alignments a JOIN reach r ON a.parent_objective_id = r.id" +
+                   ") SELECT EXISTS (SELECT 1 FROM reach WHERE id = :toId)",
+           nativeQuery = true)
+    boolean existsPath(@Param("fromId") String fromId, @Param("toId") String toId);
 
+    interface DescendantEdgeView {
+        String getParentId();
+        String getChildId();
+        Integer getDepth();
+    }
+
+    interface WorkspaceEdgeView {
+        String getParentId();
+        String getChildId();
+        String getParentWorkspaceId();
+        String getChildWorkspaceId();
+    }
+}
@@ -0,0 +1,25 @@
+package org.phc.templatejavabe.infrastructure.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.domain.model.ObjectiveFilter;
+
+/**
+ * Objective listings whose WHERE clause is built from the filters actually given, so each combination
+ * gets its own plan instead of one generic plan over {@code :x IS NULL OR col = :x} branches.
+ */
+public interface ObjectiveFilterRepository {
+
+    /**
+     * Up to {@code limit} filtered objectives with an id greater than {@code afterId}, in id order.
+     * Ids are ULIDs: unique and sorting in creation order, so the id alone is a complete keyset.
+     */
+    List<Objective> findPage(ObjectiveFilter filter, String afterId, int limit);
+
+    /**
+     * Same filters as {@link #findPage} read through a server-side cursor; must be consumed inside a
+     * transaction so the PostgreSQL driver honours the fetch size instead of buffering every row.
+     */
+    Stream<Objective> streamAll(ObjectiveFilter filter);
+}
@@ -0,0 +1,65 @@
+package org.phc.templatejavabe.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.domain.model.ObjectiveFilter;
+
+class ObjectiveFilterRepositoryImpl implements ObjectiveFilterRepository {
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    ObjectiveFilterRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Objective> findPage(ObjectiveFilter filter, String afterId, int limit) {
+        return entityManager.createQuery(select(filter, afterId))
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public Stream<Objective> streamAll(ObjectiveFilter filter) {
+        return entityManager.createQuery(select(filter, null))
+            .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+
+    private CriteriaQuery<Objective> select(ObjectiveFilter filter, String afterId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Objective> query = cb.createQuery(Objective.class);
+        Root<Objective> objective = query.from(Objective.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.workspaceId() != null) {
+            predicates.add(cb.equal(objective.get("workspaceId"), filter.workspaceId()));
+        }
+        if (filter.quarter() != null) {
+            predicates.add(cb.equal(objective.get("quarter"), filter.quarter()));
+        }
+        if (filter.teamId() != null) {
+            predicates.add(cb.equal(objective.get("teamId"), filter.teamId()));
+        }
+        if (filter.ownerId() != null) {
+            predicates.add(cb.equal(objective.get("ownerId"), filter.ownerId()));
+        }
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(objective.get("id"), afterId));
+        }
+
+        return query.select(objective)
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(cb.asc(objective.get("id")));
+    }
+}
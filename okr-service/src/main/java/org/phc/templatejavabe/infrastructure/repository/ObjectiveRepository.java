@@ -1,18 +1,229 @@
 package org.phc.templatejavabe.infrastructure.repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.domain.model.ObjectiveStatus;
 import org.phc.templatejavabe.domain.model.ObjectiveType;
+import org.phc.templatejavabe.domain.model.ProgressContribution;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ObjectiveRepository extends JpaRepository<Objective, String> {
+public interface ObjectiveRepository extends JpaRepository<Objective, String>, ObjectiveFilterRepository {
     List<Objective> findByOwnerIdAndQuarter(String ownerId, String quarter);
     List<Objective> findByTeamIdAndQuarter(String teamId, String quarter);
     List<Objective> findByWorkspaceId(String workspaceId);
     List<Objective> findByWorkspaceIdAndQuarter(String workspaceId, String quarter);
-    List<Objective> findByQuarterOrderByProgressDesc(String quarter);
     List<Objective> findByParentIdAndType(String parentId, ObjectiveType type);
-}
+    List<Objective> findByParentIdInAndType(Collection<String> parentIds, ObjectiveType type);
+
+    /**
+     * Progress ranking of a workspace quarter, ties broken by id so the order is stable for keyset paging.
+     * Served by idx_objectives_workspace_quarter_progress; the page size is pushed down as LIMIT.
+     */
+    @Query("SELECT o FROM Objective o " +
+           "WHERE o.workspaceId = :workspaceId AND o.quarter = :quarter AND o.progress IS NOT NULL " +
+           "ORDER BY o.progress DESC, o.id ASC")
+    List<Objective> findTopByWorkspaceAndQuarter(@Param("workspaceId") String workspaceId,
+                                                 @Param("quarter") String quarter,
+                                                 Pageable pageable);
+
+    /**
+     * Next page of {@link #findTopByWorkspaceAndQuarter} after the (progress, id) of the last row seen
+     */
+    @Query("SELECT o FROM Objective o " +
+           "WHERE o.workspaceId = :workspaceId AND o.quarter = :quarter AND o.progress IS NOT NULL " +
+           "AND (o.progress < :progress OR (o.progress = :progress AND o.id > :id)) " +
+           "ORDER BY o.progress DESC, o.id ASC")
+    List<Objective> findTopByWorkspaceAndQuarterAfter(@Param("workspaceId") String workspaceId,
+                                                      @Param("quarter") String quarter,
+                                                      @Param("progress") BigDecimal progress,
+                                                      @Param("id") String id,
+                                                      Pageable pageable);
+
+    @Query("SELECT o FROM Objective o " +
+           "WHERE o.quarter = :quarter AND o.progress IS NOT NULL " +
+           "ORDER BY o.progress DESC, o.id ASC")
+    List<Objective> findTopByQuarter(@Param("quarter") String quarter, Pageable pageable);
+
+    @Query("SELECT o FROM Objective o " +
+           "WHERE o.quarter = :quarter AND o.progress IS NOT NULL " +
+           "AND (o.progress < :progress OR (o.progress = :progress AND o.id > :id)) " +
+           "ORDER BY o.progress DESC, o.id ASC")
+    List<Objective> findTopByQuarterAfter(@Param("quarter") String quarter,
+                                          @Param("progress") BigDecimal progress,
+                                          @Param("id") String id,
+                                          Pageable pageable);
+
+    /**
+     * Fold one key result delta into the objective's running sums and derive progress in the same statement,
+     * so concurrent check-ins on sibling key results never overwrite each other.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE objectives
+        SET progress_weighted_sum = progress_weighted_sum + :weightedDelta,
+            progress_total_weight = progress_total_weight + :weightDelta,
+            progress = CASE WHEN progress_total_weight + :weightDelta > 0
+                            THEN ROUND((progress_weighted_sum + :weightedDelta) / (progress_total_weight + :weightDelta), 2)
+                            ELSE 0 END
+        WHERE id = :id
+        """, nativeQuery = true)
+    int applyProgressDelta(@Param("id") String id,
+                           @Param("weightedDelta") BigDecimal weightedDelta,
+                           @Param("weightDelta") BigDecimal weightDelta);
+
+    /**
+     * Overwrite the running sums after a full recompute
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE objectives
+        SET progress_weighted_sum = :weightedSum,
+            progress_total_weight = :totalWeight,
+            progress = :progress
+        WHERE id = :id
+        """, nativeQuery = true)
+    int setProgressSums(@Param("id") String id,
+                        @Param("weightedSum") BigDecimal weightedSum,
+                        @Param("totalWeight") BigDecimal totalWeight,
+                        @Param("progress") BigDecimal progress);
+
+    @Query("SELECT o.progress FROM Objective o WHERE o.id = :id")
+    BigDecimal findProgressById(@Param("id") String id);
 
+    @Query("SELECT o.id AS id, o.workspaceId AS workspaceId, o.progress AS progress, o.status AS status " +
+           "FROM Objective o WHERE o.id IN :ids")
+    List<ProgressView> findProgressByIdIn(@Param("ids") Collection<String> ids);
 
+    /**
+     * Direct parents of the given objectives, through objectives.parent_id and objective_alignments alike
+     */
+    @Query(value = """
+        SELECT o.id AS "childId", o.parent_id AS "parentId"
+        FROM objectives o
+        WHERE o.id IN (:ids) AND o.parent_id IS NOT NULL
+        UNION
+        SELECT a.child_objective_id AS "childId", a.parent_objective_id AS "parentId"
+        FROM objective_alignments a
+        WHERE a.child_objective_id IN (:ids)
+        """, nativeQuery = true)
+    List<ParentLink> findParentLinks(@Param("ids") Collection<String> ids);
 
+    /**
+     * Set progress of the given objectives to the weight-average of their own key results (running sums)
+     * and their direct children's progress, each child weighted by objectives.weight (missing counts as 1).
+     * Children must already be up to date; ProgressRollupService calls this one tree level at a time.
+     * Children are read without locks under READ COMMITTED, so a sibling committing concurrently can be missed
+     * until the parent is refreshed again.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE objectives o
+        SET progress = CASE WHEN o.progress_total_weight + COALESCE(c.child_weight, 0) > 0
+                            THEN ROUND((o.progress_weighted_sum + COALESCE(c.child_sum, 0))
+                                       / (o.progress_total_weight + COALESCE(c.child_weight, 0)), 2)
+                            ELSE 0 END
+        FROM objectives t
+        LEFT JOIN (
+            SELECT e.parent_id,
+                   SUM(COALESCE(ch.progress, 0) * COALESCE(ch.weight, 1)) AS child_sum,
+                   SUM(COALESCE(ch.weight, 1)) AS child_weight
+            FROM (
+                SELECT parent_id, id AS child_id FROM objectives WHERE parent_id IN (:ids)
+                UNION
+                SELECT parent_objective_id, child_objective_id FROM objective_alignments
+                WHERE parent_objective_id IN (:ids)
+            ) e
+            JOIN objectives ch ON ch.id = e.child_id
+            GROUP BY e.parent_id
+        ) c ON c.parent_id = t.id
+        WHERE o.id = t.id AND t.id IN (:ids)
+        """, nativeQuery = true)
+    int refreshHierarchicalProgress(@Param("ids") Collection<String> ids);
+
+    /**
+     * Aggregate an owner's objectives for a quarter in a single round trip.
+     * One row per status; key result figures are folded in per objective via a lateral join,
+     * with key result progress computed as in {@link ProgressContribution#progressOf}.
+     */
+    @Query(value = """
+        SELECT o.status AS "status",
+               COUNT(*) AS "objectiveCount",
+               COALESCE(SUM(o.progress), 0) AS "progressSum",
+               COALESCE(SUM(k.kr_count), 0) AS "keyResultCount",
+               COALESCE(SUM(k.kr_progress_sum), 0) AS "keyResultProgressSum"
+        FROM objectives o
+        LEFT JOIN LATERAL (
+            SELECT COUNT(*) AS kr_count,
+                   SUM(CASE WHEN kr.current_value IS NOT NULL AND kr.target_value > 0
+                            THEN LEAST(ROUND(kr.current_value / kr.target_value, 4) * 100, 100)
+                            ELSE 0 END) AS kr_progress_sum
+            FROM key_results kr
+            WHERE kr.objective_id = o.id
+        ) k ON TRUE
+        WHERE o.owner_id = :ownerId AND o.quarter = :quarter
+        GROUP BY o.status
+        """, nativeQuery = true)
+    List<StatusProgressAggregate> aggregateByOwnerAndQuarter(@Param("ownerId") String ownerId,
+                                                             @Param("quarter") String quarter);
+
+    /**
+     * Aggregate objectives of several teams for a quarter in a single round trip, one row per team.
+     * Teams without objectives in the quarter are absent from the result.
+     */
+    @Query(value = """
+        SELECT o.team_id AS "teamId",
+               COUNT(*) AS "objectiveCount",
+               COALESCE(SUM(o.progress), 0) AS "progressSum",
+               COALESCE(SUM(k.kr_count), 0) AS "keyResultCount",
+               COALESCE(SUM(k.kr_progress_sum), 0) AS "keyResultProgressSum"
+        FROM objectives o
+        LEFT JOIN LATERAL (
+            SELECT COUNT(*) AS kr_count,
+                   SUM(CASE WHEN kr.current_value IS NOT NULL AND kr.target_value > 0
+                            THEN LEAST(ROUND(kr.current_value / kr.target_value, 4) * 100, 100)
+                            ELSE 0 END) AS kr_progress_sum
+            FROM key_results kr
+            WHERE kr.objective_id = o.id
+        ) k ON TRUE
+        WHERE o.team_id IN (:teamIds) AND o.quarter = :quarter
+        GROUP BY o.team_id
+        """, nativeQuery = true)
+    List<TeamProgressAggregate> aggregateByTeamIdsAndQuarter(@Param("teamIds") Collection<String> teamIds,
+                                                             @Param("quarter") String quarter);
+
+    /**
+     * Objective and key result totals of one aggregate bucket.
+     */
+    interface ProgressAggregate {
+        Long getObjectiveCount();
+        BigDecimal getProgressSum();
+        Long getKeyResultCount();
+        BigDecimal getKeyResultProgressSum();
+    }
+
+    interface ProgressView {
+        String getId();
+        String getWorkspaceId();
+        BigDecimal getProgress();
+        ObjectiveStatus getStatus();
+    }
+
+    interface ParentLink {
+        String getChildId();
+        String getParentId();
+    }
+
+    interface StatusProgressAggregate extends ProgressAggregate {
+        String getStatus();
+    }
+
+    interface TeamProgressAggregate extends ProgressAggregate {
+        String getTeamId();
+    }
+}
@@ -0,0 +1,83 @@
+package org.phc.templatejavabe.infrastructure.repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC access to outbox_events. {@link #insert} joins the caller's transaction through the shared
+ * DataSource; the dispatcher's statements each run on their own.
+ */
+@Repository
+public class OutboxRepository {
+    private static final String INSERT_SQL = "INSERT INTO outbox_events "
+        + "(id, event_type, actor_id, payload, occurred_at, available_at) VALUES (?, ?, ?, ?, ?, ?)";
+    // Pushing available_at out by the lease hides claimed rows from other dispatchers; a dispatcher
+    // that dies before acknowledging leaves them to be claimed again once the lease runs out
+    private static final String CLAIM_SQL = "UPDATE outbox_events SET attempts = attempts + 1, available_at = ? "
+        + "WHERE id IN (SELECT id FROM outbox_events WHERE available_at <= ? AND attempts < ? "
+        + "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) "
+        + "RETURNING id, event_type, actor_id, payload, occurred_at, attempts, delivered_to";
+    private static final String DELETE_SQL = "DELETE FROM outbox_events WHERE id = ?";
+    private static final String RETRY_SQL =
+        "UPDATE outbox_events SET available_at = ?, last_error = ?, delivered_to = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(OutboxRecord record) {
+        jdbcTemplate.update(INSERT_SQL, record.id(), record.eventType(), record.actorId(), record.payload(),
+            utc(record.occurredAt()), utc(record.occurredAt()));
+    }
+
+    /**
+     * Lease up to {@code limit} deliverable events until {@code leaseUntil}, counting the attempt
+     */
+    public List<OutboxRecord> claim(Instant now, Instant leaseUntil, int maxAttempts, int limit) {
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new OutboxRecord(rs.getString("id"),
+                rs.getString("event_type"), rs.getString("actor_id"), rs.getString("payload"),
+                rs.getTimestamp("occurred_at").toInstant(), rs.getInt("attempts"), parse(rs.getString("delivered_to"))),
+            utc(leaseUntil), utc(now), maxAttempts, limit);
+    }
+
+    /**
+     * Acknowledge delivered events
+     */
+    public void deleteAll(List<String> ids) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, ids, ids.size(), (ps, id) -> ps.setString(1, id));
+    }
+
+    /**
+     * Make a failed event deliverable again at {@code availableAt}, remembering the subscribers that already
+     * handled it
+     */
+    public void retryAt(String id, Instant availableAt, String error, Set<String> deliveredTo) {
+        jdbcTemplate.update(RETRY_SQL, utc(availableAt), error,
+            deliveredTo.isEmpty() ? null : String.join(",", deliveredTo), id);
+    }
+
+    private static Set<String> parse(String deliveredTo) {
+        return deliveredTo == null || deliveredTo.isEmpty() ? Set.of()
+            : Arrays.stream(deliveredTo.split(",")).collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    /**
+     * {@code deliveredTo} holds the names of the subscribers that handled the event on an earlier attempt
+     */
+    public record OutboxRecord(String id, String eventType, String actorId, String payload, Instant occurredAt,
+                               int attempts, Set<String> deliveredTo) {
+    }
+}
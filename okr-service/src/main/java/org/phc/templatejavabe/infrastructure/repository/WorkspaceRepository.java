@@ -41,6 +41,13 @@ public interface WorkspaceRepository extends JpaRepository<Workspace, String> {
     @Query("SELECT w FROM Workspace w JOIN WorkspaceMember wm ON w.id = wm.workspaceId WHERE wm.userId = :userId AND w.status = 'ACTIVE'")
     List<Workspace> findWorkspacesByUserId(@Param("userId") String userId);
     
+    /**
+     * Whether the user owns the workspace or is one of its members
+     */
+    @Query("SELECT COUNT(w) > 0 FROM Workspace w WHERE w.id = :workspaceId AND (w.ownerId = :userId " +
+           "OR EXISTS (SELECT wm.id FROM WorkspaceMember wm WHERE wm.workspaceId = w.id AND wm.userId = :userId))")
+    boolean hasAccess(@Param("workspaceId") String workspaceId, @Param("userId") String userId);
+    
     /**
      * Count workspaces owned by a user
      */
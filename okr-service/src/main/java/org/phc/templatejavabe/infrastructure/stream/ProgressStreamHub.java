@@ -0,0 +1,441 @@
+package org.phc.templatejavabe.infrastructure.stream;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.phc.templatejavabe.domain.model.ObjectiveProgress;
+import org.phc.templatejavabe.infrastructure.config.ProgressStreamProperties;
+import org.phc.templatejavabe.infrastructure.repository.ObjectiveRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Pushes objective progress and status changes to live per-workspace subscriptions (the SSE progress stream).
+ *
+ * <p>Write paths report changed objective ids after commit. Every coalesce-millis one thread loads the
+ * current progress and status of all ids reported in that window with a single query, drops values the
+ * workspace's subscribers already have, and hands the rest to each subscription. While nobody is subscribed
+ * nothing is recorded or queried.</p>
+ *
+ * <p>A subscription buffers at most buffer-capacity objectives, latest value per objective, and is drained by
+ * a small sender pool, one send at a time. A connection that falls further behind loses its buffer and is told
+ * to resync; one that overflows again before the resync went out is closed. A send still blocked after
+ * send-timeout-millis closes its subscription and the pool gets a replacement thread until that send returns,
+ * so stalled clients never hold the senders healthy clients need. Like the caches, state is per instance:
+ * a client sees changes written through its own instance.</p>
+ */
+@Component
+public class ProgressStreamHub implements MeterBinder {
+    private static final Logger logger = LoggerFactory.getLogger(ProgressStreamHub.class);
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    private final ObjectiveRepository objectiveRepository;
+    private final ProgressStreamProperties props;
+    private final Map<String, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    // Last values handed to each workspace's subscriptions; only touched from the scheduler thread
+    private final Map<String, Map<String, ObjectiveProgress>> lastPushed = new ConcurrentHashMap<>();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    // Subscriptions with a send in progress, including ones closed meanwhile that still hold a sender thread
+    private final Set<Subscription> sending = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+    private final ThreadPoolExecutor senders;
+    // Sends past their timeout that still occupy a sender thread; guarded by this
+    private int stalledSends;
+
+    public ProgressStreamHub(ObjectiveRepository objectiveRepository, ProgressStreamProperties props) {
+        this.objectiveRepository = objectiveRepository;
+        this.props = props;
+        AtomicInteger senderCount = new AtomicInteger();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "progress-stream"));
+        this.senders = new ThreadPoolExecutor(props.getSenderThreads(), props.getSenderThreads(), 0L,
+            TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+            runnable -> daemon(runnable, "progress-stream-sender-" + senderCount.incrementAndGet()));
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, props.getCoalesceMillis(), props.getCoalesceMillis(),
+            TimeUnit.MILLISECONDS);
+        scheduler.scheduleAtFixedRate(this::heartbeat, props.getHeartbeatSeconds(), props.getHeartbeatSeconds(),
+            TimeUnit.SECONDS);
+    }
+
+    /**
+     * Receives what a subscription sends; called from a sender thread, never concurrently for one subscription.
+     * Throwing closes the subscription.
+     */
+    public interface Listener {
+        void onDeltas(List<ObjectiveProgress> deltas);
+
+        /**
+         * Changes were dropped because the connection fell behind; the client should reload
+         */
+        void onResync();
+
+        void onHeartbeat();
+
+        /**
+         * The hub gave up on this connection (stalled send or repeated overflow); end the response.
+         * Called once the blocked send, if any, has returned.
+         */
+        void onClosed();
+    }
+
+    /**
+     * Subscribe to a workspace's progress changes, or empty when max-connections streams are already open
+     */
+    public Optional<Subscription> subscribe(String workspaceId, Listener listener) {
+        if (connections.incrementAndGet() > props.getMaxConnections()) {
+            connections.decrementAndGet();
+            return Optional.empty();
+        }
+        Subscription subscription = new Subscription(workspaceId, listener);
+        subscriptions.compute(workspaceId, (id, subs) -> {
+            Set<Subscription> result = subs != null ? subs : ConcurrentHashMap.newKeySet();
+            result.add(subscription);
+            return result;
+        });
+        return Optional.of(subscription);
+    }
+
+    /**
+     * The progress or status of these objectives may have changed; pushed once the transaction commits
+     */
+    public void objectivesChanged(Collection<String> objectiveIds) {
+        // Nobody is listening on this instance: skip even the after-commit hook
+        if (connections.get() == 0 || objectiveIds.isEmpty()) {
+            return;
+        }
+        List<String> ids = objectiveIds.stream().filter(Objects::nonNull).toList();
+        afterCommit(() -> pending.addAll(ids));
+    }
+
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * Publishes the number of open streams as {@code progress.stream.connections}
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("progress.stream.connections", connections, AtomicInteger::get)
+            .description("Open live progress streams")
+            .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    /**
+     * Load and fan out everything reported since the previous flush. Only called from the scheduler thread.
+     */
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<String> ids = new ArrayList<>(pending);
+        pending.removeAll(ids);
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<ObjectiveProgress>> deltas = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += QUERY_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + QUERY_CHUNK_SIZE, ids.size()));
+            for (ObjectiveRepository.ProgressView view : objectiveRepository.findProgressByIdIn(chunk)) {
+                String workspaceId = view.getWorkspaceId();
+                if (workspaceId == null || !subscriptions.containsKey(workspaceId)) {
+                    continue;
+                }
+                ObjectiveProgress current = new ObjectiveProgress(view.getId(), workspaceId, view.getProgress(),
+                    view.getStatus());
+                ObjectiveProgress previous = lastPushed.computeIfAbsent(workspaceId, k -> new HashMap<>())
+                    .put(current.objectiveId(), current);
+                if (current.differsFrom(previous)) {
+                    deltas.computeIfAbsent(workspaceId, k -> new ArrayList<>()).add(current);
+                }
+            }
+        }
+        deltas.forEach((workspaceId, changed) ->
+            subscriptions.getOrDefault(workspaceId, Set.of()).forEach(subscription -> subscription.offer(changed)));
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // An exception would cancel the schedule; these changes are lost, later ones still go out
+            logger.warn("Could not push progress changes", e);
+        }
+        expireStalledSends();
+    }
+
+    /**
+     * Close subscriptions whose current send has been blocked longer than send-timeout-millis
+     */
+    void expireStalledSends() {
+        long now = System.nanoTime();
+        long timeout = TimeUnit.MILLISECONDS.toNanos(props.getSendTimeoutMillis());
+        for (Subscription subscription : sending) {
+            if (subscription.stalledSince(now, timeout)) {
+                logger.debug("Closing stalled progress stream of workspace {}", subscription.workspaceId);
+                resizeSenders(1);
+                subscription.closeByHub();
+            }
+        }
+    }
+
+    /**
+     * Keep sender-threads threads free for healthy connections while stalled sends hold theirs
+     */
+    private synchronized void resizeSenders(int delta) {
+        stalledSends += delta;
+        int size = props.getSenderThreads() + stalledSends;
+        // The core size may never exceed the maximum, so the order depends on the direction
+        if (delta > 0) {
+            senders.setMaximumPoolSize(size);
+            senders.setCorePoolSize(size);
+        } else {
+            senders.setCorePoolSize(size);
+            senders.setMaximumPoolSize(size);
+        }
+    }
+
+    private void heartbeat() {
+        // Workspaces whose last subscriber left no longer need their pushed values
+        lastPushed.keySet().retainAll(subscriptions.keySet());
+        subscriptions.values().forEach(subs -> subs.forEach(Subscription::ping));
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * One open stream. Changes that arrive while a send is in progress are merged into the next one.
+     */
+    public final class Subscription {
+        private final String workspaceId;
+        private final Listener listener;
+        // Latest unsent value per objective, in first-change order
+        private final Map<String, ObjectiveProgress> buffered = new LinkedHashMap<>();
+        private boolean overflowed;
+        // Changes dropped since the overflow; another buffer's worth before the resync is sent closes the stream
+        private int droppedSinceOverflow;
+        private boolean heartbeatDue;
+        private boolean draining;
+        private boolean closed;
+        private boolean closedByHub;
+        // Start of the send in progress, 0 when idle; a stalled send is counted once
+        private long sendStartedNanos;
+        private boolean stalled;
+
+        private Subscription(String workspaceId, Listener listener) {
+            this.workspaceId = workspaceId;
+            this.listener = listener;
+        }
+
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                buffered.clear();
+            }
+            connections.decrementAndGet();
+            subscriptions.computeIfPresent(workspaceId, (id, subs) -> {
+                subs.remove(this);
+                return subs.isEmpty() ? null : subs;
+            });
+        }
+
+        void closeByHub() {
+            synchronized (this) {
+                closedByHub = !closed;
+            }
+            close();
+            // Ends the response now when idle; a blocked send ends it from drain once it returns
+            scheduleClosedNotice();
+        }
+
+        synchronized boolean stalledSince(long now, long timeoutNanos) {
+            if (stalled || sendStartedNanos == 0 || now - sendStartedNanos < timeoutNanos) {
+                return false;
+            }
+            stalled = true;
+            return true;
+        }
+
+        void offer(List<ObjectiveProgress> deltas) {
+            boolean fellTooFarBehind = false;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                // Once overflowed the client reloads anyway, so nothing is buffered until the resync is sent
+                if (!overflowed) {
+                    for (ObjectiveProgress delta : deltas) {
+                        buffered.put(delta.objectiveId(), delta);
+                    }
+                    if (buffered.size() > props.getBufferCapacity()) {
+                        buffered.clear();
+                        overflowed = true;
+                        droppedSinceOverflow = 0;
+                    }
+                } else {
+                    droppedSinceOverflow += deltas.size();
+                    fellTooFarBehind = droppedSinceOverflow > props.getBufferCapacity();
+                }
+            }
+            if (fellTooFarBehind) {
+                closeByHub();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        void ping() {
+            synchronized (this) {
+                heartbeatDue = true;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            synchronized (this) {
+                if (closed || draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                senders.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                close();
+            }
+        }
+
+        private void scheduleClosedNotice() {
+            synchronized (this) {
+                if (!closedByHub || draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                senders.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Shutting down: the container ends the response
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                boolean resync;
+                boolean heartbeat;
+                List<ObjectiveProgress> batch;
+                synchronized (this) {
+                    if (closed || (!overflowed && !heartbeatDue && buffered.isEmpty())) {
+                        draining = false;
+                        boolean endResponse = closed && closedByHub;
+                        closedByHub = false;
+                        if (!endResponse) {
+                            return;
+                        }
+                        resync = false;
+                        heartbeat = false;
+                        batch = null;
+                    } else {
+                        resync = overflowed;
+                        heartbeat = heartbeatDue;
+                        batch = List.copyOf(buffered.values());
+                        overflowed = false;
+                        heartbeatDue = false;
+                        buffered.clear();
+                        sendStartedNanos = System.nanoTime();
+                    }
+                }
+                if (batch == null) {
+                    // Outside the lock: ending the response may block like a send
+                    notifyClosed();
+                    return;
+                }
+                sending.add(this);
+                try {
+                    // Any event keeps the connection alive, so the heartbeat only goes out on its own
+                    if (resync) {
+                        listener.onResync();
+                    } else if (!batch.isEmpty()) {
+                        listener.onDeltas(batch);
+                    } else if (heartbeat) {
+                        listener.onHeartbeat();
+                    }
+                } catch (RuntimeException e) {
+                    logger.debug("Closing progress stream of workspace {}: {}", workspaceId, e.toString());
+                    close();
+                } finally {
+                    sendFinished();
+                }
+            }
+        }
+
+        private void sendFinished() {
+            boolean wasStalled;
+            sending.remove(this);
+            synchronized (this) {
+                wasStalled = stalled;
+                stalled = false;
+                sendStartedNanos = 0;
+            }
+            if (wasStalled) {
+                resizeSenders(-1);
+            }
+        }
+
+        private void notifyClosed() {
+            try {
+                listener.onClosed();
+            } catch (RuntimeException e) {
+                logger.debug("Could not end progress stream of workspace {}: {}", workspaceId, e.toString());
+            }
+        }
+    }
+}
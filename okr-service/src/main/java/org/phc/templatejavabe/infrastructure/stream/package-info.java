@@ -0,0 +1,18 @@
+/**
+ * Infrastructure Stream Package - Live Push to Clients
+ *
+ * <p>Package này chứa các hub đẩy thay đổi tới client đang mở kết nối dài (Server-Sent Events),
+ * thay cho việc client poll các endpoint đọc.</p>
+ *
+ * <h2>Nguyên tắc:</h2>
+ * <ul>
+ *   <li>✅ Buffer theo từng kết nối luôn bounded; client chậm nhận tín hiệu resync thay vì giữ bộ nhớ</li>
+ *   <li>✅ Chỉ đẩy thay đổi sau khi transaction commit</li>
+ *   <li>✅ Không có subscriber thì write path không tốn thêm gì</li>
+ *   <li>❌ KHÔNG chứa business logic</li>
+ * </ul>
+ *
+ * @see org.phc.templatejavabe.infrastructure.cache
+ * @since 1.0
+ */
+package org.phc.templatejavabe.infrastructure.stream;
@@ -1,80 +1,91 @@
 package org.phc.templatejavabe.presentation.controller;
 
+import org.phc.templatejavabe.domain.model.ActivityEvent;
+import org.phc.templatejavabe.domain.model.ActivityEventSlice;
+import org.phc.templatejavabe.domain.model.ActivityType;
+import org.phc.templatejavabe.domain.service.ActivityEventService;
+import org.phc.templatejavabe.domain.service.WorkspaceService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/activity-log")
 public class ActivityLogController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
+    private final ActivityEventService activityEventService;
+    private final WorkspaceService workspaceService;
+
+    public ActivityLogController(ActivityEventService activityEventService, WorkspaceService workspaceService) {
+        this.activityEventService = activityEventService;
+        this.workspaceService = workspaceService;
+    }
+
+    /**
+     * Newest-first activity of a workspace the caller owns or belongs to, or the caller's own activity without
+     * {@code workspaceId}. The next page's cursor travels in the {@code X-Next-Cursor} header.
+     */
     @GetMapping
     public ResponseEntity<List<Map<String, Object>>> getActivityLog(
+            @RequestParam(required = false) String workspaceId,
             @RequestParam(required = false) String type,
-            @RequestParam(required = false, defaultValue = "50") int limit) {
-        
+            @RequestParam(required = false, defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor) {
+
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getName())) {
             return ResponseEntity.status(401).body(List.of());
         }
+        if (workspaceId != null) {
+            workspaceService.checkAccess(workspaceId, auth.getName());
+        }
+
+        ActivityType activityType = type == null || type.equals("all") ? null : ActivityType.fromCode(type);
+        ActivityEventSlice slice = activityEventService.findPage(workspaceId, auth.getName(), activityType, limit, cursor);
 
-        // Mock activity data for now
-        List<Map<String, Object>> activities = List.of(
-            Map.of(
-                "id", "act_001",
-                "type", "objective_created",
-                "title", "New objective created",
-                "description", "Created objective: Increase customer satisfaction",
-                "user_id", auth.getName(),
-                "user_name", "John Doe",
-                "created_date", Instant.now().toString(),
-                "metadata", Map.of("objective_id", "obj_001")
-            ),
-            Map.of(
-                "id", "act_002", 
-                "type", "key_result_created",
-                "title", "Key result added",
-                "description", "Added key result: Achieve 90% customer satisfaction score",
-                "user_id", auth.getName(),
-                "user_name", "John Doe", 
-                "created_date", Instant.now().minusSeconds(3600).toString(),
-                "metadata", Map.of("key_result_id", "kr_001")
-            ),
-            Map.of(
-                "id", "act_003",
-                "type", "check_in",
-                "title", "Progress check-in",
-                "description", "Updated progress to 75%",
-                "user_id", auth.getName(),
-                "user_name", "John Doe",
-                "created_date", Instant.now().minusSeconds(7200).toString(),
-                "metadata", Map.of("check_in_id", "ci_001")
-            ),
-            Map.of(
-                "id", "act_004",
-                "type", "comment",
-                "title", "Comment added",
-                "description", "Added comment: Great progress this quarter!",
-                "user_id", auth.getName(),
-                "user_name", "John Doe",
-                "created_date", Instant.now().minusSeconds(10800).toString(),
-                "metadata", Map.of("comment_id", "com_001")
-            )
-        );
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (slice.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, slice.nextCursor());
+        }
+        return response.body(slice.events().stream()
+            .map(event -> toResponse(event, slice.actorNames()))
+            .toList());
+    }
 
-        // Filter by type if specified
-        if (type != null && !type.equals("all")) {
-            activities = activities.stream()
-                .filter(activity -> activity.get("type").equals(type))
-                .toList();
+    private Map<String, Object> toResponse(ActivityEvent event, Map<String, String> actorNames) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        if (event.getSubjectId() != null) {
+            metadata.put(subjectKey(event.getType()), event.getSubjectId());
+        }
+        if (event.getObjectiveId() != null) {
+            metadata.put("objective_id", event.getObjectiveId());
         }
 
-        return ResponseEntity.ok(activities);
+        Map<String, Object> activity = new LinkedHashMap<>();
+        activity.put("id", event.getId());
+        activity.put("type", event.getType().code());
+        activity.put("title", event.getType().getTitle());
+        activity.put("description", event.getDescription());
+        activity.put("user_id", event.getActorId());
+        activity.put("user_name", actorNames.getOrDefault(event.getActorId(), event.getActorId()));
+        activity.put("workspace_id", event.getWorkspaceId());
+        activity.put("created_date", event.getCreatedDate().toString());
+        activity.put("metadata", metadata);
+        return activity;
     }
-}
 
+    private static String subjectKey(ActivityType type) {
+        return switch (type) {
+            case OBJECTIVE_CREATED, OBJECTIVE_UPDATED -> "objective_id";
+            case KEY_RESULT_CREATED, KEY_RESULT_UPDATED -> "key_result_id";
+            case CHECK_IN -> "check_in_id";
+            case COMMENT -> "comment_id";
+        };
+    }
+}
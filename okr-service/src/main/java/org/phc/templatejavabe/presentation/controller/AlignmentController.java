@@ -2,7 +2,6 @@ package org.phc.templatejavabe.presentation.controller;
 
 import jakarta.validation.Valid;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.phc.templatejavabe.domain.service.AlignmentService;
 import org.phc.templatejavabe.presentation.request.alignment.CreateAlignmentRequest;
 import org.phc.templatejavabe.presentation.response.alignment.AlignmentResponse;
@@ -18,9 +17,14 @@ public class AlignmentController {
         this.alignmentService = alignmentService;
     }
 
-    @GetMapping
+    /**
+     * Direct alignments below the objective; the whole subtree is {@code GET /objectives/{id}/alignments}
+     */
+    @GetMapping("/direct")
     public List<AlignmentResponse> list(@PathVariable String parentObjectiveId) {
-        return alignmentService.listParents(parentObjectiveId).stream().map(a -> new AlignmentResponse(a.getId().getParentObjectiveId(), a.getId().getChildObjectiveId())).collect(Collectors.toList());
+        return alignmentService.listParents(parentObjectiveId).stream()
+            .map(a -> new AlignmentResponse(a.getId().getParentObjectiveId(), a.getId().getChildObjectiveId()))
+            .toList();
     }
 
     @PostMapping
@@ -14,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Locale;
 import java.util.Map;
@@ -36,6 +37,9 @@ public class AuthController {
         try {
             TokenResponse response = userService.login(request);
             return ResponseEntity.ok(response);
+        } catch (ResponseStatusException e) {
+            // Throttled by the hashing pool (429): GlobalExceptionHandler keeps the status
+            throw e;
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -50,6 +54,8 @@ public class AuthController {
                 "message", messageSource.getMessage("auth.register.success", null, locale),
                 "user_id", user.getId()
             ));
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (RuntimeException e) {
             Locale locale = LocaleContextHolder.getLocale();
             return ResponseEntity.badRequest().body(Map.of(
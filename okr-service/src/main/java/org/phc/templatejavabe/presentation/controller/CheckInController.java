@@ -2,15 +2,21 @@ package org.phc.templatejavabe.presentation.controller;
 
 import jakarta.validation.Valid;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.phc.templatejavabe.domain.model.CheckIn;
+import org.phc.templatejavabe.domain.model.CheckInBatchReceipt;
+import org.phc.templatejavabe.domain.service.CheckInIngestionService;
 import org.phc.templatejavabe.domain.service.CheckInService;
+import org.phc.templatejavabe.presentation.request.checkin.CreateCheckInBatchRequest;
 import org.phc.templatejavabe.presentation.request.checkin.CreateCheckInRequest;
+import org.phc.templatejavabe.presentation.response.checkin.CheckInBatchResponse;
 import org.phc.templatejavabe.presentation.response.checkin.CheckInResponse;
 import org.phc.templatejavabe.application.mapper.CheckInMapper;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,19 +24,24 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/check-ins")
 public class CheckInController {
     private final CheckInService checkInService;
+    private final CheckInIngestionService checkInIngestionService;
 
-    public CheckInController(CheckInService checkInService) {
+    public CheckInController(CheckInService checkInService,
+                             CheckInIngestionService checkInIngestionService) {
         this.checkInService = checkInService;
+        this.checkInIngestionService = checkInIngestionService;
     }
 
     @GetMapping
-    public List<CheckInResponse> list(@RequestParam(required = false) String keyResultId) {
+    public List<CheckInResponse> list(@RequestParam(required = false) String keyResultId,
+                                      @RequestParam(required = false) String workspaceId,
+                                      @RequestParam(defaultValue = "10") int limit) {
         if (keyResultId != null) {
             return checkInService.list(keyResultId).stream()
                 .map(CheckInMapper::toResponse)
                 .collect(Collectors.toList());
         }
-        return checkInService.getRecentCheckIns(10).stream()
+        return checkInService.getRecentCheckIns(workspaceId, limit).stream()
             .map(CheckInMapper::toResponse)
             .collect(Collectors.toList());
     }
@@ -42,6 +53,36 @@ public class CheckInController {
         return ResponseEntity.ok(CheckInMapper.toResponse(saved));
     }
 
+    /**
+     * Queue many check-ins for write-behind persistence. Responds 202 with a ticket, or waits for
+     * the commit when {@code wait=true} (200 once durable, 202 if still queued when the wait ends).
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<CheckInBatchResponse> createBatch(@Valid @RequestBody CreateCheckInBatchRequest req,
+                                                            @RequestParam(defaultValue = "false") boolean wait,
+                                                            @RequestParam(defaultValue = "10") long timeoutSeconds) {
+        List<CheckIn> checkIns = req.checkIns().stream()
+            .map(CheckInMapper::toEntity)
+            .collect(Collectors.toList());
+        CheckInBatchReceipt receipt = checkInIngestionService.submit(checkIns);
+        if (wait) {
+            receipt = checkInIngestionService.awaitDurable(receipt.ticket(), Duration.ofSeconds(timeoutSeconds))
+                .orElse(receipt);
+        }
+        return toBatchResponse(receipt);
+    }
+
+    @GetMapping("/batch/{ticket}")
+    public ResponseEntity<CheckInBatchResponse> getBatch(@PathVariable String ticket,
+                                                         @RequestParam(defaultValue = "false") boolean wait,
+                                                         @RequestParam(defaultValue = "10") long timeoutSeconds) {
+        Optional<CheckInBatchReceipt> receipt = wait
+            ? checkInIngestionService.awaitDurable(ticket, Duration.ofSeconds(timeoutSeconds))
+            : checkInIngestionService.status(ticket);
+        return receipt.map(this::toBatchResponse)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<CheckInResponse> update(@PathVariable String id, @Valid @RequestBody Map<String, Object> updateData) {
         try {
@@ -83,4 +124,13 @@ public class CheckInController {
             .map(CheckInMapper::toResponse)
             .collect(Collectors.toList());
     }
+
+    private ResponseEntity<CheckInBatchResponse> toBatchResponse(CheckInBatchReceipt receipt) {
+        HttpStatus status = switch (receipt.state()) {
+            case PENDING -> HttpStatus.ACCEPTED;
+            case DURABLE -> HttpStatus.OK;
+            case FAILED -> HttpStatus.INTERNAL_SERVER_ERROR;
+        };
+        return ResponseEntity.status(status).body(CheckInMapper.toResponse(receipt));
+    }
 }
\ No newline at end of file
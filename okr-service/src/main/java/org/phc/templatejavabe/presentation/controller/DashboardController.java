@@ -1,6 +1,7 @@
 package org.phc.templatejavabe.presentation.controller;
 
 import java.math.BigDecimal;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -9,12 +10,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.phc.templatejavabe.domain.service.DashboardService;
 import org.phc.templatejavabe.presentation.response.dashboard.DashboardSummaryResponse;
 import org.phc.templatejavabe.presentation.response.dashboard.StatusCountsResponse;
+import org.phc.templatejavabe.presentation.response.dashboard.TopPerformersPage;
 import java.util.Map;
 import java.util.List;
 
 @RestController
 @RequestMapping("/dashboard")
 public class DashboardController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
     @Autowired
     private DashboardService dashboardService;
@@ -56,22 +59,32 @@ public class DashboardController {
     }
 
     @GetMapping("/check-in-trend")
-    public Map<String, Object> checkInTrend(@RequestParam(defaultValue = "30") int days) {
-        return dashboardService.getCheckInTrend(days);
+    public Map<String, Object> checkInTrend(@RequestParam(defaultValue = "30") int days,
+                                            @RequestParam(required = false) String workspaceId,
+                                            @RequestParam(defaultValue = "day") String bucket) {
+        return dashboardService.getCheckInTrend(days, workspaceId, bucket);
     }
 
     @GetMapping("/top-performers")
-    public List<Map<String, Object>> topPerformers(@RequestParam String quarter, 
-                                                   @RequestParam(defaultValue = "10") int limit,
-                                                   @RequestParam(required = false) String workspaceId) {
-        return dashboardService.getTopPerformers(quarter, limit, workspaceId);
+    public ResponseEntity<List<Map<String, Object>>> topPerformers(@RequestParam String quarter, 
+                                                                   @RequestParam(defaultValue = "10") int limit,
+                                                                   @RequestParam(required = false) String workspaceId,
+                                                                   @RequestParam(required = false) String cursor) {
+        TopPerformersPage page = dashboardService.getTopPerformers(quarter, limit, workspaceId, cursor);
+        
+        // Keep the body a plain array for existing clients; the next page cursor travels in a header
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
     }
 
-    // @GetMapping("/recent-check-ins")
-    // public List<Map<String, Object>> recentCheckIns(@RequestParam(defaultValue = "5") int limit) {
-    //     // Temporarily return empty list to fix dashboard
-    //     return new java.util.ArrayList<>();
-    // }
+    @GetMapping("/recent-check-ins")
+    public List<Map<String, Object>> recentCheckIns(@RequestParam(defaultValue = "5") int limit,
+                                                    @RequestParam(required = false) String workspaceId) {
+        return dashboardService.getRecentCheckIns(limit, workspaceId);
+    }
 }
 
 
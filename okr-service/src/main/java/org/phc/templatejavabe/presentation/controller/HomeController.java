@@ -1,5 +1,6 @@
 package org.phc.templatejavabe.presentation.controller;
 
+import org.phc.templatejavabe.domain.service.HomeBootstrapService;
 import org.phc.templatejavabe.domain.service.HomeService;
 import org.phc.templatejavabe.presentation.response.home.*;
 import org.slf4j.Logger;
@@ -25,6 +26,9 @@ public class HomeController {
     @Autowired
     private HomeService homeService;
 
+    @Autowired
+    private HomeBootstrapService homeBootstrapService;
+
     @GetMapping("/summary")
     public ResponseEntity<?> getHomeSummary() {
         try {
@@ -73,6 +77,23 @@ public class HomeController {
         }
     }
 
+    /**
+     * Summary, personal objectives and groups in one round trip
+     */
+    @GetMapping("/bootstrap")
+    public ResponseEntity<?> getHomeBootstrap() {
+        try {
+            String userId = getCurrentUserId();
+            logger.info("Getting home bootstrap for user: {}", userId);
+            
+            HomeBootstrapResponse response = homeBootstrapService.bootstrap(userId);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            logger.error("Error getting home bootstrap", e);
+            return ResponseEntity.status(500).body(createErrorResponse("Failed to get home bootstrap", e));
+        }
+    }
+
     private String getCurrentUserId() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getName())) {
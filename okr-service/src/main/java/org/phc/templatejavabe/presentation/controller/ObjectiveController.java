@@ -1,50 +1,88 @@
 package org.phc.templatejavabe.presentation.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.phc.templatejavabe.domain.model.AlignmentTree;
 import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.domain.model.ObjectiveChildren;
+import org.phc.templatejavabe.domain.model.ObjectiveFilter;
+import org.phc.templatejavabe.domain.model.ObjectiveSlice;
 import org.phc.templatejavabe.domain.model.KeyResult;
 import org.phc.templatejavabe.domain.service.ObjectiveService;
 import org.phc.templatejavabe.domain.service.KeyResultService;
 import org.phc.templatejavabe.domain.service.AlignmentService;
+import org.phc.templatejavabe.domain.service.CheckInService;
 import org.phc.templatejavabe.presentation.request.objective.CreateObjectiveRequest;
 import org.phc.templatejavabe.presentation.request.objective.UpdateObjectiveRequest;
 import org.phc.templatejavabe.presentation.request.objective.MoveObjectiveRequest;
 import org.phc.templatejavabe.presentation.response.objective.ObjectiveResponse;
 import org.phc.templatejavabe.presentation.response.keyresult.KeyResultResponse;
+import org.phc.templatejavabe.presentation.response.alignment.AlignmentTreeResponse;
 import org.phc.templatejavabe.application.mapper.ObjectiveMapper;
 import org.phc.templatejavabe.application.mapper.KeyResultMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/objectives")
 public class ObjectiveController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int STREAM_CHUNK_SIZE = 500;
+
     private final ObjectiveService objectiveService;
     private final KeyResultService keyResultService;
     private final AlignmentService alignmentService;
+    private final CheckInService checkInService;
+    private final ObjectMapper objectMapper;
 
     public ObjectiveController(ObjectiveService objectiveService, 
                               KeyResultService keyResultService,
-                              AlignmentService alignmentService) {
+                              AlignmentService alignmentService,
+                              CheckInService checkInService,
+                              ObjectMapper objectMapper) {
         this.objectiveService = objectiveService;
         this.keyResultService = keyResultService;
         this.alignmentService = alignmentService;
+        this.checkInService = checkInService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
-    public List<ObjectiveResponse> list(@RequestParam(required = false) String workspaceId,
-                                       @RequestParam(required = false) String quarter,
-                                       @RequestParam(required = false) String teamId,
-                                       @RequestParam(required = false) String ownerId) {
-        List<Objective> objectives;
+    public ResponseEntity<?> list(@RequestParam(required = false) String workspaceId,
+                                  @RequestParam(required = false) String quarter,
+                                  @RequestParam(required = false) String teamId,
+                                  @RequestParam(required = false) String ownerId,
+                                  @RequestParam(required = false) Integer limit,
+                                  @RequestParam(required = false) String cursor) {
+        ObjectiveFilter filter = new ObjectiveFilter(workspaceId, quarter, teamId, ownerId);
+        
+        // Keyset page when the client asks for one; the next page cursor travels in a header
+        if (limit != null || cursor != null) {
+            requireWorkspace(filter);
+            ObjectiveSlice slice = objectiveService.findPage(filter, limit != null ? limit : DEFAULT_PAGE_SIZE, cursor);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (slice.nextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, slice.nextCursor());
+            }
+            return response.body(toResponsesWithChildren(slice.objectives()));
+        }
         
-        // If workspaceId is provided, filter by workspace
-        if (workspaceId != null && !workspaceId.isBlank()) {
-            if (quarter != null && !quarter.isBlank()) {
+        List<Objective> objectives;
+        if (filter.workspaceId() != null) {
+            if (filter.quarter() != null) {
                 objectives = objectiveService.findByWorkspaceAndQuarter(workspaceId, quarter);
             } else {
                 objectives = objectiveService.findByWorkspace(workspaceId);
@@ -54,18 +92,47 @@ public class ObjectiveController {
         } else if (quarter != null && teamId != null) {
             objectives = objectiveService.findByTeamAndQuarter(teamId, quarter);
         } else {
-            objectives = objectiveService.findAll();
+            // Anything wider would list every tenant's objectives
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "workspaceId, ownerId + quarter or teamId + quarter is required");
         }
         
-        return objectives.stream()
-            .map(obj -> ObjectiveMapper.toResponseWithChildren(obj, keyResultService, objectiveService))
-            .collect(Collectors.toList());
+        return ResponseEntity.ok(toResponsesWithChildren(objectives));
+    }
+
+    /**
+     * Same JSON array as {@code GET /objectives}, written incrementally from a database cursor
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream(@RequestParam(required = false) String workspaceId,
+                                                        @RequestParam(required = false) String quarter,
+                                                        @RequestParam(required = false) String teamId,
+                                                        @RequestParam(required = false) String ownerId) {
+        ObjectiveFilter filter = new ObjectiveFilter(workspaceId, quarter, teamId, ownerId);
+        requireWorkspace(filter);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                objectiveService.forEachChunk(filter, STREAM_CHUNK_SIZE, chunk -> {
+                    try {
+                        for (ObjectiveResponse response : toResponsesWithChildren(chunk)) {
+                            generator.writeObject(response);
+                        }
+                        generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ObjectiveResponse> get(@PathVariable String id) {
         return objectiveService.findById(id)
-            .map(obj -> ObjectiveMapper.toResponseWithChildren(obj, keyResultService, objectiveService))
+            .map(obj -> toResponseWithChildren(obj, lastCheckInDate(obj.getId())))
             .map(ResponseEntity::ok)
             .orElseGet(() -> ResponseEntity.notFound().build());
     }
@@ -136,8 +203,16 @@ public class ObjectiveController {
     }
 
     @GetMapping("/{id}/alignments")
-    public List<Map<String, Object>> getAlignments(@PathVariable String id) {
-        return alignmentService.getAlignmentTree(id);
+    public AlignmentTreeResponse getAlignments(@PathVariable String id,
+                                               @RequestParam(defaultValue = "10") int maxDepth,
+                                               @RequestParam(defaultValue = "1000") int maxNodes) {
+        AlignmentTree tree = alignmentService.getAlignmentTree(id, maxDepth, maxNodes);
+        return new AlignmentTreeResponse(
+            tree.rootId(),
+            tree.edges().stream()
+                .map(e -> new AlignmentTreeResponse.Edge(e.parentId(), e.childId(), e.depth()))
+                .collect(Collectors.toList()),
+            tree.truncated());
     }
 
     @DeleteMapping("/{id}")
@@ -150,7 +225,7 @@ public class ObjectiveController {
     public ResponseEntity<ObjectiveResponse> duplicate(@PathVariable String id) {
         return objectiveService.findById(id)
             .map(objectiveService::duplicate)
-            .map(duplicated -> ObjectiveMapper.toResponseWithChildren(duplicated, keyResultService, objectiveService))
+            .map(duplicated -> toResponseWithChildren(duplicated, null))
             .map(ResponseEntity::ok)
             .orElseGet(() -> ResponseEntity.notFound().build());
     }
@@ -159,10 +234,32 @@ public class ObjectiveController {
     public ResponseEntity<ObjectiveResponse> move(@PathVariable String id, @Valid @RequestBody MoveObjectiveRequest req) {
         return objectiveService.findById(id)
             .map(objective -> objectiveService.move(objective, req.teamId(), req.workspaceId()))
-            .map(moved -> ObjectiveMapper.toResponseWithChildren(moved, keyResultService, objectiveService))
+            .map(moved -> toResponseWithChildren(moved, lastCheckInDate(moved.getId())))
             .map(ResponseEntity::ok)
             .orElseGet(() -> ResponseEntity.notFound().build());
     }
-}
 
+    private static void requireWorkspace(ObjectiveFilter filter) {
+        if (filter.workspaceId() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "workspaceId is required");
+        }
+    }
 
+    private List<ObjectiveResponse> toResponsesWithChildren(List<Objective> objectives) {
+        Map<String, Instant> lastCheckIns = checkInService.findLastCheckInDates(
+            objectives.stream().map(Objective::getId).collect(Collectors.toList()));
+        ObjectiveChildren children = objectiveService.loadChildren(objectives);
+        
+        return objectives.stream()
+            .map(obj -> ObjectiveMapper.toResponseWithChildren(obj, children, lastCheckIns.get(obj.getId())))
+            .collect(Collectors.toList());
+    }
+
+    private ObjectiveResponse toResponseWithChildren(Objective objective, Instant lastCheckInDate) {
+        return ObjectiveMapper.toResponseWithChildren(objective, objectiveService.loadChildren(List.of(objective)), lastCheckInDate);
+    }
+
+    private Instant lastCheckInDate(String objectiveId) {
+        return checkInService.findLastCheckInDates(List.of(objectiveId)).get(objectiveId);
+    }
+}
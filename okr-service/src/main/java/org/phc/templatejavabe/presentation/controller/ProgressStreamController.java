@@ -0,0 +1,92 @@
+package org.phc.templatejavabe.presentation.controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.phc.templatejavabe.domain.model.ObjectiveProgress;
+import org.phc.templatejavabe.domain.service.WorkspaceService;
+import org.phc.templatejavabe.infrastructure.config.ProgressStreamProperties;
+import org.phc.templatejavabe.infrastructure.stream.ProgressStreamHub;
+import org.phc.templatejavabe.presentation.response.objective.ObjectiveProgressResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/workspaces")
+public class ProgressStreamController {
+    private final ProgressStreamHub progressStreamHub;
+    private final WorkspaceService workspaceService;
+    private final ProgressStreamProperties props;
+
+    public ProgressStreamController(ProgressStreamHub progressStreamHub,
+                                    WorkspaceService workspaceService,
+                                    ProgressStreamProperties props) {
+        this.progressStreamHub = progressStreamHub;
+        this.workspaceService = workspaceService;
+        this.props = props;
+    }
+
+    /**
+     * Server-sent events with the objectives of a workspace whose progress or status changed, replacing
+     * polling of {@code /dashboard/summary} and {@code /objectives}. A "progress" event carries a JSON array
+     * of {@code {objective_id, progress, status}}; "resync" means changes were dropped and the client should
+     * reload. Open the stream before the initial load so no change falls in between. Only owners and members
+     * of the workspace may subscribe.
+     */
+    @GetMapping(value = "/{workspaceId}/progress-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable String workspaceId) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getName())) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated");
+        }
+        workspaceService.checkAccess(workspaceId, auth.getName());
+
+        SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(props.getTimeoutMinutes()));
+        ProgressStreamHub.Subscription subscription = progressStreamHub.subscribe(workspaceId, new SseListener(emitter))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many progress streams"));
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        return emitter;
+    }
+
+    private record SseListener(SseEmitter emitter) implements ProgressStreamHub.Listener {
+        @Override
+        public void onDeltas(List<ObjectiveProgress> deltas) {
+            send(SseEmitter.event().name("progress")
+                .data(deltas.stream().map(ObjectiveProgressResponse::from).toList(), MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void onResync() {
+            send(SseEmitter.event().name("resync").data("reload"));
+        }
+
+        @Override
+        public void onHeartbeat() {
+            send(SseEmitter.event().comment("ping"));
+        }
+
+        @Override
+        public void onClosed() {
+            emitter.complete();
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
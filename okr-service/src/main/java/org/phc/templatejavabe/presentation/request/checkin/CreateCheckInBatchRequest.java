@@ -0,0 +1,10 @@
+package org.phc.templatejavabe.presentation.request.checkin;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+public record CreateCheckInBatchRequest(
+    @JsonProperty("check_ins") @NotEmpty List<@Valid CreateCheckInRequest> checkIns
+) {}
@@ -0,0 +1,16 @@
+package org.phc.templatejavabe.presentation.response.alignment;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public record AlignmentTreeResponse(
+    @JsonProperty("root_id") String rootId,
+    @JsonProperty("edges") List<Edge> edges,
+    @JsonProperty("truncated") boolean truncated
+) {
+    public record Edge(
+        @JsonProperty("parent_id") String parentId,
+        @JsonProperty("child_id") String childId,
+        @JsonProperty("depth") int depth
+    ) {}
+}
@@ -0,0 +1,11 @@
+package org.phc.templatejavabe.presentation.response.checkin;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public record CheckInBatchResponse(
+    String ticket,
+    String status,
+    @JsonProperty("check_in_ids") List<String> checkInIds,
+    String error
+) {}
@@ -0,0 +1,13 @@
+package org.phc.templatejavabe.presentation.response.dashboard;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of the top performer ranking; the controller sends {@code items} as the body and
+ * {@code nextCursor} in a header
+ */
+public record TopPerformersPage(
+    List<Map<String, Object>> items,
+    String nextCursor
+) {}
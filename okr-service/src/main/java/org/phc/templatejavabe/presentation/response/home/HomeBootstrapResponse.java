@@ -0,0 +1,21 @@
+package org.phc.templatejavabe.presentation.response.home;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HomeBootstrapResponse {
+    private HomeSummaryResponse summary;
+    
+    @JsonProperty("personal_objectives")
+    private List<PersonalObjectiveResponse> personalObjectives;
+    
+    private List<GroupInfoResponse> groups;
+}
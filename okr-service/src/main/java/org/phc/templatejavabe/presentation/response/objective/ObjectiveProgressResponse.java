@@ -0,0 +1,19 @@
+package org.phc.templatejavabe.presentation.response.objective;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
+import org.phc.templatejavabe.domain.model.ObjectiveProgress;
+
+/**
+ * One changed objective in a "progress" event of the workspace progress stream
+ */
+public record ObjectiveProgressResponse(
+    @JsonProperty("objective_id") String objectiveId,
+    BigDecimal progress,
+    String status
+) {
+    public static ObjectiveProgressResponse from(ObjectiveProgress p) {
+        return new ObjectiveProgressResponse(p.objectiveId(), p.progress(),
+            p.status() != null ? p.status().name() : null);
+    }
+}
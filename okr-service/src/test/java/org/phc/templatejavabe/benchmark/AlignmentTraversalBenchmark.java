@@ -0,0 +1,209 @@
+package org.phc.templatejavabe.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.phc.templatejavabe.infrastructure.repository.ObjectiveAlignmentRepository;
+
+/**
+ * Per-node alignment walk vs the recursive queries of ObjectiveAlignmentRepository on a 10k-node graph.
+ *
+ * <p>Needs a PostgreSQL database; the graph lives in a session TEMP table that shadows objective_alignments,
+ * so nothing is written to real tables. Run with:</p>
+ * <pre>
+ * mvn test -Dtest=AlignmentTraversalBenchmark -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/okr \
+ *     -Dbench.jdbc.user=postgres -Dbench.jdbc.password=postgres
+ * </pre>
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "bench.jdbc.url", matches = ".+")
+class AlignmentTraversalBenchmark {
+    private static final int NODES = 10_000;
+    private static final int FANOUT = 4;
+    private static final int EXTRA_EDGES = 1_000;
+    private static final int MAX_DEPTH = 32;
+    private static final int WARMUP = 3;
+    private static final int RUNS = 10;
+
+    private Connection connection;
+
+    @BeforeAll
+    void seed() throws SQLException {
+        connection = DriverManager.getConnection(System.getProperty("bench.jdbc.url"),
+            System.getProperty("bench.jdbc.user"), System.getProperty("bench.jdbc.password"));
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE TEMP TABLE objective_alignments (" +
+                "parent_objective_id varchar(26) NOT NULL, child_objective_id varchar(26) NOT NULL, " +
+                "PRIMARY KEY (parent_objective_id, child_objective_id))");
+        }
+
+        // A FANOUT-ary tree (company → department → team ...) plus extra edges to earlier nodes, still acyclic
+        Set<String> edges = new HashSet<>();
+        Random random = new Random(42);
+        for (int i = 1; i < NODES; i++) {
+            edges.add(id((i - 1) / FANOUT) + ">" + id(i));
+        }
+        while (edges.size() < NODES - 1 + EXTRA_EDGES) {
+            int child = 1 + random.nextInt(NODES - 1);
+            edges.add(id(random.nextInt(child)) + ">" + id(child));
+        }
+        try (PreparedStatement ps = connection.prepareStatement("INSERT INTO objective_alignments VALUES (?, ?)")) {
+            for (String edge : edges) {
+                String[] ends = edge.split(">");
+                ps.setString(1, ends[0]);
+                ps.setString(2, ends[1]);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        try (Statement st = connection.createStatement()) {
+            st.execute("ANALYZE objective_alignments");
+        }
+    }
+
+    @AfterAll
+    void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void subtreeOfRoot() throws Exception {
+        try (NativeStatement descendants = NativeStatement.prepare(connection, ObjectiveAlignmentRepository.class,
+                "findDescendantEdges", String.class, int.class, int.class)) {
+            int perNode = measure("tree / per-node", () -> perNodeTree(id(0)).size());
+            int cte = measure("tree / recursive CTE", () -> distinctEdges(descendants, id(0)));
+            assertEquals(perNode, cte);
+        }
+    }
+
+    @Test
+    void cycleCheckFromRootToUnreachableLeaf() throws Exception {
+        // Worst case for validateAlignment: the proposed parent is not below the child, so the whole subtree is walked
+        try (NativeStatement existsPath = NativeStatement.prepare(connection, ObjectiveAlignmentRepository.class,
+                "existsPath", String.class, String.class)) {
+            String missing = "missing";
+            measure("reach / per-node", () -> perNodeReaches(id(0), missing) ? 1 : 0);
+            measure("reach / recursive CTE", () -> cteReaches(existsPath, id(0), missing) ? 1 : 0);
+            assertFalse(cteReaches(existsPath, id(0), missing));
+        }
+    }
+
+    private List<String> perNodeTree(String root) throws SQLException {
+        List<String> found = new ArrayList<>();
+        Set<String> expanded = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>(List.of(root));
+        try (PreparedStatement ps = childrenQuery()) {
+            while (!pending.isEmpty()) {
+                String parent = pending.pop();
+                if (!expanded.add(parent)) {
+                    continue;
+                }
+                for (String child : children(ps, parent)) {
+                    found.add(parent + ">" + child);
+                    pending.push(child);
+                }
+            }
+        }
+        return found;
+    }
+
+    private boolean perNodeReaches(String from, String to) throws SQLException {
+        Set<String> visited = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>(List.of(from));
+        try (PreparedStatement ps = childrenQuery()) {
+            while (!pending.isEmpty()) {
+                String node = pending.pop();
+                if (node.equals(to)) {
+                    return true;
+                }
+                if (visited.add(node)) {
+                    children(ps, node).forEach(pending::push);
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int distinctEdges(NativeStatement descendants, String root) throws SQLException {
+        Set<String> found = new HashSet<>();
+        descendants.bind(Map.of("rootId", root, "maxDepth", MAX_DEPTH, "maxRows", Integer.MAX_VALUE));
+        try (ResultSet rs = descendants.statement().executeQuery()) {
+            while (rs.next()) {
+                found.add(rs.getString(1) + ">" + rs.getString(2));
+            }
+        }
+        return found.size();
+    }
+
+    private static boolean cteReaches(NativeStatement existsPath, String from, String to) throws SQLException {
+        existsPath.bind(Map.of("fromId", from, "toId", to));
+        try (ResultSet rs = existsPath.statement().executeQuery()) {
+            rs.next();
+            return rs.getBoolean(1);
+        }
+    }
+
+    private PreparedStatement childrenQuery() throws SQLException {
+        return connection.prepareStatement(
+            "SELECT child_objective_id FROM objective_alignments WHERE parent_objective_id = ?");
+    }
+
+    private static List<String> children(PreparedStatement ps, String parent) throws SQLException {
+        ps.setString(1, parent);
+        List<String> children = new ArrayList<>();
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                children.add(rs.getString(1));
+            }
+        }
+        return children;
+    }
+
+    private static int measure(String label, SqlCall call) throws SQLException {
+        int result = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            result = call.run();
+        }
+        long[] nanos = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            result = call.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("%-24s median %8.2f ms  min %8.2f ms  (result %d)%n",
+            label, nanos[RUNS / 2] / 1e6, nanos[0] / 1e6, result);
+        return result;
+    }
+
+    private static String id(int n) {
+        return String.format("%026d", n);
+    }
+
+    @FunctionalInterface
+    private interface SqlCall {
+        int run() throws SQLException;
+    }
+}
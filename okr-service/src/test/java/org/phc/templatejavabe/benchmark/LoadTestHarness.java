@@ -0,0 +1,147 @@
+package org.phc.templatejavabe.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Repeatable load test of the read endpoints of a running service: p50/p99 latency and SQL statements per
+ * request for /home, /dashboard, /objectives and /check-ins.
+ *
+ * <p>Fill the database with SyntheticDatasetGenerator, start the service with the {@code loadtest} profile
+ * (it exposes Hibernate's statement counter) and run:</p>
+ * <pre>
+ * SPRING_PROFILES_ACTIVE=loadtest mvn spring-boot:run
+ * mvn test -Dtest=LoadTestHarness -Dload.base-url=http://localhost:8080 -Dload.workspace-id=... \
+ *     -Dload.requests=500 -Dload.concurrency=16
+ * </pre>
+ * <p>Endpoints run one after another, so the statement delta around a run belongs to that endpoint alone.
+ * Statements issued outside Hibernate (JdbcTemplate) are not counted.</p>
+ */
+@EnabledIfSystemProperty(named = "load.base-url", matches = ".+")
+class LoadTestHarness {
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final String baseUrl = System.getProperty("load.base-url").replaceAll("/+$", "");
+    private final String email = System.getProperty("load.email", "user0-0@synthetic.okr");
+    private final String password = System.getProperty("load.password", SyntheticDatasetGenerator.PASSWORD);
+    private final String workspaceId = System.getProperty("load.workspace-id", "");
+    private final String quarter = System.getProperty("load.quarter", "2025-Q1");
+    private final int requests = Integer.getInteger("load.requests", 200);
+    private final int warmup = Integer.getInteger("load.warmup", 20);
+    private final int concurrency = Integer.getInteger("load.concurrency", 8);
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    @Test
+    void readEndpoints() throws Exception {
+        String token = login();
+        String ws = URLEncoder.encode(workspaceId, UTF_8);
+        String q = URLEncoder.encode(quarter, UTF_8);
+        Map<String, String> endpoints = new LinkedHashMap<>();
+        endpoints.put("/home", "/home/bootstrap");
+        endpoints.put("/dashboard", "/dashboard/summary?quarter=" + q + "&workspaceId=" + ws);
+        endpoints.put("/objectives", "/objectives?workspaceId=" + ws + "&quarter=" + q + "&limit=50");
+        endpoints.put("/check-ins", "/check-ins?workspaceId=" + ws + "&limit=50");
+
+        System.out.printf("%-12s %8s %10s %10s %10s %12s%n", "endpoint", "requests", "p50 ms", "p99 ms", "max ms", "SQL/request");
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        try {
+            for (Map.Entry<String, String> endpoint : endpoints.entrySet()) {
+                run(pool, token, endpoint.getValue(), warmup);
+                OptionalDouble before = statementCount(token);
+                long[] nanos = run(pool, token, endpoint.getValue(), requests);
+                OptionalDouble after = statementCount(token);
+
+                Arrays.sort(nanos);
+                String sql = before.isPresent() && after.isPresent()
+                    ? String.format("%.1f", (after.getAsDouble() - before.getAsDouble()) / requests)
+                    : "n/a";
+                System.out.printf("%-12s %8d %10.2f %10.2f %10.2f %12s%n", endpoint.getKey(), requests,
+                    percentile(nanos, 0.50) / 1e6, percentile(nanos, 0.99) / 1e6, nanos[nanos.length - 1] / 1e6, sql);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Send {@code count} requests through the pool and return each one's latency
+     */
+    private long[] run(ExecutorService pool, String token, String path, int count) {
+        List<CompletableFuture<Long>> calls = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            calls.add(CompletableFuture.supplyAsync(() -> {
+                long start = System.nanoTime();
+                HttpResponse<String> response = send(get(path, token));
+                long elapsed = System.nanoTime() - start;
+                if (response.statusCode() / 100 != 2) {
+                    throw new IllegalStateException("GET " + path + " returned " + response.statusCode() + ": " + response.body());
+                }
+                return elapsed;
+            }, pool));
+        }
+        return calls.stream().mapToLong(CompletableFuture::join).toArray();
+    }
+
+    private String login() throws Exception {
+        String body = JSON.writeValueAsString(Map.of("email", email, "password", password));
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login as " + email + " failed with " + response.statusCode());
+        }
+        return JSON.readTree(response.body()).path("access_token").asText();
+    }
+
+    /**
+     * Statements Hibernate has prepared since start-up; empty when the loadtest profile is not active
+     */
+    private OptionalDouble statementCount(String token) throws Exception {
+        HttpResponse<String> response = send(get("/actuator/metrics/hibernate.statements?tag=status:prepared", token));
+        if (response.statusCode() != 200) {
+            return OptionalDouble.empty();
+        }
+        JsonNode measurements = JSON.readTree(response.body()).path("measurements");
+        return measurements.isEmpty() ? OptionalDouble.empty() : OptionalDouble.of(measurements.get(0).path("value").asDouble());
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Authorization", "Bearer " + token)
+            .timeout(Duration.ofSeconds(30))
+            .GET()
+            .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (Exception e) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " failed", e);
+        }
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.max(0, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,69 @@
+package org.phc.templatejavabe.benchmark;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * Native SQL exactly as declared on a repository method, run over plain JDBC.
+ *
+ * <p>Named parameters are bound positionally; {@code IN (:ids)} is rewritten to {@code = ANY (?)} so a
+ * collection binds as one varchar array.</p>
+ */
+final class NativeStatement implements AutoCloseable {
+    private static final Pattern NAMED_PARAM = Pattern.compile(":(\\w+)");
+    private static final Pattern IN_LIST = Pattern.compile("IN \\(:(\\w+)\\)");
+
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final List<String> params;
+
+    private NativeStatement(Connection connection, String sql) throws SQLException {
+        this.connection = connection;
+        this.params = new ArrayList<>();
+        Matcher m = NAMED_PARAM.matcher(IN_LIST.matcher(sql).replaceAll("= ANY (:$1)"));
+        while (m.find()) {
+            params.add(m.group(1));
+        }
+        this.statement = connection.prepareStatement(m.replaceAll("?"));
+    }
+
+    static NativeStatement prepare(Connection connection, Class<?> repository, String method, Class<?>... types)
+            throws SQLException, NoSuchMethodException {
+        return new NativeStatement(connection, sql(repository, method, types));
+    }
+
+    static String sql(Class<?> repository, String method, Class<?>... types) throws NoSuchMethodException {
+        Method m = repository.getMethod(method, types);
+        return m.getAnnotation(Query.class).value();
+    }
+
+    NativeStatement bind(Map<String, ?> values) throws SQLException {
+        for (int i = 0; i < params.size(); i++) {
+            Object value = values.get(params.get(i));
+            if (value instanceof Collection<?> collection) {
+                statement.setArray(i + 1, connection.createArrayOf("varchar", collection.toArray()));
+            } else {
+                statement.setObject(i + 1, value);
+            }
+        }
+        return this;
+    }
+
+    PreparedStatement statement() {
+        return statement;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        statement.close();
+    }
+}
@@ -0,0 +1,335 @@
+package org.phc.templatejavabe.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.phc.templatejavabe.domain.model.KeyResult;
+import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.domain.model.ProgressContribution;
+import org.phc.templatejavabe.domain.service.CheckInRollupService;
+import org.phc.templatejavabe.domain.service.IdGeneratorService;
+import org.phc.templatejavabe.domain.service.ObjectiveService;
+import org.phc.templatejavabe.infrastructure.repository.CheckInDailyRollupRepository;
+import org.phc.templatejavabe.infrastructure.repository.ObjectiveRepository;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Fills the database behind {@code bench.jdbc.url} with a synthetic OKR dataset of configurable scale.
+ *
+ * <p>Per workspace: {@code dataset.users} members and, for every quarter in {@code dataset.quarters},
+ * {@code dataset.objectives} objectives aligned into a {@code dataset.fanout}-ary tree, each with
+ * {@code dataset.key-results} key results of {@code dataset.check-ins} check-ins over the last
+ * {@code dataset.days} days. Progress sums, hierarchical progress, status and the check-in daily rollup
+ * are derived with the repositories' own SQL and ObjectiveService's status rule, as if entered through the API.</p>
+ *
+ * <p>Rows are tagged {@code created_by = 'synthetic-dataset'} and replaced on every run, so a run with the
+ * same settings and {@code dataset.seed} gives the same shape. Members sign in as
+ * {@code user<w>-<u>@synthetic.okr} / {@value #PASSWORD}; /home reports on the "Q1 2024" quarter.</p>
+ * <pre>
+ * mvn test -Dtest=SyntheticDatasetGenerator -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/okr_db \
+ *     -Dbench.jdbc.user=okr_user -Dbench.jdbc.password=... \
+ *     -Ddataset.workspaces=20 -Ddataset.objectives=200 -Ddataset.key-results=4 -Ddataset.check-ins=12
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "dataset.workspaces", matches = "\\d+")
+class SyntheticDatasetGenerator {
+    static final String MARKER = "synthetic-dataset";
+    static final String PASSWORD = "Synthetic@123";
+    private static final int BATCH_SIZE = 1_000;
+    private static final int[] TARGETS = {10, 50, 100, 1_000};
+
+    private final int workspaces = Integer.getInteger("dataset.workspaces", 1);
+    private final int users = Integer.getInteger("dataset.users", 20);
+    private final int objectives = Integer.getInteger("dataset.objectives", 100);
+    private final int keyResults = Integer.getInteger("dataset.key-results", 4);
+    private final int checkIns = Integer.getInteger("dataset.check-ins", 10);
+    private final int fanout = Integer.getInteger("dataset.fanout", 4);
+    private final int days = Integer.getInteger("dataset.days", 90);
+    private final List<String> quarters = List.of(System.getProperty("dataset.quarters", "Q1 2024,2025-Q1").split(","));
+    private final Random random = new Random(Long.getLong("dataset.seed", 42));
+    private final IdGeneratorService ids = new IdGeneratorService();
+    private final ObjectiveService statusRule = new ObjectiveService(null, null, null, null, null, null, null, null, null);
+    private final Map<String, Long> rows = new HashMap<>();
+
+    @Test
+    void generate() throws Exception {
+        long started = System.nanoTime();
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        List<String> workspaceIds = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(System.getProperty("bench.jdbc.url"),
+                System.getProperty("bench.jdbc.user"), System.getProperty("bench.jdbc.password"))) {
+            connection.setAutoCommit(false);
+            deletePrevious(connection);
+            connection.commit();
+
+            // One transaction per workspace keeps memory and lock time bounded at any scale
+            for (int w = 0; w < workspaces; w++) {
+                workspaceIds.add(generateWorkspace(connection, w, passwordHash));
+                connection.commit();
+            }
+        }
+
+        System.out.printf("Generated %s in %.1f s%n", rows, (System.nanoTime() - started) / 1e9);
+        System.out.printf("Sign in as user0-0@synthetic.okr / %s, workspace %s%n", PASSWORD, workspaceIds.get(0));
+    }
+
+    private String generateWorkspace(Connection connection, int w, String passwordHash) throws Exception {
+        String workspaceId = ids.generateId();
+        LocalDateTime now = LocalDateTime.now();
+        List<String> userIds = new ArrayList<>();
+
+        try (Batch userRows = batch(connection, "users",
+                 "INSERT INTO users (id, email, password_hash, full_name, status, created_by, created_date) VALUES (?, ?, ?, ?, ?, ?, ?)");
+             Batch memberRows = batch(connection, "workspace_members",
+                 "INSERT INTO workspace_members (id, workspace_id, user_id, role, status, created_by, created_date) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                 userRows)) {
+            for (int u = 0; u < users; u++) {
+                String userId = ids.generateId();
+                userIds.add(userId);
+                userRows.add(userId, "user" + w + "-" + u + "@synthetic.okr", passwordHash,
+                    "Synthetic User " + w + "-" + u, "ACTIVE", MARKER, now);
+            }
+            userRows.flush();
+            execute(connection, "workspaces",
+                "INSERT INTO workspaces (id, name, description, owner_id, status, created_by, created_date) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                workspaceId, "Synthetic Workspace " + w, "Generated load-test data", userIds.get(0), "ACTIVE", MARKER, now);
+            for (int u = 0; u < users; u++) {
+                memberRows.add(ids.generateId(), workspaceId, userIds.get(u), u == 0 ? "OWNER" : "MEMBER", "ACTIVE", MARKER, now);
+            }
+        }
+
+        Map<String, String> quarterOf = new HashMap<>();
+        Map<String, ProgressContribution> sums = new HashMap<>();
+        List<List<String>> levels = new ArrayList<>();
+        Map<LocalDate, Integer> checkInsPerDay = new HashMap<>();
+        try (Batch objectiveRows = batch(connection, "objectives",
+                 "INSERT INTO objectives (id, title, description, owner_id, workspace_id, quarter, status, progress, weight, type, created_by, created_date) "
+                     + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Batch alignmentRows = batch(connection, "objective_alignments",
+                 "INSERT INTO objective_alignments (parent_objective_id, child_objective_id, created_by, created_date) VALUES (?, ?, ?, ?)",
+                 objectiveRows);
+             Batch keyResultRows = batch(connection, "key_results",
+                 "INSERT INTO key_results (id, objective_id, title, metric_type, unit, target_value, current_value, weight, created_by, created_date) "
+                     + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                 objectiveRows);
+             Batch checkInRows = batch(connection, "check_ins",
+                 "INSERT INTO check_ins (id, key_result_id, value, note, created_by, created_date) VALUES (?, ?, ?, ?, ?, ?)",
+                 keyResultRows)) {
+            for (String quarter : quarters) {
+                String[] objectiveIds = new String[objectives];
+                int[] depth = new int[objectives];
+                for (int i = 0; i < objectives; i++) {
+                    // Objective i aligns under (i - 1) / fanout: company → department → team ...
+                    int parent = (i - 1) / fanout;
+                    depth[i] = i == 0 ? 0 : depth[parent] + 1;
+                    objectiveIds[i] = ids.generateId();
+                    quarterOf.put(objectiveIds[i], quarter);
+                    while (levels.size() <= depth[i]) {
+                        levels.add(new ArrayList<>());
+                    }
+                    levels.get(depth[i]).add(objectiveIds[i]);
+                    objectiveRows.add(objectiveIds[i], "Objective " + quarter + " #" + i, "Synthetic objective",
+                        userIds.get(i % users), workspaceId, quarter, "NOT_STARTED", BigDecimal.ZERO, BigDecimal.ONE,
+                        depth[i] == 0 ? "COMPANY" : depth[i] == 1 ? "DEPARTMENT" : "TEAM", MARKER, now);
+                    if (i > 0) {
+                        alignmentRows.add(objectiveIds[parent], objectiveIds[i], MARKER, now);
+                    }
+                }
+
+                for (String objectiveId : objectiveIds) {
+                    BigDecimal weightedSum = BigDecimal.ZERO;
+                    BigDecimal totalWeight = BigDecimal.ZERO;
+                    for (int k = 0; k < keyResults; k++) {
+                        KeyResult kr = keyResult(objectiveId);
+                        keyResultRows.add(kr.getId(), objectiveId, "Key result #" + k, "NUMBER", "units",
+                            kr.getTargetValue(), kr.getCurrentValue(), kr.getWeight(), MARKER, now);
+                        ProgressContribution contribution = ProgressContribution.of(kr);
+                        weightedSum = weightedSum.add(contribution.weightedProgress());
+                        totalWeight = totalWeight.add(contribution.weight());
+
+                        // A ramp of check-ins ending at the current value, spread over the last `days` days
+                        for (int c = 1; c <= checkIns; c++) {
+                            LocalDateTime at = now.minusDays(days).plusMinutes((long) days * 24 * 60 * c / checkIns)
+                                .minusMinutes(random.nextInt(12 * 60));
+                            BigDecimal value = kr.getCurrentValue().multiply(BigDecimal.valueOf(c))
+                                .divide(BigDecimal.valueOf(checkIns), 2, RoundingMode.HALF_UP);
+                            checkInRows.add(ids.generateId(), kr.getId(), value, "Synthetic check-in", MARKER, at);
+                            // check_ins.created_date holds JVM-local time; rollup buckets are UTC days
+                            checkInsPerDay.merge(CheckInRollupService.bucketDateOf(at.atZone(ZoneId.systemDefault()).toInstant()),
+                                1, Integer::sum);
+                        }
+                    }
+                    sums.put(objectiveId, new ProgressContribution(objectiveId, weightedSum, totalWeight));
+                }
+            }
+        }
+
+        deriveProgress(connection, sums, levels);
+        deriveStatus(connection, workspaceId, quarterOf);
+        try (NativeStatement increment = NativeStatement.prepare(connection, CheckInDailyRollupRepository.class,
+                "increment", String.class, LocalDate.class, int.class)) {
+            for (Map.Entry<LocalDate, Integer> day : checkInsPerDay.entrySet()) {
+                increment.bind(Map.of("workspaceId", workspaceId, "bucketDate", day.getKey(), "delta", day.getValue()));
+                increment.statement().addBatch();
+            }
+            increment.statement().executeBatch();
+        }
+        return workspaceId;
+    }
+
+    private KeyResult keyResult(String objectiveId) {
+        KeyResult kr = new KeyResult();
+        kr.setId(ids.generateId());
+        kr.setObjectiveId(objectiveId);
+        BigDecimal target = BigDecimal.valueOf(TARGETS[random.nextInt(TARGETS.length)]);
+        kr.setTargetValue(target);
+        // 0..120% of target, so some key results overshoot
+        kr.setCurrentValue(target.multiply(BigDecimal.valueOf(random.nextInt(121))).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP));
+        kr.setWeight(BigDecimal.valueOf(1 + random.nextInt(3)));
+        return kr;
+    }
+
+    /**
+     * Own key result sums first, then hierarchical progress one tree level at a time from the deepest parents up
+     */
+    private static void deriveProgress(Connection connection, Map<String, ProgressContribution> sums,
+                                       List<List<String>> levels) throws Exception {
+        try (NativeStatement setSums = NativeStatement.prepare(connection, ObjectiveRepository.class,
+                "setProgressSums", String.class, BigDecimal.class, BigDecimal.class, BigDecimal.class)) {
+            for (ProgressContribution s : sums.values()) {
+                setSums.bind(Map.of("id", s.objectiveId(), "weightedSum", s.weightedProgress(), "totalWeight", s.weight(),
+                    "progress", ProgressContribution.average(s.weightedProgress(), s.weight())));
+                setSums.statement().addBatch();
+            }
+            setSums.statement().executeBatch();
+        }
+        try (NativeStatement refresh = NativeStatement.prepare(connection, ObjectiveRepository.class,
+                "refreshHierarchicalProgress", Collection.class)) {
+            for (int depth = levels.size() - 2; depth >= 0; depth--) {
+                refresh.bind(Map.of("ids", levels.get(depth)));
+                refresh.statement().executeUpdate();
+            }
+        }
+    }
+
+    private void deriveStatus(Connection connection, String workspaceId, Map<String, String> quarterOf) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement("SELECT id, progress FROM objectives WHERE workspace_id = ?");
+             PreparedStatement update = connection.prepareStatement("UPDATE objectives SET status = ? WHERE id = ?")) {
+            select.setString(1, workspaceId);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    Objective objective = new Objective();
+                    objective.setQuarter(quarterOf.get(rs.getString(1)));
+                    objective.setProgress(rs.getBigDecimal(2));
+                    statusRule.updateStatus(objective);
+                    update.setString(1, objective.getStatus().name());
+                    update.setString(2, rs.getString(1));
+                    update.addBatch();
+                }
+            }
+            update.executeBatch();
+        }
+    }
+
+    /**
+     * Delete the previous run's rows, children first
+     */
+    private static void deletePrevious(Connection connection) throws SQLException {
+        String[] statements = {
+            "DELETE FROM check_in_daily_rollup WHERE workspace_id IN (SELECT id FROM workspaces WHERE created_by = ?)",
+            "DELETE FROM check_ins WHERE key_result_id IN (SELECT id FROM key_results WHERE created_by = ?)",
+            "DELETE FROM comments WHERE objective_id IN (SELECT id FROM objectives WHERE created_by = ?) "
+                + "OR key_result_id IN (SELECT id FROM key_results WHERE created_by = ?) "
+                + "OR author_id IN (SELECT id FROM users WHERE created_by = ?)",
+            "DELETE FROM key_results WHERE created_by = ?",
+            "DELETE FROM objective_alignments WHERE parent_objective_id IN (SELECT id FROM objectives WHERE created_by = ?) "
+                + "OR child_objective_id IN (SELECT id FROM objectives WHERE created_by = ?)",
+            "DELETE FROM objectives WHERE created_by = ?",
+            "DELETE FROM workspace_members WHERE workspace_id IN (SELECT id FROM workspaces WHERE created_by = ?) "
+                + "OR user_id IN (SELECT id FROM users WHERE created_by = ?)",
+            "DELETE FROM workspaces WHERE created_by = ?",
+            "DELETE FROM user_roles WHERE user_id IN (SELECT id FROM users WHERE created_by = ?)",
+            "DELETE FROM users WHERE created_by = ?"
+        };
+        for (String sql : statements) {
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                for (int i = 1; i <= ps.getParameterMetaData().getParameterCount(); i++) {
+                    ps.setString(i, MARKER);
+                }
+                ps.executeUpdate();
+            }
+        }
+    }
+
+    private void execute(Connection connection, String table, String sql, Object... values) throws SQLException {
+        try (Batch single = batch(connection, table, sql)) {
+            single.add(values);
+        }
+    }
+
+    private Batch batch(Connection connection, String table, String sql, Batch... parents) throws SQLException {
+        return new Batch(connection.prepareStatement(sql), table, parents);
+    }
+
+    /**
+     * Insert statement flushed every {@value #BATCH_SIZE} rows and on close. The rows it references
+     * ({@code parents}) are flushed first, so foreign keys always find their target.
+     */
+    private final class Batch implements AutoCloseable {
+        private final PreparedStatement statement;
+        private final String table;
+        private final Batch[] parents;
+        private int pending;
+
+        private Batch(PreparedStatement statement, String table, Batch[] parents) {
+            this.statement = statement;
+            this.table = table;
+            this.parents = parents;
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            rows.merge(table, 1L, Long::sum);
+            if (++pending == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            for (Batch parent : parents) {
+                parent.flush();
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.phc.templatejavabe.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.phc.templatejavabe.domain.model.ActivityEvent;
+import org.phc.templatejavabe.domain.model.ActivityEventSlice;
+import org.phc.templatejavabe.domain.model.ActivityType;
+import org.phc.templatejavabe.domain.model.CheckInDeleted;
+import org.phc.templatejavabe.domain.model.CheckInRecorded;
+import org.phc.templatejavabe.domain.model.EventEnvelope;
+import org.phc.templatejavabe.domain.model.ObjectiveProgressChanged;
+import org.phc.templatejavabe.domain.repository.UserRepository;
+import org.phc.templatejavabe.infrastructure.config.ActivityEventProperties;
+import org.phc.templatejavabe.infrastructure.repository.ActivityEventBatchWriter;
+import org.phc.templatejavabe.infrastructure.repository.ActivityEventPartitions;
+import org.phc.templatejavabe.infrastructure.repository.ActivityEventRepository;
+
+class ActivityEventServiceTest {
+    private ActivityEventRepository activityEventRepository;
+    private ActivityEventBatchWriter activityEventBatchWriter;
+    private ActivityEventService activityEventService;
+
+    @BeforeEach
+    void setUp() {
+        activityEventRepository = mock(ActivityEventRepository.class);
+        activityEventBatchWriter = mock(ActivityEventBatchWriter.class);
+        activityEventService = new ActivityEventService(activityEventRepository, activityEventBatchWriter,
+            mock(ActivityEventPartitions.class), mock(UserRepository.class), new ActivityEventProperties());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void feedRowsReuseTheOutboxEventIdAndTime() {
+        Instant occurredAt = Instant.parse("2026-10-17T10:00:00Z");
+        CheckInRecorded checkIn = new CheckInRecorded("ci-1", "kr-1", "obj-1", "ws-1", "Reduce churn",
+            new BigDecimal("75.00"), "%", false);
+
+        activityEventService.onEvents(List.of(
+            new EventEnvelope("evt-1", occurredAt, "user-1", 1, checkIn),
+            new EventEnvelope("evt-2", occurredAt, "user-1", 1, new ObjectiveProgressChanged(List.of("obj-1")))));
+
+        ArgumentCaptor<List<ActivityEvent>> written = ArgumentCaptor.forClass(List.class);
+        verify(activityEventBatchWriter).insertAll(written.capture());
+        assertThat(written.getValue()).singleElement().satisfies(row -> {
+            assertThat(row.getId()).isEqualTo("evt-1");
+            assertThat(row.getCreatedDate()).isEqualTo(occurredAt);
+            assertThat(row.getActorId()).isEqualTo("user-1");
+            assertThat(row.getType()).isEqualTo(ActivityType.CHECK_IN);
+            assertThat(row.getSubjectId()).isEqualTo("ci-1");
+            assertThat(row.getDescription()).isEqualTo("Updated Reduce churn to 75 %");
+        });
+    }
+
+    @Test
+    void editedAndDeletedCheckInsAreShownInTheFeed() {
+        Instant occurredAt = Instant.parse("2026-10-17T10:00:00Z");
+        ActivityEvent edited = ActivityEventService.toActivity(new EventEnvelope("evt-1", occurredAt, "user-1", 1,
+            new CheckInRecorded("ci-1", "kr-1", "obj-1", "ws-1", "Reduce churn", new BigDecimal("80"), "%", true)));
+        ActivityEvent deleted = ActivityEventService.toActivity(new EventEnvelope("evt-2", occurredAt, "user-1", 1,
+            new CheckInDeleted("ci-1", "kr-1", "obj-1", "ws-1", "Reduce churn", new BigDecimal("60.00"), "%")));
+
+        assertThat(edited.getDescription()).isEqualTo("Corrected Reduce churn to 80 %");
+        assertThat(deleted.getType()).isEqualTo(ActivityType.CHECK_IN);
+        assertThat(deleted.getDescription()).isEqualTo("Removed a check-in of Reduce churn, back to 60 %");
+    }
+
+    @Test
+    void nextPageContinuesBelowTheLastRowOfThePreviousOne() {
+        List<ActivityEvent> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(new ActivityEvent("id-" + (9 - i), "ws-1", "user-1", ActivityType.CHECK_IN, null, null, null,
+                Instant.parse("2026-10-17T10:00:00Z").minusSeconds(i)));
+        }
+        when(activityEventRepository.findWorkspacePage(eq("ws-1"), eq("CHECK_IN"), any(), any(), eq(3)))
+            .thenReturn(rows);
+
+        ActivityEventSlice first = activityEventService.findPage("ws-1", "user-1", ActivityType.CHECK_IN, 2, null);
+        assertThat(first.events()).hasSize(2);
+        assertThat(first.nextCursor()).isNotNull();
+
+        activityEventService.findPage("ws-1", "user-1", null, 2, first.nextCursor());
+        verify(activityEventRepository).findWorkspacePage(eq("ws-1"), isNull(),
+            eq(LocalDateTime.parse("2026-10-17T09:59:59")), eq("id-8"), eq(3));
+    }
+}
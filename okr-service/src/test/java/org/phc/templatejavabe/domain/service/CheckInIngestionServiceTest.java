@@ -0,0 +1,218 @@
+package org.phc.templatejavabe.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.phc.templatejavabe.domain.model.CheckIn;
+import org.phc.templatejavabe.domain.model.CheckInBatchReceipt;
+import org.phc.templatejavabe.domain.model.KeyResult;
+import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.infrastructure.cache.DashboardSnapshotCache;
+import org.phc.templatejavabe.infrastructure.cache.RecentCheckInBuffer;
+import org.phc.templatejavabe.infrastructure.config.CheckInIngestionProperties;
+import org.phc.templatejavabe.infrastructure.repository.CheckInBatchWriter;
+import org.phc.templatejavabe.infrastructure.repository.CheckInRepository;
+import org.phc.templatejavabe.infrastructure.repository.KeyResultRepository;
+import org.phc.templatejavabe.infrastructure.repository.ObjectiveRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+class CheckInIngestionServiceTest {
+    private final Map<String, KeyResult> keyResults = new ConcurrentHashMap<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch writing = new CountDownLatch(1);
+    private final AtomicInteger ids = new AtomicInteger();
+    private KeyResultRepository keyResultRepository;
+    private CheckInRepository checkInRepository;
+    private CheckInBatchWriter checkInBatchWriter;
+    private ProgressRollupService progressRollupService;
+    private CheckInIngestionProperties props;
+    private CheckInIngestionService service;
+
+    @BeforeEach
+    void setUp() {
+        keyResultRepository = mock(KeyResultRepository.class);
+        checkInRepository = mock(CheckInRepository.class);
+        checkInBatchWriter = mock(CheckInBatchWriter.class);
+        progressRollupService = mock(ProgressRollupService.class);
+        ObjectiveRepository objectiveRepository = mock(ObjectiveRepository.class);
+        IdGeneratorService idGeneratorService = mock(IdGeneratorService.class);
+
+        when(idGeneratorService.generateId()).thenAnswer(inv -> String.format("id-%04d", ids.incrementAndGet()));
+        when(keyResultRepository.findAllById(any())).thenAnswer(inv -> {
+            List<KeyResult> found = new ArrayList<>();
+            for (Object id : (Iterable<?>) inv.getArgument(0)) {
+                if (keyResults.containsKey(id)) {
+                    found.add(keyResults.get(id));
+                }
+            }
+            return found;
+        });
+        Objective objective = new Objective();
+        objective.setId("obj-1");
+        objective.setWorkspaceId("ws-1");
+        when(objectiveRepository.findAllById(any())).thenReturn(List.of(objective));
+        keyResult("kr-1");
+        keyResult("kr-2");
+
+        props = new CheckInIngestionProperties();
+        props.setLingerMillis(300);
+        props.setQueueCapacity(4);
+        props.setMaxWaitSeconds(1);
+        service = new CheckInIngestionService(keyResultRepository, objectiveRepository, checkInRepository,
+            checkInBatchWriter, mock(CheckInRollupService.class), mock(KeyResultService.class),
+            progressRollupService, idGeneratorService, mock(DashboardSnapshotCache.class),
+            mock(RecentCheckInBuffer.class), mock(DomainEventPublisher.class),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), props);
+        service.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.stop();
+    }
+
+    @Test
+    void checkInsOfOneKeyResultInABatchSetItsValueOnce() {
+        CheckInBatchReceipt first = service.submit(List.of(checkIn("kr-1", 10)));
+        CheckInBatchReceipt second = service.submit(List.of(checkIn("kr-1", 20), checkIn("kr-2", 5)));
+
+        assertThat(await(first).state()).isEqualTo(CheckInBatchReceipt.State.DURABLE);
+        assertThat(await(second).checkInIds()).hasSize(2);
+
+        ArgumentCaptor<List<CheckIn>> rows = ArgumentCaptor.forClass(List.class);
+        verify(checkInBatchWriter).insertAll(rows.capture(), anyInt());
+        assertThat(rows.getValue()).hasSize(3);
+        ArgumentCaptor<Collection<KeyResult>> changed = ArgumentCaptor.forClass(Collection.class);
+        verify(progressRollupService).keyResultsChanged(changed.capture());
+        assertThat(changed.getValue()).hasSize(2);
+        assertThat(keyResults.get("kr-1").getCurrentValue()).isEqualByComparingTo("20");
+    }
+
+    @Test
+    void olderQueuedCheckInDoesNotOverwriteANewerCurrentValue() {
+        keyResults.get("kr-1").setCurrentValue(BigDecimal.valueOf(70));
+        CheckInRepository.KeyResultLastCheckInView newer = mock(CheckInRepository.KeyResultLastCheckInView.class);
+        when(newer.getKeyResultId()).thenReturn("kr-1");
+        when(newer.getLastCheckInDate()).thenReturn(Instant.now().plusSeconds(60));
+        when(checkInRepository.findLastCheckInDatesByKeyResultIds(anyCollection())).thenReturn(List.of(newer));
+
+        assertThat(await(service.submit(List.of(checkIn("kr-1", 10)))).state())
+            .isEqualTo(CheckInBatchReceipt.State.DURABLE);
+
+        verify(checkInBatchWriter).insertAll(anyList(), anyInt());
+        assertThat(keyResults.get("kr-1").getCurrentValue()).isEqualByComparingTo("70");
+    }
+
+    @Test
+    void waitEndsWithThePendingReceiptWhileTheBatchIsStillBeingWritten() {
+        blockWrites();
+        CheckInBatchReceipt receipt = service.submit(List.of(checkIn("kr-1", 10)));
+
+        assertThat(service.awaitDurable(receipt.ticket(), Duration.ofMillis(400)).orElseThrow().state())
+            .isEqualTo(CheckInBatchReceipt.State.PENDING);
+        release.countDown();
+        assertThat(await(receipt).state()).isEqualTo(CheckInBatchReceipt.State.DURABLE);
+    }
+
+    @Test
+    void fullQueueIsRejectedWith503() {
+        blockWrites();
+        service.submit(List.of(checkIn("kr-1", 1), checkIn("kr-1", 2), checkIn("kr-1", 3)));
+
+        assertThatThrownBy(() -> service.submit(List.of(checkIn("kr-2", 1), checkIn("kr-2", 2))))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        // Permits of a written batch are returned
+        release.countDown();
+        service.awaitDurable(service.submit(List.of(checkIn("kr-2", 1))).ticket(), Duration.ofSeconds(5));
+    }
+
+    @Test
+    void oneFailingSubmissionOnlyFailsItsOwnTicket() {
+        doAnswer(inv -> {
+            List<CheckIn> rows = inv.getArgument(0);
+            if (rows.stream().anyMatch(c -> c.getValue().compareTo(BigDecimal.valueOf(666)) == 0)) {
+                throw new IllegalStateException("constraint violated");
+            }
+            return null;
+        }).when(checkInBatchWriter).insertAll(anyList(), anyInt());
+
+        CheckInBatchReceipt good = service.submit(List.of(checkIn("kr-1", 10)));
+        CheckInBatchReceipt bad = service.submit(List.of(checkIn("kr-2", 666)));
+        CheckInBatchReceipt alsoGood = service.submit(List.of(checkIn("kr-2", 30)));
+
+        assertThat(await(good).state()).isEqualTo(CheckInBatchReceipt.State.DURABLE);
+        assertThat(await(alsoGood).state()).isEqualTo(CheckInBatchReceipt.State.DURABLE);
+        assertThat(await(bad).state()).isEqualTo(CheckInBatchReceipt.State.FAILED);
+        assertThat(await(bad).error()).isEqualTo("constraint violated");
+    }
+
+    @Test
+    void queuedSubmissionsAreFailedWhenShutdownGivesUpAndNewOnesRejected() throws Exception {
+        blockWrites();
+        service.submit(List.of(checkIn("kr-1", 1)));
+        // Wait for the writer to pick up the first submission, so the next one stays queued
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        CheckInBatchReceipt queued = service.submit(List.of(checkIn("kr-2", 1)));
+
+        service.stop();
+
+        assertThat(service.status(queued.ticket()).orElseThrow().state()).isEqualTo(CheckInBatchReceipt.State.FAILED);
+        assertThatThrownBy(() -> service.submit(List.of(checkIn("kr-1", 2))))
+            .isInstanceOf(ResponseStatusException.class);
+    }
+
+    private CheckInBatchReceipt await(CheckInBatchReceipt receipt) {
+        return service.awaitDurable(receipt.ticket(), Duration.ofSeconds(5)).orElseThrow();
+    }
+
+    private void blockWrites() {
+        doAnswer(inv -> {
+            writing.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).when(checkInBatchWriter).insertAll(anyList(), anyInt());
+    }
+
+    private void keyResult(String id) {
+        KeyResult kr = new KeyResult();
+        kr.setId(id);
+        kr.setObjectiveId("obj-1");
+        kr.setCurrentValue(BigDecimal.ZERO);
+        kr.setTargetValue(BigDecimal.valueOf(100));
+        keyResults.put(id, kr);
+    }
+
+    private static CheckIn checkIn(String keyResultId, int value) {
+        CheckIn c = new CheckIn();
+        c.setKeyResultId(keyResultId);
+        c.setValue(BigDecimal.valueOf(value));
+        return c;
+    }
+}
@@ -0,0 +1,62 @@
+package org.phc.templatejavabe.domain.service;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.phc.templatejavabe.infrastructure.repository.CheckInDailyRollupRepository;
+import org.phc.templatejavabe.infrastructure.repository.CheckInRepository;
+
+class CheckInRollupServiceTest {
+    private CheckInRepository checkInRepository;
+    private CheckInDailyRollupRepository rollupRepository;
+    private CheckInRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        checkInRepository = mock(CheckInRepository.class);
+        rollupRepository = mock(CheckInDailyRollupRepository.class);
+        service = new CheckInRollupService(checkInRepository, rollupRepository);
+    }
+
+    @Test
+    void bucketsByUtcDayWithOneUpsertPerDay() {
+        service.record("ws-1", List.of(
+            Instant.parse("2025-03-01T23:59:59Z"),
+            Instant.parse("2025-03-01T00:00:00Z"),
+            Instant.parse("2025-03-02T00:00:00Z")), 1);
+
+        verify(rollupRepository).increment("ws-1", LocalDate.of(2025, 3, 1), 2);
+        verify(rollupRepository).increment("ws-1", LocalDate.of(2025, 3, 2), 1);
+        verifyNoMoreInteractions(rollupRepository);
+    }
+
+    @Test
+    void movedCheckInsLeaveTheOldWorkspaceAndJoinTheNewOne() {
+        when(checkInRepository.findCreatedDatesByKeyResultIds(anyCollection())).thenReturn(List.of(
+            Instant.parse("2025-03-01T10:00:00Z"), Instant.parse("2025-03-01T11:00:00Z")));
+
+        service.moveKeyResults(List.of("kr-1"), "ws-1", "ws-2");
+        service.moveKeyResults(List.of("kr-1"), "ws-2", null);
+
+        verify(rollupRepository).increment("ws-1", LocalDate.of(2025, 3, 1), -2);
+        verify(rollupRepository).increment("ws-2", LocalDate.of(2025, 3, 1), 2);
+        verify(rollupRepository).increment("ws-2", LocalDate.of(2025, 3, 1), -2);
+        verifyNoMoreInteractions(rollupRepository);
+    }
+
+    @Test
+    void sameWorkspaceIsNotAMove() {
+        service.moveKeyResults(List.of("kr-1"), "ws-1", "ws-1");
+
+        verifyNoInteractions(checkInRepository, rollupRepository);
+    }
+}
@@ -0,0 +1,130 @@
+package org.phc.templatejavabe.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.phc.templatejavabe.domain.model.KeyResult;
+import org.phc.templatejavabe.domain.model.Objective;
+import org.phc.templatejavabe.domain.model.ObjectiveStatus;
+import org.phc.templatejavabe.domain.model.Team;
+import org.phc.templatejavabe.infrastructure.repository.ObjectiveRepository;
+import org.phc.templatejavabe.infrastructure.repository.TeamRepository;
+import org.phc.templatejavabe.presentation.response.home.GroupInfoResponse;
+import org.phc.templatejavabe.presentation.response.home.HomeSummaryResponse;
+
+class HomeServiceTest {
+    private ObjectiveRepository objectiveRepository;
+    private CheckInService checkInService;
+    private TeamRepository teamRepository;
+    private HomeService homeService;
+
+    @BeforeEach
+    void setUp() {
+        objectiveRepository = mock(ObjectiveRepository.class);
+        checkInService = mock(CheckInService.class);
+        teamRepository = mock(TeamRepository.class);
+        homeService = new HomeService(objectiveRepository, checkInService, teamRepository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 500})
+    void homeSummaryIssuesOneQueryRegardlessOfObjectiveCount(int objectiveCount) {
+        // Every objective is ON_TRACK at 50% with three key results at 40%
+        ObjectiveRepository.StatusProgressAggregate onTrack = mock(ObjectiveRepository.StatusProgressAggregate.class);
+        when(onTrack.getStatus()).thenReturn("ON_TRACK");
+        stubTotals(onTrack, objectiveCount, 50, objectiveCount * 3L, 40);
+        when(objectiveRepository.aggregateByOwnerAndQuarter(anyString(), anyString())).thenReturn(List.of(onTrack));
+
+        HomeSummaryResponse summary = homeService.getHomeSummary("user-1");
+
+        assertThat(summary.getPersonalProgress()).isEqualTo(50);
+        assertThat(summary.getMetricsProgress()).isEqualTo(40);
+        assertThat(summary.getStatusDistribution().getOnTrack()).isEqualTo(objectiveCount);
+        verify(objectiveRepository, times(1)).aggregateByOwnerAndQuarter("user-1", "Q1 2024");
+        verifyNoMoreInteractions(objectiveRepository);
+        verifyNoInteractions(checkInService, teamRepository);
+    }
+
+    @Test
+    void summaryFromLoadedObjectivesMatchesTheAggregateQuery() {
+        Objective onTrack = objective(ObjectiveStatus.ON_TRACK, "40");
+        Objective behind = objective(ObjectiveStatus.BEHIND, "61");
+
+        // Like the SQL aggregate: capped at 100, and a missing current value counts as 0
+        HomeSummaryResponse summary = homeService.summarize(List.of(onTrack, behind),
+            List.of(keyResult("50", "100"), keyResult("150", "100"), keyResult(null, "100")));
+
+        assertThat(summary.getPersonalProgress()).isEqualTo(51);
+        assertThat(summary.getMetricsProgress()).isEqualTo(50);
+        assertThat(summary.getStatusDistribution().getOnTrack()).isEqualTo(1);
+        assertThat(summary.getStatusDistribution().getBehind()).isEqualTo(1);
+        verifyNoInteractions(objectiveRepository, checkInService, teamRepository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void userGroupsIssueOneAggregateQueryForAllTeams(int teamCount) {
+        List<Team> teams = IntStream.range(0, teamCount).mapToObj(i -> {
+            Team team = new Team();
+            team.setId("team-" + i);
+            team.setName("Team " + i);
+            return team;
+        }).collect(Collectors.toList());
+        when(teamRepository.findByManagerId("user-1")).thenReturn(teams);
+
+        ObjectiveRepository.TeamProgressAggregate firstTeam = mock(ObjectiveRepository.TeamProgressAggregate.class);
+        when(firstTeam.getTeamId()).thenReturn("team-0");
+        stubTotals(firstTeam, 4, 60, 12, 25);
+        when(objectiveRepository.aggregateByTeamIdsAndQuarter(anyCollection(), eq("Q1 2024"))).thenReturn(List.of(firstTeam));
+
+        List<GroupInfoResponse> groups = homeService.getUserGroups("user-1");
+
+        assertThat(groups).hasSize(teamCount);
+        assertThat(groups.get(0).getObjectivesCount()).isEqualTo(4);
+        assertThat(groups.get(0).getMetricsCount()).isEqualTo(12);
+        assertThat(groups.get(0).getAvgObjectivesProgress()).isEqualTo(60);
+        assertThat(groups.get(0).getAvgMetricsProgress()).isEqualTo(25);
+        assertThat(groups.get(teamCount - 1).getObjectivesCount()).isEqualTo(teamCount == 1 ? 4 : 0);
+        verify(objectiveRepository, times(1)).aggregateByTeamIdsAndQuarter(anyCollection(), eq("Q1 2024"));
+        verifyNoMoreInteractions(objectiveRepository);
+        verifyNoInteractions(checkInService);
+    }
+
+    private static void stubTotals(ObjectiveRepository.ProgressAggregate aggregate, long objectives, int objectiveProgress,
+                                   long keyResults, int keyResultProgress) {
+        when(aggregate.getObjectiveCount()).thenReturn(objectives);
+        when(aggregate.getProgressSum()).thenReturn(BigDecimal.valueOf(objectives * objectiveProgress));
+        when(aggregate.getKeyResultCount()).thenReturn(keyResults);
+        when(aggregate.getKeyResultProgressSum()).thenReturn(BigDecimal.valueOf(keyResults * keyResultProgress));
+    }
+
+    private static Objective objective(ObjectiveStatus status, String progress) {
+        Objective objective = new Objective();
+        objective.setStatus(status);
+        objective.setProgress(new BigDecimal(progress));
+        return objective;
+    }
+
+    private static KeyResult keyResult(String current, String target) {
+        KeyResult kr = new KeyResult();
+        kr.setCurrentValue(current != null ? new BigDecimal(current) : null);
+        kr.setTargetValue(new BigDecimal(target));
+        return kr;
+    }
+}
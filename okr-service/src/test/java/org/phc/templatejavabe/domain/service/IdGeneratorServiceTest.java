@@ -0,0 +1,61 @@
+package org.phc.templatejavabe.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Test;
+
+class IdGeneratorServiceTest {
+    private final IdGeneratorService generator = new IdGeneratorService();
+
+    @Test
+    void idsAreCrockfordBase32WithCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        String id = generator.generateId();
+
+        assertThat(id).hasSize(26).matches("[0-9A-HJKMNP-TV-Z]{26}");
+        assertThat(decodeTime(id)).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void idsAreStrictlyIncreasingWithinOneThread() {
+        String previous = generator.generateId();
+        for (int i = 0; i < 100_000; i++) {
+            String next = generator.generateId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void concurrentCallersNeverShareAnId() {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            workers.add(CompletableFuture.runAsync(() -> {
+                Set<String> local = new HashSet<>();
+                for (int i = 0; i < 20_000; i++) {
+                    local.add(generator.generateId());
+                }
+                ids.addAll(local);
+            }));
+        }
+        workers.forEach(CompletableFuture::join);
+
+        assertThat(ids).hasSize(8 * 20_000);
+    }
+
+    private static long decodeTime(String id) {
+        String alphabet = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+        long time = 0;
+        for (int i = 0; i < 10; i++) {
+            time = time * 32 + alphabet.indexOf(id.charAt(i));
+        }
+        return time;
+    }
+}
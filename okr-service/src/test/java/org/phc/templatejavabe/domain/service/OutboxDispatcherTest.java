@@ -0,0 +1,135 @@
+package org.phc.templatejavabe.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.phc.templatejavabe.domain.model.CommentAdded;
+import org.phc.templatejavabe.domain.model.EventEnvelope;
+import org.phc.templatejavabe.domain.model.ObjectiveChanged;
+import org.phc.templatejavabe.infrastructure.config.OutboxProperties;
+import org.phc.templatejavabe.infrastructure.repository.OutboxRepository;
+import org.phc.templatejavabe.infrastructure.repository.OutboxRepository.OutboxRecord;
+import org.springframework.beans.factory.ObjectProvider;
+
+class OutboxDispatcherTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private OutboxRepository outboxRepository;
+    private final List<EventEnvelope> received = new ArrayList<>();
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        outboxRepository = mock(OutboxRepository.class);
+        // Rejects comments, records everything else
+        DomainEventSubscriber subscriber = events -> {
+            if (events.stream().anyMatch(e -> e.event() instanceof CommentAdded)) {
+                throw new IllegalStateException("comments are down");
+            }
+            received.addAll(events);
+        };
+        ObjectProvider<DomainEventSubscriber> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenAnswer(invocation -> Stream.of(subscriber));
+
+        dispatcher = new OutboxDispatcher(outboxRepository, objectMapper, provider, new OutboxProperties());
+    }
+
+    @Test
+    void failedEventIsRetriedWhileTheRestOfTheBatchIsAcknowledged() throws Exception {
+        Instant occurredAt = Instant.parse("2026-10-17T10:00:00Z");
+        when(outboxRepository.claim(any(), any(), anyInt(), anyInt())).thenReturn(List.of(
+            record("evt-3", new ObjectiveChanged("obj-2", "ws-1", "Grow revenue", false), occurredAt),
+            record("evt-1", new ObjectiveChanged("obj-1", "ws-1", "Reduce churn", true), occurredAt),
+            record("evt-2", new CommentAdded("c-1", "obj-1", "ws-1", "Nice"), occurredAt)));
+
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(3);
+
+        // Delivered one at a time after the batch failed, still in publication order
+        assertThat(received).extracting(EventEnvelope::id).containsExactly("evt-1", "evt-3");
+        assertThat(received.get(0).event()).isEqualTo(new ObjectiveChanged("obj-1", "ws-1", "Reduce churn", true));
+        assertThat(received.get(0).occurredAt()).isEqualTo(occurredAt);
+        verify(outboxRepository).deleteAll(List.of("evt-1", "evt-3"));
+        verify(outboxRepository).retryAt(eq("evt-2"), any(), startsWith("OutboxDispatcherTest"), eq(Set.of()));
+    }
+
+    @Test
+    void unknownEventTypeIsKeptForRetry() {
+        when(outboxRepository.claim(any(), any(), anyInt(), anyInt())).thenReturn(List.of(
+            new OutboxRecord("evt-1", "ObjectiveArchived", "user-1", "{}", Instant.now(), 1, Set.of())));
+
+        dispatcher.dispatchBatch();
+
+        assertThat(received).isEmpty();
+        verify(outboxRepository).retryAt(eq("evt-1"), any(), startsWith("IllegalStateException"), eq(Set.of()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void retryGoesOnlyToTheSubscribersThatFailed() throws Exception {
+        Feed feed = new Feed();
+        Rollup rollup = new Rollup();
+        ObjectProvider<DomainEventSubscriber> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenAnswer(invocation -> Stream.of(feed, rollup));
+        OutboxDispatcher twoSubscribers = new OutboxDispatcher(outboxRepository, objectMapper, provider,
+            new OutboxProperties());
+        ObjectiveChanged changed = new ObjectiveChanged("obj-1", "ws-1", "Reduce churn", true);
+        Instant occurredAt = Instant.parse("2026-10-17T10:00:00Z");
+
+        when(outboxRepository.claim(any(), any(), anyInt(), anyInt()))
+            .thenReturn(List.of(record("evt-1", changed, occurredAt)));
+        rollup.down = true;
+        twoSubscribers.dispatchBatch();
+        verify(outboxRepository).retryAt(eq("evt-1"), any(), startsWith("Rollup"), eq(Set.of("Feed")));
+
+        when(outboxRepository.claim(any(), any(), anyInt(), anyInt())).thenReturn(List.of(
+            new OutboxRecord("evt-1", "ObjectiveChanged", "user-1", objectMapper.writeValueAsString(changed),
+                occurredAt, 2, Set.of("Feed"))));
+        rollup.down = false;
+        twoSubscribers.dispatchBatch();
+
+        assertThat(feed.received).hasSize(1);
+        assertThat(rollup.received).hasSize(1);
+        verify(outboxRepository).deleteAll(List.of("evt-1"));
+    }
+
+    private OutboxRecord record(String id, Object event, Instant occurredAt) throws Exception {
+        return new OutboxRecord(id, event.getClass().getSimpleName(), "user-1", objectMapper.writeValueAsString(event),
+            occurredAt, 1, Set.of());
+    }
+
+    private static class Feed implements DomainEventSubscriber {
+        final List<EventEnvelope> received = new ArrayList<>();
+
+        @Override
+        public void onEvents(List<EventEnvelope> events) {
+            received.addAll(events);
+        }
+    }
+
+    private static class Rollup implements DomainEventSubscriber {
+        final List<EventEnvelope> received = new ArrayList<>();
+        boolean down;
+
+        @Override
+        public void onEvents(List<EventEnvelope> events) {
+            if (down) {
+                throw new IllegalStateException("database is down");
+            }
+            received.addAll(events);
+        }
+    }
+}
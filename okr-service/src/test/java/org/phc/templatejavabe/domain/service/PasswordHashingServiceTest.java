@@ -0,0 +1,108 @@
+package org.phc.templatejavabe.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.phc.templatejavabe.infrastructure.config.PasswordHashingProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+class PasswordHashingServiceTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void hashesOnTheDedicatedPoolAndRecordsLatency() {
+        service = new PasswordHashingService(new PlainEncoder(null, null), props(1, 1, 1000), meterRegistry);
+
+        assertThat(service.encode("secret")).isEqualTo("hashed:secret");
+        assertThat(service.matches("secret", "hashed:secret")).isTrue();
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void fullQueueFailsFastWith429() throws Exception {
+        service = new PasswordHashingService(new PlainEncoder(release, started), props(1, 1, 5000), meterRegistry);
+        // One hash occupies the only worker, a second fills the queue
+        CompletableFuture.runAsync(() -> service.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> service.encode("b"));
+        awaitQueueDepth(1);
+
+        assertThatThrownBy(() -> service.encode("c"))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+        assertThat(meterRegistry.get("auth.password.hash.rejected").tag("reason", "queue_full").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void queuedTooLongFailsWith429() throws Exception {
+        service = new PasswordHashingService(new PlainEncoder(release, started), props(1, 4, 500), meterRegistry);
+        CompletableFuture.runAsync(() -> service.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> service.encode("b"))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+        assertThat(meterRegistry.get("auth.password.hash.rejected").tag("reason", "queue_timeout").counter().count())
+            .isEqualTo(1);
+    }
+
+    private void awaitQueueDepth(double depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.hash.queue.depth").gauge().value() < depth) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static PasswordHashingProperties props(int maxConcurrency, int queueCapacity, long queueTimeoutMillis) {
+        PasswordHashingProperties props = new PasswordHashingProperties();
+        props.setMaxConcurrency(maxConcurrency);
+        props.setQueueCapacity(queueCapacity);
+        props.setQueueTimeoutMillis(queueTimeoutMillis);
+        return props;
+    }
+
+    /**
+     * Stand-in for BCrypt that can be held until the test releases it
+     */
+    private record PlainEncoder(CountDownLatch gate, CountDownLatch started) implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (started != null) {
+                started.countDown();
+            }
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package org.phc.templatejavabe.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.phc.templatejavabe.domain.model.EventEnvelope;
+import org.phc.templatejavabe.domain.model.KeyResult;
+import org.phc.templatejavabe.domain.model.ObjectiveProgressChanged;
+import org.phc.templatejavabe.domain.model.ProgressContribution;
+import org.phc.templatejavabe.infrastructure.config.ProgressRollupProperties;
+import org.phc.templatejavabe.infrastructure.repository.KeyResultRepository;
+import org.phc.templatejavabe.infrastructure.repository.ObjectiveRepository;
+import org.phc.templatejavabe.infrastructure.stream.ProgressStreamHub;
+
+class ProgressRollupServiceTest {
+    private ObjectiveRepository objectiveRepository;
+    private KeyResultRepository keyResultRepository;
+    private DomainEventPublisher domainEventPublisher;
+    private ProgressStreamHub progressStreamHub;
+    private EntityManager entityManager;
+    private ProgressRollupService rollupService;
+
+    @BeforeEach
+    void setUp() {
+        objectiveRepository = mock(ObjectiveRepository.class);
+        keyResultRepository = mock(KeyResultRepository.class);
+        domainEventPublisher = mock(DomainEventPublisher.class);
+        progressStreamHub = mock(ProgressStreamHub.class);
+        entityManager = mock(EntityManager.class);
+        rollupService = new ProgressRollupService(objectiveRepository, keyResultRepository, entityManager,
+            new ProgressRollupProperties(), domainEventPublisher, progressStreamHub);
+    }
+
+    @Test
+    void changeAppliesOnlyTheDeltaWithoutReloadingSiblings() {
+        KeyResult kr = keyResult("obj-1", "20", "100", "2");
+        kr.setRolledUp(ProgressContribution.of(kr));
+
+        kr.setCurrentValue(new BigDecimal("50"));
+        rollupService.keyResultChanged(kr);
+
+        // (50% - 20%) * weight 2, weight unchanged
+        verify(objectiveRepository).applyProgressDelta(eq("obj-1"), decimal("60"), decimal("0"));
+        verify(progressStreamHub).objectivesChanged(Set.of("obj-1"));
+        verifyNoMoreInteractions(objectiveRepository);
+        verifyNoInteractions(keyResultRepository);
+        assertThat(kr.getRolledUp()).isEqualTo(ProgressContribution.of(kr));
+    }
+
+    @Test
+    void deltaStartsFromTheValueCommittedByAConcurrentWriter() {
+        // Loaded at 20 while another check-in committed 40 before this one took the lock
+        KeyResult kr = keyResult("obj-1", "20", "100", "1");
+        kr.setId("kr-1");
+        kr.setRolledUp(ProgressContribution.of(kr));
+        KeyResultRepository.StoredValues stored = mock(KeyResultRepository.StoredValues.class);
+        when(stored.getId()).thenReturn("kr-1");
+        when(stored.getObjectiveId()).thenReturn("obj-1");
+        when(stored.getCurrentValue()).thenReturn(new BigDecimal("40"));
+        when(stored.getTargetValue()).thenReturn(new BigDecimal("100"));
+        when(keyResultRepository.lockStoredValues(Set.of("kr-1"))).thenReturn(List.of(stored));
+
+        rollupService.lock(List.of(kr));
+        kr.setCurrentValue(new BigDecimal("50"));
+        rollupService.keyResultChanged(kr);
+
+        // 50% - 40%, not 50% - 20%
+        verify(objectiveRepository).applyProgressDelta(eq("obj-1"), decimal("10"), decimal("0"));
+    }
+
+    @Test
+    void unchangedContributionIssuesNoStatement() {
+        KeyResult kr = keyResult("obj-1", "20", "100", "1");
+        kr.setRolledUp(ProgressContribution.of(kr));
+
+        kr.setTitle("Renamed");
+        rollupService.keyResultChanged(kr);
+
+        verifyNoInteractions(objectiveRepository, keyResultRepository);
+    }
+
+    @Test
+    void removalSubtractsTheLastContribution() {
+        KeyResult kr = keyResult("obj-1", "150", "100", null);
+        kr.setRolledUp(ProgressContribution.of(kr));
+
+        rollupService.keyResultRemoved(kr);
+
+        // Progress is capped at 100 and a missing weight counts as 1
+        verify(objectiveRepository).applyProgressDelta(eq("obj-1"), decimal("-100"), decimal("-1"));
+    }
+
+    @Test
+    void keyResultWithoutPreviousContributionFallsBackToRecompute() {
+        KeyResult detached = keyResult("obj-1", "30", "60", "1");
+        KeyResult sibling = keyResult("obj-1", "10", "10", "3");
+        when(keyResultRepository.findByObjectiveId("obj-1")).thenReturn(List.of(detached, sibling));
+
+        rollupService.keyResultChanged(detached);
+
+        // (50 * 1 + 100 * 3) / 4 = 87.50
+        verify(objectiveRepository).setProgressSums(eq("obj-1"), decimal("350"), decimal("4"), decimal("87.50"));
+        verify(objectiveRepository, never()).applyProgressDelta(any(), any(), any());
+    }
+
+    @Test
+    void hierarchicalRollupRefreshesEachAncestorOnceBottomUp() {
+        ProgressRollupProperties props = new ProgressRollupProperties();
+        props.setHierarchical(true);
+        rollupService = new ProgressRollupService(objectiveRepository, keyResultRepository, entityManager, props,
+            domainEventPublisher, progressStreamHub);
+        // team-1 and team-2 roll up to dept, which with team-2 (aligned directly) rolls up to company
+        when(objectiveRepository.findParentLinks(any())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return List.of(
+                    link("team-1", "dept"), link("team-2", "dept"),
+                    link("team-2", "company"), link("dept", "company"))
+                .stream().filter(l -> ids.contains(l.getChildId())).toList();
+        });
+        KeyResult first = keyResult("team-1", "20", "100", "1");
+        first.setRolledUp(ProgressContribution.of(first));
+        KeyResult second = keyResult("team-2", "20", "100", "1");
+        second.setRolledUp(ProgressContribution.of(second));
+
+        first.setCurrentValue(new BigDecimal("40"));
+        second.setCurrentValue(new BigDecimal("60"));
+        rollupService.keyResultsChanged(List.of(first, second));
+
+        InOrder order = inOrder(objectiveRepository);
+        order.verify(objectiveRepository).refreshHierarchicalProgress(List.of("team-1", "team-2"));
+        order.verify(objectiveRepository).refreshHierarchicalProgress(List.of("dept"));
+        order.verify(objectiveRepository).refreshHierarchicalProgress(List.of("company"));
+        verify(objectiveRepository, times(3)).refreshHierarchicalProgress(any());
+    }
+
+    @Test
+    void asyncPropagationRefreshesAncestorsOnlyWhenTheEventIsDelivered() {
+        ProgressRollupProperties props = new ProgressRollupProperties();
+        props.setHierarchical(true);
+        props.setAsyncPropagation(true);
+        rollupService = new ProgressRollupService(objectiveRepository, keyResultRepository, entityManager, props,
+            domainEventPublisher, progressStreamHub);
+        when(objectiveRepository.findParentLinks(any())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.contains("team-1") ? List.of(link("team-1", "dept")) : List.of();
+        });
+        KeyResult kr = keyResult("team-1", "20", "100", "1");
+        kr.setRolledUp(ProgressContribution.of(kr));
+
+        kr.setCurrentValue(new BigDecimal("40"));
+        rollupService.keyResultChanged(kr);
+
+        verify(objectiveRepository).applyProgressDelta(eq("team-1"), decimal("20"), decimal("0"));
+        verify(objectiveRepository, never()).refreshHierarchicalProgress(any());
+        ArgumentCaptor<ObjectiveProgressChanged> published = ArgumentCaptor.forClass(ObjectiveProgressChanged.class);
+        verify(domainEventPublisher).publish(published.capture());
+        assertThat(published.getValue().objectiveIds()).containsExactly("team-1");
+
+        rollupService.onEvents(List.of(new EventEnvelope("evt-1", Instant.now(), "user-1", 1, published.getValue())));
+
+        InOrder order = inOrder(objectiveRepository);
+        order.verify(objectiveRepository).refreshHierarchicalProgress(List.of("team-1"));
+        order.verify(objectiveRepository).refreshHierarchicalProgress(List.of("dept"));
+    }
+
+    private static ObjectiveRepository.ParentLink link(String childId, String parentId) {
+        return new ObjectiveRepository.ParentLink() {
+            @Override
+            public String getChildId() { return childId; }
+            @Override
+            public String getParentId() { return parentId; }
+        };
+    }
+
+    private static KeyResult keyResult(String objectiveId, String current, String target, String weight) {
+        KeyResult kr = new KeyResult();
+        kr.setObjectiveId(objectiveId);
+        kr.setCurrentValue(new BigDecimal(current));
+        kr.setTargetValue(new BigDecimal(target));
+        kr.setWeight(weight != null ? new BigDecimal(weight) : null);
+        return kr;
+    }
+
+    private static BigDecimal decimal(String expected) {
+        return argThat(actual -> actual != null && actual.compareTo(new BigDecimal(expected)) == 0);
+    }
+}
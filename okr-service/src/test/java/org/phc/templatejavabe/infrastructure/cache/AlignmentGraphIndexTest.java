@@ -0,0 +1,120 @@
+package org.phc.templatejavabe.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.phc.templatejavabe.domain.model.AlignmentEdge;
+import org.phc.templatejavabe.infrastructure.config.AlignmentIndexProperties;
+import org.phc.templatejavabe.infrastructure.repository.ObjectiveAlignmentRepository;
+
+class AlignmentGraphIndexTest {
+    private final List<ObjectiveAlignmentRepository.WorkspaceEdgeView> rows = new ArrayList<>();
+    private ObjectiveAlignmentRepository alignmentRepository;
+    private AlignmentGraphIndex index;
+
+    @BeforeEach
+    void setUp() {
+        alignmentRepository = mock(ObjectiveAlignmentRepository.class);
+        when(alignmentRepository.findEdgesByWorkspaceId("ws-1")).thenReturn(rows);
+        index = new AlignmentGraphIndex(new AlignmentIndexProperties(), alignmentRepository);
+    }
+
+    @Test
+    void edgeThatWouldCloseACycleIsDetected() {
+        rows.add(edge("a", "ws-1", "b", "ws-1"));
+        rows.add(edge("b", "ws-1", "c", "ws-1"));
+
+        // Aligning c → a is refused when a already reaches c
+        assertThat(index.reaches("ws-1", "a", "c")).contains(true);
+        assertThat(index.reaches("ws-1", "c", "a")).contains(false);
+        assertThat(index.reaches("ws-1", "a", "a")).contains(true);
+        assertThat(index.reaches("ws-1", "a", "unknown")).contains(false);
+        verify(alignmentRepository, times(1)).findEdgesByWorkspaceId("ws-1");
+    }
+
+    @Test
+    void descendantsWalkDiamondsAndDeepChainsBreadthFirst() {
+        rows.add(edge("root", "ws-1", "left", "ws-1"));
+        rows.add(edge("root", "ws-1", "right", "ws-1"));
+        rows.add(edge("left", "ws-1", "leaf", "ws-1"));
+        rows.add(edge("right", "ws-1", "leaf", "ws-1"));
+        rows.add(edge("leaf", "ws-1", "deep", "ws-1"));
+
+        List<AlignmentEdge> all = index.descendants("ws-1", "root", 10, 100).orElseThrow();
+        assertThat(all).extracting(AlignmentEdge::depth).containsExactly(1, 1, 2, 2, 3);
+        // The shared leaf is expanded once
+        assertThat(all).filteredOn(e -> e.parentId().equals("leaf")).hasSize(1);
+
+        assertThat(index.descendants("ws-1", "root", 2, 100).orElseThrow()).hasSize(4);
+        assertThat(index.descendants("ws-1", "root", 10, 3).orElseThrow())
+            .extracting(AlignmentEdge::depth).containsExactly(1, 1, 2);
+    }
+
+    @Test
+    void graphWithCrossWorkspaceEdgesDefersToTheDatabase() {
+        rows.add(edge("a", "ws-1", "b", "ws-1"));
+        rows.add(edge("a", "ws-1", "x", "ws-2"));
+
+        assertThat(index.reaches("ws-1", "a", "b")).isEmpty();
+        assertThat(index.descendants("ws-1", "a", 3, 10)).isEmpty();
+
+        index.onUnaligned("a", "ws-1", "x", "ws-2");
+        assertThat(index.reaches("ws-1", "a", "b")).contains(true);
+        assertThat(index.reaches("ws-1", "a", "x")).contains(false);
+    }
+
+    @Test
+    void deletedAlignmentIsNoLongerFollowed() {
+        rows.add(edge("a", "ws-1", "b", "ws-1"));
+        rows.add(edge("b", "ws-1", "c", "ws-1"));
+        assertThat(index.reaches("ws-1", "a", "c")).contains(true);
+
+        index.onUnaligned("b", "ws-1", "c", "ws-1");
+
+        assertThat(index.reaches("ws-1", "a", "c")).contains(false);
+        assertThat(index.descendants("ws-1", "a", 5, 10).orElseThrow())
+            .extracting(AlignmentEdge::childId).containsExactly("b");
+    }
+
+    @Test
+    void freedSlotsAreCompactedAwayWithoutLosingEdges() {
+        AlignmentGraphIndex.WorkspaceGraph graph = new AlignmentGraphIndex.WorkspaceGraph("ws-1");
+        graph.addEdge("root", "ws-1", "kept", "ws-1");
+        for (int i = 0; i < 200; i++) {
+            graph.addEdge("root", "ws-1", "tmp-" + i, "ws-1");
+        }
+        graph.addEdge("kept", "ws-1", "leaf", "ws-1");
+        assertThat(graph.slotCount()).isEqualTo(203);
+
+        for (int i = 0; i < 200; i++) {
+            graph.removeEdge("root", "tmp-" + i);
+        }
+
+        assertThat(graph.slotCount()).isLessThan(203);
+        assertThat(graph.contains("tmp-0")).isFalse();
+        assertThat(graph.reaches("root", "leaf")).contains(true);
+        assertThat(graph.descendants("root", 5, 10).orElseThrow())
+            .extracting(AlignmentEdge::childId).containsExactly("kept", "leaf");
+
+        // A freed objective can be aligned again
+        graph.addEdge("leaf", "ws-1", "tmp-0", "ws-1");
+        assertThat(graph.reaches("root", "tmp-0")).contains(true);
+    }
+
+    private static ObjectiveAlignmentRepository.WorkspaceEdgeView edge(String parentId, String parentWorkspaceId,
+                                                                       String childId, String childWorkspaceId) {
+        return new ObjectiveAlignmentRepository.WorkspaceEdgeView() {
+            public String getParentId() { return parentId; }
+            public String getChildId() { return childId; }
+            public String getParentWorkspaceId() { return parentWorkspaceId; }
+            public String getChildWorkspaceId() { return childWorkspaceId; }
+        };
+    }
+}
@@ -0,0 +1,148 @@
+package org.phc.templatejavabe.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.phc.templatejavabe.domain.model.CheckIn;
+import org.phc.templatejavabe.domain.model.RecentCheckIn;
+import org.phc.templatejavabe.infrastructure.config.RecentCheckInProperties;
+
+class RecentCheckInBufferTest {
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<CheckIn> database = new ArrayList<>();
+    private RecentCheckInBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        RecentCheckInProperties props = new RecentCheckInProperties();
+        props.setCapacity(3);
+        props.setTtlMinutes(10);
+        buffer = new RecentCheckInBuffer(props, nanos::get);
+    }
+
+    @Test
+    void seedsOnceAndKeepsTheNewestWindow() {
+        database.add(checkIn("c1", 1));
+        database.add(checkIn("c2", 2));
+
+        assertThat(ids(buffer.recent("ws-1", 3, loader()))).containsExactly("c2", "c1");
+        buffer.onCreated("ws-1", checkIn("c3", 3));
+        buffer.onCreated("ws-1", checkIn("c4", 4));
+
+        assertThat(ids(buffer.recent("ws-1", 3, loader()))).containsExactly("c4", "c3", "c2");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void limitsAboveTheCapacityAreRejected() {
+        assertThatThrownBy(() -> buffer.recent("ws-1", 4, loader()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void checkInCommittedWhileSeedingIsNotLost() throws Exception {
+        CountDownLatch seeding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        database.add(checkIn("c1", 1));
+        CompletableFuture<List<RecentCheckIn>> reader = CompletableFuture.supplyAsync(() ->
+            buffer.recent("ws-1", 3, size -> {
+                // The seed query has read its snapshot; c2 commits before the feed is installed
+                List<CheckIn> snapshot = List.copyOf(database);
+                seeding.countDown();
+                await(release);
+                return snapshot;
+            }));
+        assertThat(seeding.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread writer = new Thread(() -> buffer.onCreated("ws-1", checkIn("c2", 2)));
+        writer.start();
+        waitUntilBlocked(writer);
+        release.countDown();
+        writer.join(5000);
+
+        assertThat(ids(reader.get(5, TimeUnit.SECONDS))).containsExactly("c1");
+        assertThat(ids(buffer.recent("ws-1", 3, loader()))).containsExactly("c2", "c1");
+    }
+
+    @Test
+    void feedIsReseededAfterTheTtlEvenWhileWritesKeepComing() {
+        buffer.recent("ws-1", 3, loader());
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(6));
+        buffer.onCreated("ws-1", checkIn("c1", 1));
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(6));
+
+        buffer.recent("ws-1", 3, loader());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void cascadeDeletesAndMovesDropTheAffectedFeeds() {
+        buffer.recent("ws-1", 3, loader());
+        buffer.recent("ws-2", 3, loader());
+        buffer.recent(null, 3, loader());
+
+        buffer.onMoved("ws-1", "ws-2");
+        buffer.recent("ws-1", 3, loader());
+        buffer.recent("ws-2", 3, loader());
+        buffer.recent(null, 3, loader());
+        assertThat(loads).hasValue(5);
+
+        buffer.onDeleted("ws-1");
+        buffer.recent("ws-1", 3, loader());
+        buffer.recent("ws-2", 3, loader());
+        buffer.recent(null, 3, loader());
+        assertThat(loads).hasValue(7);
+    }
+
+    private IntFunction<List<CheckIn>> loader() {
+        return size -> {
+            loads.incrementAndGet();
+            return List.copyOf(database);
+        };
+    }
+
+    private static List<String> ids(List<RecentCheckIn> entries) {
+        return entries.stream().map(RecentCheckIn::id).toList();
+    }
+
+    private static CheckIn checkIn(String id, long second) {
+        CheckIn c = new CheckIn();
+        c.setId(id);
+        c.setKeyResultId("kr-1");
+        c.setValue(BigDecimal.ONE);
+        c.setCreatedDate(Instant.ofEpochSecond(second));
+        return c;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntilBlocked(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.BLOCKED && thread.getState() != Thread.State.WAITING
+            && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(thread.getState()).isIn(Thread.State.BLOCKED, Thread.State.WAITING);
+    }
+}
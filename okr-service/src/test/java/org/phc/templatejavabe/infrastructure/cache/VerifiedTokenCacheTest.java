@@ -0,0 +1,101 @@
+package org.phc.templatejavabe.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.phc.templatejavabe.infrastructure.config.JwtProperties;
+import org.phc.templatejavabe.infrastructure.config.JwtUtil;
+
+class VerifiedTokenCacheTest {
+    private static final Instant NOW = Instant.parse("2026-10-17T10:00:00Z");
+
+    private JwtUtil jwtUtil;
+    private MutableClock clock;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = mock(JwtUtil.class);
+        clock = new MutableClock(NOW);
+        cache = new VerifiedTokenCache(jwtUtil, new JwtProperties(), clock);
+    }
+
+    @Test
+    void repeatedTokenIsVerifiedOnce() {
+        Claims claims = claims("user-1", NOW.plus(Duration.ofMinutes(15)));
+        when(jwtUtil.parseClaims("token-1")).thenReturn(claims);
+
+        assertThat(cache.verify("token-1")).isEqualTo("user-1");
+        assertThat(cache.verify("token-1")).isEqualTo("user-1");
+
+        verify(jwtUtil, times(1)).parseClaims("token-1");
+    }
+
+    @Test
+    void tokenPastItsExpiryIsVerifiedAgain() {
+        Claims claims = claims("user-1", NOW.plus(Duration.ofMinutes(15)));
+        when(jwtUtil.parseClaims("token-1")).thenReturn(claims);
+        cache.verify("token-1");
+
+        clock.now = NOW.plus(Duration.ofMinutes(16));
+        when(jwtUtil.parseClaims("token-1")).thenThrow(new ExpiredJwtException(null, null, "expired"));
+
+        assertThatThrownBy(() -> cache.verify("token-1")).isInstanceOf(ExpiredJwtException.class);
+        verify(jwtUtil, times(2)).parseClaims("token-1");
+    }
+
+    @Test
+    void tokenWithoutExpiryIsNotCached() {
+        Claims claims = claims("user-1", null);
+        when(jwtUtil.parseClaims("token-1")).thenReturn(claims);
+
+        cache.verify("token-1");
+        cache.verify("token-1");
+
+        verify(jwtUtil, times(2)).parseClaims("token-1");
+    }
+
+    private static Claims claims(String subject, Instant expiresAt) {
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn(subject);
+        when(claims.getExpiration()).thenReturn(expiresAt != null ? Date.from(expiresAt) : null);
+        return claims;
+    }
+
+    private static final class MutableClock extends Clock {
+        Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
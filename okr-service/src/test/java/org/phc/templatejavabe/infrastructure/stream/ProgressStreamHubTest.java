@@ -0,0 +1,203 @@
+package org.phc.templatejavabe.infrastructure.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.phc.templatejavabe.domain.model.ObjectiveProgress;
+import org.phc.templatejavabe.domain.model.ObjectiveStatus;
+import org.phc.templatejavabe.infrastructure.config.ProgressStreamProperties;
+import org.phc.templatejavabe.infrastructure.repository.ObjectiveRepository;
+
+class ProgressStreamHubTest {
+    private ObjectiveRepository objectiveRepository;
+    private ProgressStreamHub hub;
+    private final BlockingQueue<Object> sent = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        objectiveRepository = mock(ObjectiveRepository.class);
+        ProgressStreamProperties props = new ProgressStreamProperties();
+        // Flushes are driven by the test
+        props.setCoalesceMillis(TimeUnit.HOURS.toMillis(1));
+        props.setHeartbeatSeconds(TimeUnit.HOURS.toSeconds(1));
+        props.setBufferCapacity(2);
+        props.setMaxConnections(2);
+        props.setSenderThreads(1);
+        props.setSendTimeoutMillis(100);
+        hub = new ProgressStreamHub(objectiveRepository, props);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void changesInOneWindowGoOutTogetherAndUnchangedValuesAreSkipped() throws Exception {
+        hub.subscribe("ws-1", recording(new CountDownLatch(0)));
+        when(objectiveRepository.findProgressByIdIn(any())).thenReturn(List.of(
+            view("obj-1", "ws-1", "40.00", ObjectiveStatus.ON_TRACK),
+            view("obj-2", "ws-1", "10.00", ObjectiveStatus.AT_RISK),
+            view("obj-9", "ws-2", "90.00", ObjectiveStatus.ON_TRACK)));
+
+        hub.objectivesChanged(List.of("obj-1", "obj-2"));
+        hub.objectivesChanged(List.of("obj-1", "obj-9"));
+        hub.flush();
+
+        assertThat(sent.poll(5, TimeUnit.SECONDS)).asInstanceOf(InstanceOfAssertFactories.LIST)
+            .extracting("objectiveId").containsExactlyInAnyOrder("obj-1", "obj-2");
+
+        // Same values again (40.0 equals 40.00): nothing to push
+        when(objectiveRepository.findProgressByIdIn(any())).thenReturn(List.of(
+            view("obj-1", "ws-1", "40.0", ObjectiveStatus.ON_TRACK)));
+        hub.objectivesChanged(List.of("obj-1"));
+        hub.flush();
+
+        assertThat(sent.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void subscriberThatFallsBehindIsToldToResync() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        hub.subscribe("ws-1", recording(release));
+
+        when(objectiveRepository.findProgressByIdIn(any())).thenReturn(List.of(
+            view("obj-1", "ws-1", "10.00", ObjectiveStatus.AT_RISK)));
+        hub.objectivesChanged(List.of("obj-1"));
+        hub.flush();
+        assertThat(sent.poll(5, TimeUnit.SECONDS)).asInstanceOf(InstanceOfAssertFactories.LIST).hasSize(1);
+
+        // The first send is still blocked while three more objectives change
+        when(objectiveRepository.findProgressByIdIn(any())).thenReturn(List.of(
+            view("obj-2", "ws-1", "20.00", ObjectiveStatus.AT_RISK),
+            view("obj-3", "ws-1", "30.00", ObjectiveStatus.ON_TRACK),
+            view("obj-4", "ws-1", "40.00", ObjectiveStatus.ON_TRACK)));
+        hub.objectivesChanged(List.of("obj-2", "obj-3", "obj-4"));
+        hub.flush();
+        release.countDown();
+
+        assertThat(sent.poll(5, TimeUnit.SECONDS)).isEqualTo("resync");
+        assertThat(sent.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void subscriberThatStaysBehindAfterTheResyncIsClosed() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        hub.subscribe("ws-1", recording(release));
+        pushProgress("obj-1");
+        assertThat(sent.poll(5, TimeUnit.SECONDS)).asInstanceOf(InstanceOfAssertFactories.LIST).hasSize(1);
+
+        // Overflow once (resync pending), then overflow again before the resync could go out
+        pushProgress("obj-2", "obj-3", "obj-4");
+        pushProgress("obj-5", "obj-6", "obj-7");
+        assertThat(hub.connectionCount()).isZero();
+        release.countDown();
+
+        assertThat(sent.poll(5, TimeUnit.SECONDS)).isEqualTo("closed");
+    }
+
+    @Test
+    void stalledSendIsClosedWithoutStarvingOtherSubscribers() throws Exception {
+        // The only sender thread gets stuck on ws-1
+        CountDownLatch release = new CountDownLatch(1);
+        hub.subscribe("ws-1", recording(release));
+        pushProgress("obj-1");
+        assertThat(sent.poll(5, TimeUnit.SECONDS)).asInstanceOf(InstanceOfAssertFactories.LIST).hasSize(1);
+
+        Thread.sleep(150);
+        hub.expireStalledSends();
+        assertThat(hub.connectionCount()).isZero();
+
+        BlockingQueue<Object> other = new LinkedBlockingQueue<>();
+        hub.subscribe("ws-2", new Recorder(other, new CountDownLatch(0)));
+        when(objectiveRepository.findProgressByIdIn(any())).thenReturn(List.of(
+            view("obj-9", "ws-2", "90.00", ObjectiveStatus.ON_TRACK)));
+        hub.objectivesChanged(List.of("obj-9"));
+        hub.flush();
+        assertThat(other.poll(5, TimeUnit.SECONDS)).asInstanceOf(InstanceOfAssertFactories.LIST).hasSize(1);
+
+        // The stalled response is ended once its send finally returns
+        release.countDown();
+        assertThat(sent.poll(5, TimeUnit.SECONDS)).isEqualTo("closed");
+    }
+
+    @Test
+    void connectionsBeyondTheLimitAreRefused() {
+        ProgressStreamHub.Subscription first = hub.subscribe("ws-1", recording(new CountDownLatch(0))).orElseThrow();
+        hub.subscribe("ws-2", recording(new CountDownLatch(0))).orElseThrow();
+
+        assertThat(hub.subscribe("ws-1", recording(new CountDownLatch(0)))).isEmpty();
+
+        first.close();
+        first.close();
+        assertThat(hub.connectionCount()).isEqualTo(1);
+        assertThat(hub.subscribe("ws-1", recording(new CountDownLatch(0)))).isPresent();
+    }
+
+    private void pushProgress(String... objectiveIds) {
+        List<ObjectiveRepository.ProgressView> views = new ArrayList<>();
+        for (String objectiveId : objectiveIds) {
+            views.add(view(objectiveId, "ws-1", "10.00", ObjectiveStatus.AT_RISK));
+        }
+        when(objectiveRepository.findProgressByIdIn(any())).thenReturn(views);
+        hub.objectivesChanged(List.of(objectiveIds));
+        hub.flush();
+    }
+
+    private ProgressStreamHub.Listener recording(CountDownLatch release) {
+        return new Recorder(sent, release);
+    }
+
+    /**
+     * Records what is sent; each delta send then blocks until {@code release} opens
+     */
+    private record Recorder(BlockingQueue<Object> sent, CountDownLatch release) implements ProgressStreamHub.Listener {
+        @Override
+        public void onDeltas(List<ObjectiveProgress> deltas) {
+            sent.add(deltas);
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void onResync() {
+            sent.add("resync");
+        }
+
+        @Override
+        public void onHeartbeat() {
+            sent.add("heartbeat");
+        }
+
+        @Override
+        public void onClosed() {
+            sent.add("closed");
+        }
+    }
+
+    private static ObjectiveRepository.ProgressView view(String id, String workspaceId, String progress,
+                                                         ObjectiveStatus status) {
+        return new ObjectiveRepository.ProgressView() {
+            public String getId() { return id; }
+            public String getWorkspaceId() { return workspaceId; }
+            public BigDecimal getProgress() { return new BigDecimal(progress); }
+            public ObjectiveStatus getStatus() { return status; }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package org.phc.templatejavabe.presentation.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.phc.templatejavabe.domain.service.UserService;
+import org.phc.templatejavabe.infrastructure.config.GlobalExceptionHandler;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.server.ResponseStatusException;
+
+class AuthControllerTest {
+    private UserService userService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        userService = mock(UserService.class);
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.setUseCodeAsDefaultMessage(true);
+
+        AuthController controller = new AuthController(userService);
+        ReflectionTestUtils.setField(controller, "messageSource", messageSource);
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+        ReflectionTestUtils.setField(handler, "messageSource", messageSource);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).setControllerAdvice(handler).build();
+    }
+
+    @Test
+    void throttledLoginIsReportedAs429() throws Exception {
+        when(userService.login(any())).thenThrow(throttled());
+
+        mockMvc.perform(post("/auth/login").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"a@b.com\",\"password\":\"secret\"}"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(jsonPath("$.status").value(429));
+    }
+
+    @Test
+    void throttledRegisterIsReportedAs429() throws Exception {
+        when(userService.register(any())).thenThrow(throttled());
+
+        mockMvc.perform(post("/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"a@b.com\",\"password\":\"secret\",\"full_name\":\"A B\"}"))
+            .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void wrongCredentialsStay400() throws Exception {
+        when(userService.login(any())).thenThrow(new RuntimeException("Invalid credentials"));
+
+        mockMvc.perform(post("/auth/login").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"a@b.com\",\"password\":\"wrong\"}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private static ResponseStatusException throttled() {
+        return new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many sign-in attempts in progress, retry later");
+    }
+}
@@ -0,0 +1,69 @@
+package org.phc.templatejavabe.presentation.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.phc.templatejavabe.infrastructure.config.JwtUtil;
+import org.phc.templatejavabe.support.QueryBudget;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * SQL statement budgets of the read endpoints the home page and OKR list hit on every load.
+ *
+ * <p>Budgets do not depend on data volume, so an N+1 shows up as soon as a workspace has a few objectives.
+ * Needs the application database (DB_URL etc.) and a workspace member, e.g. from SyntheticDatasetGenerator:</p>
+ * <pre>
+ * mvn test -Dtest=EndpointQueryBudgetTest -Dbudget.workspace-id=... -Dbudget.user-id=... -Dbudget.quarter=2025-Q1
+ * </pre>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@EnabledIfSystemProperty(named = "budget.workspace-id", matches = ".+")
+class EndpointQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String workspaceId;
+    private String quarter;
+    private String bearer;
+
+    @BeforeEach
+    void setUp() {
+        workspaceId = System.getProperty("budget.workspace-id");
+        quarter = System.getProperty("budget.quarter", "2025-Q1");
+        bearer = "Bearer " + jwtUtil.generateAccessToken(System.getProperty("budget.user-id"));
+    }
+
+    @Test
+    void objectiveListStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/objectives").param("workspaceId", workspaceId).param("quarter", quarter)
+                .header("Authorization", bearer))
+            .andExpect(status().isOk())
+            .andExpect(QueryBudget.atMost(4));
+    }
+
+    @Test
+    void homeBootstrapStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/home/bootstrap").header("Authorization", bearer))
+            .andExpect(status().isOk())
+            .andExpect(QueryBudget.atMost(4));
+    }
+
+    @Test
+    void dashboardSummaryStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/dashboard/summary").param("quarter", quarter).param("workspaceId", workspaceId)
+                .header("Authorization", bearer))
+            .andExpect(status().isOk())
+            .andExpect(QueryBudget.atMost(1));
+    }
+}
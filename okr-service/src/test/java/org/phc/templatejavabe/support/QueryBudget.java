@@ -0,0 +1,68 @@
+package org.phc.templatejavabe.support;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import org.phc.templatejavabe.infrastructure.config.SqlRequestStats;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * Fails an integration test when an endpoint, or a block of code, runs more SQL statements than it declares.
+ *
+ * <pre>
+ * mockMvc.perform(get("/objectives").param("workspaceId", id).header("Authorization", bearer))
+ *     .andExpect(status().isOk())
+ *     .andExpect(QueryBudget.atMost(3));
+ *
+ * List&lt;Objective&gt; objectives = QueryBudget.atMost(2, () -&gt; objectiveService.findByWorkspace(id));
+ * </pre>
+ *
+ * <p>Counts come from the Hibernate hooks of SqlStatsConfig, so the test needs the Spring context.</p>
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    /**
+     * MockMvc expectation on the statements SqlStatsFilter collected for the request
+     */
+    public static ResultMatcher atMost(int statements) {
+        return result -> {
+            Object stats = result.getRequest().getAttribute(SqlRequestStats.REQUEST_ATTRIBUTE);
+            if (!(stats instanceof SqlRequestStats requestStats)) {
+                throw new AssertionError("No SQL stats on the request; is SqlStatsFilter part of the MockMvc filter chain?");
+            }
+            check(result.getRequest().getMethod() + " " + result.getRequest().getRequestURI(), requestStats, statements);
+        };
+    }
+
+    /**
+     * Run {@code work} on this thread and fail if it runs more than {@code statements} statements
+     */
+    public static <T> T atMost(int statements, Supplier<T> work) {
+        SqlRequestStats stats = SqlRequestStats.begin();
+        T result;
+        try {
+            result = work.get();
+        } finally {
+            SqlRequestStats.end();
+        }
+        check("Code block", stats, statements);
+        return result;
+    }
+
+    private static void check(String subject, SqlRequestStats stats, int budget) {
+        if (stats.statements() <= budget) {
+            return;
+        }
+        String repeated = stats.mostRepeated()
+            .filter(e -> e.getValue() > 1)
+            .map(QueryBudget::describe)
+            .orElse("");
+        throw new AssertionError(subject + " ran " + stats.statements() + " SQL statements, budget is " + budget + repeated);
+    }
+
+    private static String describe(Map.Entry<String, Integer> repeated) {
+        return "; most repeated (" + repeated.getValue() + "x): " + repeated.getKey();
+    }
+}
@@ -41,6 +41,12 @@ interface GroupInfo {
   avg_metrics_progress: number;
 }
 
+interface HomeBootstrap {
+  summary: HomeSummary;
+  personal_objectives: PersonalObjective[];
+  groups: GroupInfo[];
+}
+
 function HomeContent() {
   const { t } = useTranslation();
   const [summary, setSummary] = useState<HomeSummary | null>(null);
@@ -64,17 +70,11 @@ function HomeContent() {
       setLoading(true);
       setError(null);
       
-      // Load home summary data
-      const summaryData = await apiFetch<HomeSummary>('/home/summary');
-      setSummary(summaryData);
-      
-      // Load personal objectives
-      const objectivesData = await apiFetch<PersonalObjective[]>('/home/personal-objectives');
-      setPersonalObjectives(objectivesData);
-      
-      // Load group information
-      const groupsData = await apiFetch<GroupInfo[]>('/home/groups');
-      setGroups(groupsData);
+      // Summary, personal objectives and groups in one request
+      const data = await apiFetch<HomeBootstrap>('/home/bootstrap');
+      setSummary(data.summary);
+      setPersonalObjectives(data.personal_objectives);
+      setGroups(data.groups);
     } catch (e: any) {
       setError(e.message || 'Failed to load home data');
       if (e.message.includes('Authentication failed')) {
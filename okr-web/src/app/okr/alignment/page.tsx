@@ -2,6 +2,7 @@
 import { useEffect, useMemo, useState } from 'react';
 import { Layout } from '@/components/layout';
 import { WorkspaceRequired } from '@/components/WorkspaceRequired';
+import { useWorkspace } from '@/contexts/WorkspaceContext';
 import { apiFetch, clearTokens } from '@/lib/api';
 import { logout } from '@/lib/auth';
 import { formatQuarter } from '@/lib/date-utils';
@@ -25,7 +26,8 @@ type Objective = {
 type User = { id: string; full_name?: string; email?: string };
 type Team = { id: string; name?: string };
 
-export default function AlignmentPage() {
+function AlignmentContent() {
+  const { currentWorkspace } = useWorkspace();
   const [objectives, setObjectives] = useState<Objective[]>([]);
   const [users, setUsers] = useState<User[]>([]);
   const [teams, setTeams] = useState<Team[]>([]);
@@ -45,9 +47,11 @@ export default function AlignmentPage() {
       window.location.href = '/login';
       return;
     }
+    if (!currentWorkspace) return;
 
+    setLoading(true);
     Promise.all([
-      apiFetch<Objective[]>('/objectives'),
+      apiFetch<Objective[]>(`/objectives?workspaceId=${currentWorkspace.id}`),
       apiFetch<User[]>('/users').catch(() => [] as User[]),
       apiFetch<Team[]>('/teams').catch(() => [] as Team[]),
     ])
@@ -64,7 +68,7 @@ export default function AlignmentPage() {
         }
       })
       .finally(() => setLoading(false));
-  }, []);
+  }, [currentWorkspace?.id]);
 
   const filtered = useMemo(() => {
     return objectives
@@ -79,46 +83,30 @@ export default function AlignmentPage() {
   const ownerNameById = (id?: string) => users.find(u => u.id === id)?.full_name || users.find(u => u.id === id)?.email || '—';
   const teamNameById = (id?: string) => teams.find(t => t.id === id)?.name || '—';
 
-  const handleLogout = async () => {
-    try {
-      await logout();
-    } catch (error) {
-      console.warn('Logout failed:', error);
-    } finally {
-      clearTokens();
-      window.location.href = '/login';
-    }
-  };
-
   if (loading) {
     return (
-      <Layout onLogout={handleLogout}>
-        <div className="animate-pulse space-y-4">
-          <div className="h-10 bg-gray-200 rounded"></div>
-          <div className="h-12 bg-gray-200 rounded"></div>
-          <div className="space-y-2">
-            {[...Array(5)].map((_, i) => (
-              <div key={i} className="h-16 bg-gray-200 rounded"></div>
-            ))}
-          </div>
+      <div className="animate-pulse space-y-4">
+        <div className="h-10 bg-gray-200 rounded"></div>
+        <div className="h-12 bg-gray-200 rounded"></div>
+        <div className="space-y-2">
+          {[...Array(5)].map((_, i) => (
+            <div key={i} className="h-16 bg-gray-200 rounded"></div>
+          ))}
         </div>
-      </Layout>
+      </div>
     );
   }
 
   if (error) {
     return (
-      <Layout onLogout={handleLogout}>
-        <div className="bg-red-50 border border-red-200 text-red-600 px-4 py-3 rounded-lg">
-          {error}
-        </div>
-      </Layout>
+      <div className="bg-red-50 border border-red-200 text-red-600 px-4 py-3 rounded-lg">
+        {error}
+      </div>
     );
   }
 
   return (
-    <Layout onLogout={handleLogout}>
-      <div className="space-y-6">
+    <div className="space-y-6">
             {/* Toolbar filters */}
             <div className="bg-white border border-gray-200 rounded-xl p-4 flex flex-wrap items-center gap-3">
               <button className="flex items-center space-x-2 border border-gray-300 rounded-lg px-3 py-2 hover:bg-gray-50">
@@ -225,7 +213,27 @@ export default function AlignmentPage() {
                 teamNameById={teamNameById}
               />
             )}
-      </div>
+    </div>
+  );
+}
+
+export default function AlignmentPage() {
+  const handleLogout = async () => {
+    try {
+      await logout();
+    } catch (error) {
+      console.warn('Logout failed:', error);
+    } finally {
+      clearTokens();
+      window.location.href = '/login';
+    }
+  };
+
+  return (
+    <Layout onLogout={handleLogout}>
+      <WorkspaceRequired>
+        <AlignmentContent />
+      </WorkspaceRequired>
     </Layout>
   );
 }
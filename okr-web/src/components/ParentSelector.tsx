@@ -1,6 +1,7 @@
 "use client";
 import React, { useState, useEffect, useRef } from 'react';
 import { apiFetch } from '@/lib/api';
+import { useWorkspace } from '@/contexts/WorkspaceContext';
 
 interface Objective {
   id: string;
@@ -16,6 +17,7 @@ interface ParentSelectorProps {
 }
 
 export function ParentSelector({ value, onChange, currentObjectiveId }: ParentSelectorProps) {
+  const { currentWorkspace } = useWorkspace();
   const [isOpen, setIsOpen] = useState(false);
   const [searchQuery, setSearchQuery] = useState('');
   const [objectives, setObjectives] = useState<Objective[]>([]);
@@ -24,10 +26,11 @@ export function ParentSelector({ value, onChange, currentObjectiveId }: ParentSe
   const dropdownRef = useRef<HTMLDivElement>(null);
   const inputRef = useRef<HTMLInputElement>(null);
 
-  // Load objectives when component mounts
+  // Load objectives of the current workspace
   useEffect(() => {
     loadObjectives();
-  }, []);
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [currentWorkspace?.id]);
 
   // Load selected objective when value changes
   useEffect(() => {
@@ -54,9 +57,10 @@ export function ParentSelector({ value, onChange, currentObjectiveId }: ParentSe
   }, []);
 
   const loadObjectives = async () => {
+    if (!currentWorkspace) return;
     try {
       setLoading(true);
-      const data = await apiFetch<Objective[]>('/objectives');
+      const data = await apiFetch<Objective[]>(`/objectives?workspaceId=${currentWorkspace.id}`);
       // Filter out current objective to prevent self-parenting
       const filteredData = currentObjectiveId 
         ? data.filter(obj => obj.id !== currentObjectiveId)